@@ -1,6 +1,7 @@
 plugins {
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)  // ← AGREGAR
+    alias(libs.plugins.jmh)
     java
     application
 }
@@ -23,10 +24,30 @@ dependencies {
     implementation(libs.starter.web)
     implementation(libs.starter.data.jpa)
     implementation(libs.starter.validation)
+    implementation(libs.starter.cache)
+    implementation(libs.starter.actuator)
+    implementation(libs.starter.aop)
+
+    // Métricas: Prometheus + estadísticas de Hibernate
+    implementation(libs.micrometer.prometheus)
+    implementation(libs.hibernate.micrometer)
+
+    // Log de consultas lentas con parámetros
+    implementation(libs.datasource.proxy)
+
+    // Caché
+    implementation(libs.caffeine)
+    // Segundo nivel de Hibernate (JCache + Ehcache, variante jakarta)
+    implementation(libs.hibernate.jcache)
+    implementation(variantOf(libs.ehcache) { classifier("jakarta") })
 
     // Base de Datos
     runtimeOnly(libs.postgresql)
     testRuntimeOnly(libs.h2)
+
+    // Migraciones
+    implementation(libs.flyway.core)
+    runtimeOnly(libs.flyway.postgresql)
     
     // Lombok
     compileOnly(libs.java.lombok)
@@ -37,6 +58,12 @@ dependencies {
     // Testing
     testImplementation(libs.starter.test)
     testRuntimeOnly(libs.junit.platform.launcher)
+    testImplementation(libs.testcontainers.junit)
+    testImplementation(libs.testcontainers.postgresql)
+    testRuntimeOnly(libs.postgresql)
+
+    // ProjectionBenchmark arranca el contexto sobre H2 en memoria
+    jmhRuntimeOnly(libs.h2)
 }
 
 application {
@@ -44,7 +71,95 @@ application {
 }
 
 tasks.test {
-    useJUnitPlatform()
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
+}
+
+// Pruebas de rendimiento: ./gradlew :app:benchmarkTest
+val benchmarkTest by tasks.registering(Test::class) {
+    description = "Runs the tests tagged as benchmark."
+    group = "verification"
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    testLogging {
+        showStandardStreams = true
+    }
+}
+
+// Microbenchmarks JMH (src/jmh): ./gradlew :app:jmh
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+    // ./gradlew :app:jmh -Pjmh.includes=MapperBenchmark
+    providers.gradleProperty("jmh.includes").orNull?.let { includes.set(listOf(it)) }
+    // ./gradlew :app:jmh -Pjmh.profilers=gc  (asignaciones por operación: gc.alloc.rate.norm)
+    providers.gradleProperty("jmh.profilers").orNull?.let { profilers.set(it.split(",")) }
+}
+
+// El plugin guarda el Project en jmhJar y rompe la caché de configuración (gradle.properties la activa)
+tasks.named("jmhJar") {
+    notCompatibleWithConfigurationCache("me.champeau.jmh keeps a Project reference in jmhJar")
+}
+
+val jmhBaselineFile = layout.projectDirectory.file("src/jmh/baseline/results.json")
+
+// Guarda el último resultado como línea base versionada
+val jmhBaseline by tasks.registering(Copy::class) {
+    description = "Copies the latest JMH results to src/jmh/baseline."
+    group = "benchmark"
+    dependsOn(tasks.named("jmh"))
+    from(layout.buildDirectory.file("reports/jmh/results.json"))
+    into(layout.projectDirectory.dir("src/jmh/baseline"))
+}
+
+// Compara el último resultado contra la línea base; falla si algún benchmark empeora más del umbral
+val jmhCompare by tasks.registering {
+    description = "Compares the latest JMH results against the committed baseline."
+    group = "benchmark"
+    val threshold = providers.gradleProperty("jmh.regressionThreshold").map(String::toDouble).orElse(0.15)
+    val current = layout.buildDirectory.file("reports/jmh/results.json")
+    // Copia local: doLast no puede referenciar el script con la caché de configuración
+    val baseline = jmhBaselineFile
+    doLast {
+        val baselineFile = baseline.asFile
+        if (!baselineFile.exists()) {
+            throw GradleException("No JMH baseline at ${baselineFile}; run :app:jmhBaseline and commit it")
+        }
+        val currentFile = current.get().asFile
+        if (!currentFile.exists()) {
+            throw GradleException("No JMH results at ${currentFile}; run :app:jmh first")
+        }
+
+        fun scores(file: File): Map<String, Double> =
+            (groovy.json.JsonSlurper().parse(file) as List<*>).associate { entry ->
+                val run = entry as Map<*, *>
+                val params = (run["params"] as Map<*, *>?)?.entries?.joinToString(",") { "${it.key}=${it.value}" }
+                val key = run["benchmark"].toString() + (params?.let { "[$it]" } ?: "")
+                key to ((run["primaryMetric"] as Map<*, *>)["score"] as Number).toDouble()
+            }
+
+        val before = scores(baselineFile)
+        val after = scores(currentFile)
+        val regressions = after.filter { (key, score) ->
+            // AverageTime: un score mayor es peor
+            before[key]?.let { score > it * (1 + threshold.get()) } ?: false
+        }
+
+        after.forEach { (key, score) ->
+            val base = before[key]
+            val delta = base?.let { "%+.1f%%".format((score - it) / it * 100) } ?: "new"
+            logger.lifecycle("%-90s %12.3f %10s".format(key, score, delta))
+        }
+
+        if (regressions.isNotEmpty()) {
+            throw GradleException("JMH regressions over ${threshold.get() * 100}%: ${regressions.keys}")
+        }
+    }
 }
 
 tasks.bootJar {
@@ -0,0 +1,102 @@
+package org.bibliodigit.benchmark;
+
+import org.bibliodigit.domain.Author;
+import org.bibliodigit.domain.Book;
+import org.bibliodigit.domain.Category;
+import org.bibliodigit.domain.CopyStatus;
+import org.bibliodigit.domain.Loan;
+import org.bibliodigit.domain.LoanStatus;
+import org.bibliodigit.domain.Stock;
+import org.bibliodigit.domain.TypeUser;
+import org.bibliodigit.domain.User;
+import org.bibliodigit.repository.UserRepository;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+// Datos sintéticos con la forma de los del catálogo real (data.sql)
+final class BenchmarkFixtures {
+
+    private static final String[] AUTHORS = {
+        "Gabriel García Márquez", "Julio Cortázar", "Jorge Luis Borges", "Isabel Allende", "Juan Rulfo"
+    };
+
+    private static final String[] CATEGORIES = {
+        "Novela", "Cuento", "Ensayo", "Poesía", "Ciencia"
+    };
+
+    private BenchmarkFixtures() {
+    }
+
+    static List<Book> books(int count) {
+        List<Author> authors = new ArrayList<>();
+        for (int i = 0; i < AUTHORS.length; i++) {
+            authors.add(Author.builder().id((long) i + 1).name(AUTHORS[i]).nationality("Latinoamericana").build());
+        }
+
+        List<Category> categories = new ArrayList<>();
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            categories.add(Category.builder().id((long) i + 1).name(CATEGORIES[i])
+                .description("Libros de " + CATEGORIES[i].toLowerCase()).build());
+        }
+
+        List<Book> books = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            books.add(Book.builder()
+                .id((long) i + 1)
+                .title("Título de ejemplo número " + i)
+                .year(1950 + i % 70)
+                .author(authors.get(i % authors.size()))
+                .category(categories.get(i % categories.size()))
+                .build());
+        }
+        return books;
+    }
+
+    static User user(String type) {
+        return User.builder()
+            .id(42L)
+            .name("Usuario de prueba")
+            .email("usuario@bibliodigit.org")
+            .password("hash")
+            .typeUser(TypeUser.builder().id(1L).type(type).description(type).build())
+            .isActive(true)
+            .build();
+    }
+
+    // Solo responde a la consulta de versión de tokens; el resto de métodos no se usan en los benchmarks
+    static UserRepository userRepository(long tokenVersion) {
+        return (UserRepository) Proxy.newProxyInstance(
+            UserRepository.class.getClassLoader(),
+            new Class<?>[] {UserRepository.class},
+            (proxy, method, args) -> {
+                if (method.getName().equals("findTokenVersionById")) {
+                    return Optional.of(tokenVersion);
+                }
+                throw new UnsupportedOperationException(method.getName());
+            });
+    }
+
+    static Loan loan(Book book, User user) {
+        LocalDateTime departure = LocalDateTime.now().minusDays(20);
+        Stock copy = Stock.builder()
+            .id(book.getId())
+            .book(book)
+            .availability(false)
+            .status(CopyStatus.ON_LOAN)
+            .build();
+
+        return Loan.builder()
+            .id(book.getId())
+            .stock(copy)
+            .book(book)
+            .user(user)
+            .status(LoanStatus.ACTIVE)
+            .departureDate(departure)
+            .deliveryDate(departure.plusDays(15))
+            .build();
+    }
+}
@@ -0,0 +1,42 @@
+package org.bibliodigit.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.bibliodigit.api.dto.res.BookResponse;
+import org.bibliodigit.api.mapper.BookMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"20", "100", "1000"})
+    private int size;
+
+    // Configuración equivalente a la del ObjectMapper que registra Spring Boot
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private List<BookResponse> responses;
+
+    @Setup
+    public void setUp() {
+        BookMapper mapper = new BookMapper();
+        responses = BenchmarkFixtures.books(size).stream().map(mapper::toResponse).toList();
+    }
+
+    @Benchmark
+    public byte[] serializeBookResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+}
@@ -0,0 +1,48 @@
+package org.bibliodigit.benchmark;
+
+import org.bibliodigit.domain.User;
+import org.bibliodigit.domain.strategy.ExternalLoanValidator;
+import org.bibliodigit.domain.strategy.LoanValidationStrategy;
+import org.bibliodigit.domain.strategy.LoanValidatorFactory;
+import org.bibliodigit.domain.strategy.StudentLoanValidator;
+import org.bibliodigit.domain.strategy.TeacherLoanValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoanValidatorBenchmark {
+
+    @Param({"STUDENT", "TEACHER", "EXTERNAL"})
+    private String userType;
+
+    private LoanValidatorFactory factory;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        // Mismo mapa que arma Spring a partir de los nombres de los @Component
+        factory = new LoanValidatorFactory(Map.of(
+            "STUDENT", new StudentLoanValidator(),
+            "TEACHER", new TeacherLoanValidator(),
+            "EXTERNAL", new ExternalLoanValidator()
+        ));
+        user = BenchmarkFixtures.user(userType);
+    }
+
+    @Benchmark
+    public LoanValidationStrategy getValidator() {
+        return factory.getValidator(userType);
+    }
+
+    @Benchmark
+    public boolean getValidatorAndCheck() {
+        return factory.getValidator(user.getTypeUser().getType()).canBorrow(user, 2);
+    }
+}
@@ -0,0 +1,49 @@
+package org.bibliodigit.benchmark;
+
+import org.bibliodigit.api.dto.res.BookResponse;
+import org.bibliodigit.api.dto.res.LoanResponse;
+import org.bibliodigit.api.mapper.BookMapper;
+import org.bibliodigit.api.mapper.LoanMapper;
+import org.bibliodigit.domain.Book;
+import org.bibliodigit.domain.Loan;
+import org.bibliodigit.domain.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    // Tamaños típicos: una página (20), el máximo de página (100) y un listado completo
+    @Param({"20", "100", "1000"})
+    private int size;
+
+    private final BookMapper bookMapper = new BookMapper();
+    private final LoanMapper loanMapper = new LoanMapper();
+
+    private List<Book> books;
+    private List<Loan> loans;
+
+    @Setup
+    public void setUp() {
+        books = BenchmarkFixtures.books(size);
+        User user = BenchmarkFixtures.user("STUDENT");
+        loans = books.stream().map(book -> BenchmarkFixtures.loan(book, user)).toList();
+    }
+
+    @Benchmark
+    public List<BookResponse> bookToResponse() {
+        return books.stream().map(bookMapper::toResponse).toList();
+    }
+
+    @Benchmark
+    public List<LoanResponse> loanToResponse() {
+        return loans.stream().map(loanMapper::toResponse).toList();
+    }
+}
@@ -0,0 +1,42 @@
+package org.bibliodigit.benchmark;
+
+import org.bibliodigit.util.PasswordUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de PBKDF2 por número de iteraciones. Para ajustar auth.password.iterations se elige
+ * el valor más alto cuyo verifyPassword quede dentro del presupuesto de latencia del login
+ * (p. ej. 50-100 ms) en el hardware de producción.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordBenchmark {
+
+    private static final String PASSWORD = "Contraseña-Segura-2024";
+
+    @Param({"100000", "210000", "310000", "600000"})
+    private int iterations;
+
+    private String hashed;
+
+    @Setup
+    public void setUp() {
+        hashed = PasswordUtil.hashPassword(PASSWORD, iterations);
+    }
+
+    @Benchmark
+    public String hashPassword() {
+        return PasswordUtil.hashPassword(PASSWORD, iterations);
+    }
+
+    @Benchmark
+    public boolean verifyPassword() {
+        return PasswordUtil.verifyPassword(PASSWORD, hashed);
+    }
+}
@@ -0,0 +1,181 @@
+package org.bibliodigit.benchmark;
+
+import org.bibliodigit.App;
+import org.bibliodigit.api.dto.res.BookResponse;
+import org.bibliodigit.api.dto.res.LoanResponse;
+import org.bibliodigit.api.mapper.BookMapper;
+import org.bibliodigit.api.mapper.LoanMapper;
+import org.bibliodigit.domain.Author;
+import org.bibliodigit.domain.Book;
+import org.bibliodigit.domain.Category;
+import org.bibliodigit.domain.CopyStatus;
+import org.bibliodigit.domain.Loan;
+import org.bibliodigit.domain.LoanStatus;
+import org.bibliodigit.domain.Stock;
+import org.bibliodigit.domain.TypeUser;
+import org.bibliodigit.domain.User;
+import org.bibliodigit.repository.AuthorRepository;
+import org.bibliodigit.repository.BookRepository;
+import org.bibliodigit.repository.CategoryRepository;
+import org.bibliodigit.repository.LoanRepository;
+import org.bibliodigit.repository.StockRepository;
+import org.bibliodigit.repository.TypeUserRepository;
+import org.bibliodigit.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Ruta de lectura completa (consulta + mapeo) con entidades frente a proyecciones, sobre H2 en memoria.
+// Asignaciones por operación: ./gradlew :app:jmh -Pjmh.includes=ProjectionBenchmark -Pjmh.profilers=gc
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectionBenchmark {
+
+    @Param({"100", "1000"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnly;
+    private BookRepository bookRepository;
+    private LoanRepository loanRepository;
+    private BookMapper bookMapper;
+    private LoanMapper loanMapper;
+    private Long userId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Argumentos de línea de comandos: tienen prioridad sobre application.properties (PostgreSQL)
+        context = new SpringApplicationBuilder(App.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.datasource.url=jdbc:h2:mem:projection;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=YEAR",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--spring.flyway.enabled=false",
+                "--spring.sql.init.mode=never",
+                "--search.engine=memory",
+                "--loans.overdue.sweep-initial-delay=3600000",
+                "--loans.availability.reconcile-initial-delay=3600000",
+                "--loans.hold.sweep-initial-delay=3600000",
+                "--loans.partitions.maintain=false",
+                "--logging.level.org.bibliodigit=WARN",
+                "--logging.level.org.hibernate.SQL=WARN");
+
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        bookRepository = context.getBean(BookRepository.class);
+        loanRepository = context.getBean(LoanRepository.class);
+        bookMapper = context.getBean(BookMapper.class);
+        loanMapper = context.getBean(LoanMapper.class);
+
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BookResponse> booksFromEntities() {
+        return readOnly.execute(status -> bookRepository.findAll()
+            .stream()
+            .map(bookMapper::toResponse)
+            .toList());
+    }
+
+    @Benchmark
+    public List<BookResponse> booksFromProjection() {
+        return readOnly.execute(status -> bookRepository.findAllViews()
+            .stream()
+            .map(view -> bookMapper.toResponse(view, null))
+            .toList());
+    }
+
+    @Benchmark
+    public List<LoanResponse> loansFromEntities() {
+        return readOnly.execute(status -> loanRepository.findByUserId(userId)
+            .stream()
+            .map(loanMapper::toResponse)
+            .toList());
+    }
+
+    @Benchmark
+    public List<LoanResponse> loansFromProjection() {
+        return readOnly.execute(status -> loanRepository.findLoanViewsByUserId(userId)
+            .stream()
+            .map(loanMapper::toResponse)
+            .toList());
+    }
+
+    private void seed() {
+        List<Author> authors = context.getBean(AuthorRepository.class).saveAll(
+            BenchmarkFixtures.books(5).stream()
+                .map(book -> Author.builder().name(book.getAuthor().getName()).nationality("Latinoamericana").build())
+                .toList());
+
+        List<Category> categories = context.getBean(CategoryRepository.class).saveAll(
+            BenchmarkFixtures.books(5).stream()
+                .map(book -> Category.builder().name(book.getCategory().getName())
+                    .description(book.getCategory().getDescription()).build())
+                .toList());
+
+        TypeUser student = context.getBean(TypeUserRepository.class)
+            .save(TypeUser.builder().type("STUDENT").description("Estudiante").build());
+
+        User user = context.getBean(UserRepository.class).save(User.builder()
+            .name("Usuario de prueba")
+            .email("usuario@bibliodigit.org")
+            .password("hash")
+            .typeUser(student)
+            .isActive(true)
+            .build());
+        userId = user.getId();
+
+        List<Book> books = new ArrayList<>(size);
+        for (Book fixture : BenchmarkFixtures.books(size)) {
+            int i = books.size();
+            books.add(Book.builder()
+                .title(fixture.getTitle())
+                .year(fixture.getYear())
+                .author(authors.get(i % authors.size()))
+                .category(categories.get(i % categories.size()))
+                .build());
+        }
+        books = bookRepository.saveAll(books);
+
+        // Una copia prestada por libro: el historial del usuario tiene tantas filas como libros
+        List<Stock> copies = context.getBean(StockRepository.class).saveAll(books.stream()
+            .map(book -> Stock.builder().book(book).availability(false).status(CopyStatus.ON_LOAN).build())
+            .toList());
+
+        LocalDateTime departure = LocalDateTime.now().minusDays(20);
+        loanRepository.saveAll(copies.stream()
+            .map(copy -> Loan.builder()
+                .stock(copy)
+                .book(copy.getBook())
+                .user(user)
+                .status(LoanStatus.ACTIVE)
+                .departureDate(departure)
+                .deliveryDate(departure.plusDays(15))
+                .build())
+            .toList());
+    }
+}
@@ -0,0 +1,59 @@
+package org.bibliodigit.benchmark;
+
+import org.bibliodigit.config.ratelimit.RateLimitRule;
+import org.bibliodigit.config.ratelimit.RateLimiter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Coste por petición del limitador con 8 hilos: una clave para todos (un único CAS disputado)
+// frente a una clave por hilo, y el camino del 429. ./gradlew :app:jmh -Pjmh.includes=RateLimiterBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    private static final AtomicInteger CLIENTS = new AtomicInteger();
+
+    // Nunca se agota: mide el camino que concede
+    private RateLimiter generous;
+    // Agotado tras la primera petición: mide el camino que rechaza
+    private RateLimiter strict;
+
+    @State(Scope.Thread)
+    public static class Client {
+
+        private String key;
+
+        @Setup
+        public void setUp() {
+            key = "ip:10.0.0." + CLIENTS.incrementAndGet();
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        generous = new RateLimiter(RateLimitRule.limit("/**", "1000000000/1s"), 100_000);
+        strict = new RateLimiter(RateLimitRule.limit("/**", "1/1h"), 100_000);
+    }
+
+    @Benchmark
+    public long sharedKey() {
+        return generous.tryAcquire("ip:10.0.0.0", System.nanoTime());
+    }
+
+    @Benchmark
+    public long keyPerThread(Client client) {
+        return generous.tryAcquire(client.key, System.nanoTime());
+    }
+
+    @Benchmark
+    public long rejected(Client client) {
+        return strict.tryAcquire(client.key, System.nanoTime());
+    }
+}
@@ -0,0 +1,52 @@
+package org.bibliodigit.benchmark;
+
+import org.bibliodigit.domain.AuthPrincipal;
+import org.bibliodigit.domain.User;
+import org.bibliodigit.security.SignedTokenStrategy;
+import org.bibliodigit.security.TokenVersions;
+import org.bibliodigit.util.TokenUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenBenchmark {
+
+    private static final long EXPIRATION_MS = 86_400_000L;
+    private static final String SECRET = "benchmark-secret-with-at-least-32-bytes!";
+
+    private SignedTokenStrategy signedTokens;
+    private User user;
+    private String signedToken;
+
+    @Setup
+    public void setUp() {
+        // La versión se lee una vez y queda en caché: se mide la validación sin BD
+        TokenVersions versions = new TokenVersions(BenchmarkFixtures.userRepository(0L), Duration.ofHours(1), 1000);
+        signedTokens = new SignedTokenStrategy(SECRET, EXPIRATION_MS, versions);
+        user = BenchmarkFixtures.user("TEACHER");
+        signedToken = signedTokens.issue(user);
+    }
+
+    @Benchmark
+    public String generateOpaqueToken() {
+        return TokenUtil.generateToken();
+    }
+
+    @Benchmark
+    public String issueSignedToken() {
+        return signedTokens.issue(user);
+    }
+
+    @Benchmark
+    public Optional<AuthPrincipal> authenticateSignedToken() {
+        return signedTokens.authenticate(signedToken);
+    }
+}
@@ -7,8 +7,11 @@ import org.bibliodigit.api.dto.req.LoginRequest;
 import org.bibliodigit.api.dto.req.RegisterRequest;
 import org.bibliodigit.api.dto.res.AuthResponse;
 import org.bibliodigit.api.mapper.AuthMapper;  
-import org.bibliodigit.domain.User;
+import org.bibliodigit.domain.AuthSession;
 import org.bibliodigit.domain.port.UserService;
+import org.bibliodigit.security.PasswordHashingRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -27,12 +30,15 @@ public class AuthController {
         log.debug("Login attempt for email: {}", request.getEmail());
 
         try {
-            User user = userService.login(request.getEmail(), request.getPassword());
+            AuthSession session = userService.login(request.getEmail(), request.getPassword());
             
-            AuthResponse response = authMapper.toAuthResponse(user);
+            AuthResponse response = authMapper.toAuthResponse(session);
 
-            log.debug("Login successful for user: {}", user.getEmail());
+            log.debug("Login successful for user: {}", session.getUser().getEmail());
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingRejectedException e) {
+            log.warn("Login rejected: {}", e.getMessage());
+            return serviceUnavailable();
         } catch (RuntimeException e) {
             log.error("Login failed: {}", e.getMessage());
             return ResponseEntity.badRequest().build();
@@ -45,17 +51,20 @@ public class AuthController {
         log.debug("Registration attempt for email: {}", request.getEmail());
 
         try {
-            User user = userService.register(
+            AuthSession session = userService.register(
                 request.getName(),
                 request.getEmail(),
                 request.getPassword(),
                 request.getTypeUserId()
             );
 
-            AuthResponse response = authMapper.toAuthResponse(user);
+            AuthResponse response = authMapper.toAuthResponse(session);
 
-            log.debug("Registration successful for user: {}", user.getEmail());
+            log.debug("Registration successful for user: {}", session.getUser().getEmail());
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingRejectedException e) {
+            log.warn("Registration rejected: {}", e.getMessage());
+            return serviceUnavailable();
         } catch (RuntimeException e) {
             log.error("Registration failed: {}", e.getMessage());
             return ResponseEntity.badRequest().build();
@@ -74,4 +83,12 @@ public class AuthController {
 
         return ResponseEntity.noContent().build();
     }
+
+
+    // Backpressure del pool de hashing: el cliente puede reintentar en un momento
+    private ResponseEntity<AuthResponse> serviceUnavailable() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .build();
+    }
 }
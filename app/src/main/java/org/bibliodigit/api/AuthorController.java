@@ -7,16 +7,22 @@ import jakarta.validation.Valid;
 import org.bibliodigit.api.dto.req.AuthorRequest;
 import org.bibliodigit.api.dto.res.AuthorResponse;
 import org.bibliodigit.api.mapper.AuthorMapper;
+import org.bibliodigit.config.HttpCachePolicy;
 import org.bibliodigit.domain.Author;
 import org.bibliodigit.domain.port.AuthorService;
+import org.bibliodigit.util.EtagUtil;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import org.bibliodigit.security.RequireRole;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 
 @Slf4j
@@ -27,6 +33,7 @@ public class AuthorController {
 
     private final AuthorService authorService;
     private final AuthorMapper mapper;
+    private final HttpCachePolicy cachePolicy;
 
     // ========== BASIC CRUD OPERATIONS ==========
 
@@ -46,27 +53,38 @@ public class AuthorController {
     }
 
     @GetMapping
-    public ResponseEntity<List<AuthorResponse>> getAllAuthors() {
+    public ResponseEntity<List<AuthorResponse>> getAllAuthors(WebRequest webRequest) {
         log.debug("Getting all authors");
 
-        List<AuthorResponse> responses = authorService.findAll()
-            .stream()
-            .map(mapper::toResponse)
-            .collect(Collectors.toList());
+        List<Author> authors = authorService.findAll();
 
-        return responses.isEmpty()
+        return authors.isEmpty()
             ? ResponseEntity.noContent().build()
-            : ResponseEntity.ok(responses);
+            : conditional(authors, webRequest);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<AuthorResponse> getAuthorById(@PathVariable Long id) {
+    public ResponseEntity<AuthorResponse> getAuthorById(@PathVariable Long id, WebRequest webRequest) {
         log.debug("Getting author by id: {}", id);
 
-        return authorService.findById(id)
-            .map(mapper::toResponse)
-            .map(ResponseEntity::ok)
-            .orElse(ResponseEntity.notFound().build());
+        Optional<Author> found = authorService.findById(id);
+
+        if (found.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        Author author = found.get();
+        String etag = EtagUtil.of(author.getId(), author.getVersion());
+
+        // checkNotModified también escribe ETag y Last-Modified en la respuesta
+        if (webRequest.checkNotModified(etag, toEpochMilli(author.getUpdatedAt()))) {
+            return notModified(etag);
+        }
+
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(cachePolicy.authors())
+            .body(mapper.toResponse(author));
     }
 
     @PutMapping("/{id}")
@@ -108,29 +126,52 @@ public class AuthorController {
 
     @GetMapping("/search")
     public ResponseEntity<List<AuthorResponse>> findByNationality(
-            @RequestParam String nationality) {
+            @RequestParam String nationality,
+            WebRequest webRequest) {
 
         log.debug("GET /api/authors/search?nationality={}", nationality);
 
-        List<AuthorResponse> results =
-                authorService.findByNationality(nationality)
-                        .stream()
-                        .map(mapper::toResponse)
-                        .toList();
-
-        return ResponseEntity.ok(results);
+        return conditional(authorService.findByNationality(nationality), webRequest);
     }
 
     @GetMapping("/with-books")
-    public ResponseEntity<List<AuthorResponse>> findAuthorsWithBooks() {
+    public ResponseEntity<List<AuthorResponse>> findAuthorsWithBooks(WebRequest webRequest) {
         log.debug("GET /api/authors/with-books");
 
-        List<AuthorResponse> results =
-                authorService.findByAuthorsIsNotEmpty()
-                        .stream()
-                        .map(mapper::toResponse)
-                        .toList();
+        return conditional(authorService.findByAuthorsIsNotEmpty(), webRequest);
+    }
+
+    // El listado solo cambia si cambia el conjunto de autores o la versión de alguno
+    private ResponseEntity<List<AuthorResponse>> conditional(List<Author> authors, WebRequest webRequest) {
+        List<Object> parts = new ArrayList<>(authors.size() * 2);
+
+        for (Author author : authors) {
+            parts.add(author.getId());
+            parts.add(author.getVersion());
+        }
+
+        String etag = EtagUtil.of(parts);
+
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(cachePolicy.authors())
+            .body(authors.stream().map(mapper::toResponse).toList());
+    }
+
+    private <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+            .eTag(etag)
+            .cacheControl(cachePolicy.authors())
+            .build();
+    }
 
-        return ResponseEntity.ok(results);
+    private static long toEpochMilli(LocalDateTime updatedAt) {
+        return updatedAt != null
+            ? updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+            : -1;
     }
 }
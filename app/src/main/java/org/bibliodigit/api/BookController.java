@@ -5,17 +5,27 @@ import lombok.extern.slf4j.Slf4j;
 import jakarta.validation.Valid;
 
 import org.bibliodigit.api.dto.req.BookRequest;
+import org.bibliodigit.api.dto.res.BookPageResponse;
 import org.bibliodigit.api.dto.res.BookResponse;
 import org.bibliodigit.api.mapper.BookMapper;
+import org.bibliodigit.config.HttpCachePolicy;
 import org.bibliodigit.domain.Book;
+import org.bibliodigit.domain.BookAvailability;
+import org.bibliodigit.domain.BookPage;
+import org.bibliodigit.domain.BookView;
 import org.bibliodigit.domain.port.BookService;
+import org.bibliodigit.util.EtagUtil;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import org.bibliodigit.security.RequireRole;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,6 +36,7 @@ public class BookController {
 
     private final BookService bookService;
     private final BookMapper mapper;
+    private final HttpCachePolicy cachePolicy;
 
     // ========== BASIC CRUD OPERATIONS ==========
 
@@ -43,31 +54,72 @@ public class BookController {
         
         return ResponseEntity
             .status(HttpStatus.CREATED)
-            .body(mapper.toResponse(created));
+            .body(toResponse(created));
     }
 
     @GetMapping
-    public ResponseEntity<List<BookResponse>> getAllBooks() {
+    public ResponseEntity<List<BookResponse>> getAllBooks(WebRequest webRequest) {
         log.debug("Getting all books");
         
-        List<BookResponse> responses = bookService.findAll()
-            .stream()
-            .map(mapper::toResponse)
-            .collect(Collectors.toList());
+        return conditional(bookService.findAll(), webRequest);
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<BookPageResponse> getBooksPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest) {
+
+        log.debug("Getting books page, cursor: {} size: {}", cursor, size);
 
-        return responses.isEmpty()
-            ? ResponseEntity.noContent().build()
-            : ResponseEntity.ok(responses);
+        try {
+            BookPage page = bookService.findPage(cursor, size);
+
+            Map<Long, BookAvailability> availability = findAvailability(page.getBooks());
+            String etag = etag(page.getBooks(), availability, page.getNextCursor());
+
+            if (webRequest.checkNotModified(etag)) {
+                return notModified(etag);
+            }
+
+            List<BookResponse> items = toResponses(page.getBooks(), availability);
+
+            return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cachePolicy.books())
+                .body(BookPageResponse.builder()
+                    .items(items)
+                    .nextCursor(page.getNextCursor())
+                    .hasNext(page.hasNext())
+                    .build());
+        } catch (IllegalArgumentException e) {
+            log.error("Error getting books page: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<BookResponse> getBookById(@PathVariable Long id) {
+    public ResponseEntity<BookResponse> getBookById(@PathVariable Long id, WebRequest webRequest) {
         log.debug("Getting book by id: {}", id);
         
-        return bookService.findById(id)
-            .map(mapper::toResponse)
-            .map(ResponseEntity::ok)
-            .orElse(ResponseEntity.notFound().build());
+        Optional<BookView> found = bookService.findById(id);
+
+        if (found.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        BookView book = found.get();
+        Map<Long, BookAvailability> availability = findAvailability(List.of(book));
+        String etag = etag(List.of(book), availability);
+
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(cachePolicy.books())
+            .body(mapper.toResponse(book, availability.get(book.id())));
     }
 
     @PutMapping("/{id}")
@@ -82,7 +134,7 @@ public class BookController {
             Book bookToUpdate = mapper.toDomain(request);
             Book updated = bookService.update(id, bookToUpdate);
             
-            return ResponseEntity.ok(mapper.toResponse(updated));
+            return ResponseEntity.ok(toResponse(updated));
         } catch (RuntimeException e) {
             log.error("Error updating book: {}", e.getMessage());
             return ResponseEntity.notFound().build();
@@ -105,118 +157,87 @@ public class BookController {
 
     // ========== ADVANCED SEARCHES ==========
 
+    @GetMapping("/search")
+    public ResponseEntity<List<BookResponse>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest) {
+
+        log.debug("Full-text search for books: {}", q);
+
+        return conditional(bookService.search(q, limit), webRequest);
+    }
+
     @GetMapping("/search/title")
     public ResponseEntity<List<BookResponse>> searchByTitle(
-            @RequestParam String keyword) {
+            @RequestParam String keyword,
+            WebRequest webRequest) {
         
         log.debug("Searching books by title: {}", keyword);
         
-        List<BookResponse> responses = bookService.findByTitleContaining(keyword)
-            .stream()
-            .map(mapper::toResponse)
-            .collect(Collectors.toList());
-
-        return responses.isEmpty()
-            ? ResponseEntity.noContent().build()
-            : ResponseEntity.ok(responses);
+        return conditional(bookService.findByTitleContaining(keyword), webRequest);
     }
 
     @GetMapping("/author/{authorId}")
     public ResponseEntity<List<BookResponse>> getBooksByAuthorId(
-            @PathVariable Long authorId) {
+            @PathVariable Long authorId,
+            WebRequest webRequest) {
         
         log.debug("Getting books by authorId: {}", authorId);
         
-        List<BookResponse> responses = bookService.findByAuthorId(authorId)
-            .stream()
-            .map(mapper::toResponse)
-            .collect(Collectors.toList());
-
-        return responses.isEmpty()
-            ? ResponseEntity.noContent().build()
-            : ResponseEntity.ok(responses);
+        return conditional(bookService.findByAuthorId(authorId), webRequest);
     }
 
     @GetMapping("/search/author")
     public ResponseEntity<List<BookResponse>> searchByAuthorName(
-            @RequestParam String name) {
+            @RequestParam String name,
+            WebRequest webRequest) {
         
         log.debug("Searching books by author name: {}", name);
         
-        List<BookResponse> responses = bookService.findByAuthorName(name)
-            .stream()
-            .map(mapper::toResponse)
-            .collect(Collectors.toList());
-
-        return responses.isEmpty()
-            ? ResponseEntity.noContent().build()
-            : ResponseEntity.ok(responses);
+        return conditional(bookService.findByAuthorName(name), webRequest);
     }
 
     @GetMapping("/category/{categoryId}")
     public ResponseEntity<List<BookResponse>> getBooksByCategoryId(
-            @PathVariable Long categoryId) {
+            @PathVariable Long categoryId,
+            WebRequest webRequest) {
         
         log.debug("Getting books by categoryId: {}", categoryId);
         
-        List<BookResponse> responses = bookService.findByCategoryId(categoryId)
-            .stream()
-            .map(mapper::toResponse)
-            .collect(Collectors.toList());
-
-        return responses.isEmpty()
-            ? ResponseEntity.noContent().build()
-            : ResponseEntity.ok(responses);
+        return conditional(bookService.findByCategoryId(categoryId), webRequest);
     }
 
     @GetMapping("/search/category")
     public ResponseEntity<List<BookResponse>> searchByCategoryName(
-            @RequestParam String name) {
+            @RequestParam String name,
+            WebRequest webRequest) {
         
         log.debug("Searching books by category name: {}", name);
         
-        List<BookResponse> responses = bookService.findByCategoryName(name)
-            .stream()
-            .map(mapper::toResponse)
-            .collect(Collectors.toList());
-
-        return responses.isEmpty()
-            ? ResponseEntity.noContent().build()
-            : ResponseEntity.ok(responses);
+        return conditional(bookService.findByCategoryName(name), webRequest);
     }
 
 
     @GetMapping("/year/{year}")
     public ResponseEntity<List<BookResponse>> getBooksByYear(
-            @PathVariable Integer year) {
+            @PathVariable Integer year,
+            WebRequest webRequest) {
         
         log.debug("Getting books by year: {}", year);
         
-        List<BookResponse> responses = bookService.findByYear(year)
-            .stream()
-            .map(mapper::toResponse)
-            .collect(Collectors.toList());
-
-        return responses.isEmpty()
-            ? ResponseEntity.noContent().build()
-            : ResponseEntity.ok(responses);
+        return conditional(bookService.findByYear(year), webRequest);
     }
 
     @GetMapping("/year-range")
     public ResponseEntity<List<BookResponse>> getBooksByYearRange(
             @RequestParam Integer start,
-            @RequestParam Integer end) {
+            @RequestParam Integer end,
+            WebRequest webRequest) {
         
         log.debug("Getting books between {} and {}", start, end);
         
-        List<BookResponse> responses = bookService.findByYearBetween(start, end)
-            .stream()
-            .map(mapper::toResponse)
-            .collect(Collectors.toList());
-
-        return responses.isEmpty()
-            ? ResponseEntity.noContent().build()
-            : ResponseEntity.ok(responses);
+        return conditional(bookService.findByYearBetween(start, end), webRequest);
     }
 
     // ========== STATISTICS ==========
@@ -241,4 +262,68 @@ public class BookController {
         boolean exists = bookService.existsByTitle(title);
         return ResponseEntity.ok(exists);
     }
+
+    // El ETag se compara antes de mapear y serializar: un 304 solo cuesta la consulta y la disponibilidad
+    private ResponseEntity<List<BookResponse>> conditional(List<BookView> books, WebRequest webRequest) {
+        if (books.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+
+        Map<Long, BookAvailability> availability = findAvailability(books);
+        String etag = etag(books, availability);
+
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(cachePolicy.books())
+            .body(toResponses(books, availability));
+    }
+
+    private <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+            .eTag(etag)
+            .cacheControl(cachePolicy.books())
+            .build();
+    }
+
+    // La respuesta incluye autor, categoría y contadores de copias: todos forman parte del ETag
+    private String etag(List<BookView> books, Map<Long, BookAvailability> availability, Object... extra) {
+        List<Object> parts = new ArrayList<>(books.size() * 8 + extra.length);
+
+        for (BookView book : books) {
+            parts.add(book.id());
+            parts.add(book.version());
+            parts.add(book.authorVersion());
+            parts.add(book.categoryVersion());
+
+            BookAvailability counts = availability.get(book.id());
+            parts.add(counts != null ? counts.getTotalCopies() : 0);
+            parts.add(counts != null ? counts.getAvailableCopies() : 0);
+            parts.add(counts != null ? counts.getOnLoanCopies() : 0);
+            parts.add(counts != null ? counts.getOverdueCopies() : 0);
+        }
+
+        parts.addAll(List.of(extra));
+        return EtagUtil.of(parts);
+    }
+
+    // Una sola consulta de disponibilidad por listado, en lugar de un conteo sobre stock por libro
+    private Map<Long, BookAvailability> findAvailability(List<BookView> books) {
+        return bookService.findAvailability(books.stream().map(BookView::id).toList());
+    }
+
+    private List<BookResponse> toResponses(List<BookView> books, Map<Long, BookAvailability> availability) {
+        return books.stream()
+            .map(book -> mapper.toResponse(book, availability.get(book.id())))
+            .collect(Collectors.toList());
+    }
+
+    // Respuesta de escrituras: la entidad recién guardada ya está en memoria
+    private BookResponse toResponse(Book book) {
+        Map<Long, BookAvailability> availability = bookService.findAvailability(List.of(book.getId()));
+        return mapper.toResponse(book, availability.get(book.getId()));
+    }
 }
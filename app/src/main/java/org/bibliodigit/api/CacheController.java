@@ -0,0 +1,42 @@
+package org.bibliodigit.api;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bibliodigit.api.dto.res.CacheStatsResponse;
+import org.bibliodigit.application.cache.CatalogCache;
+import org.bibliodigit.security.RequireRole;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+public class CacheController {
+
+    private final CatalogCache catalogCache;
+
+    @GetMapping("/stats")
+    @RequireRole("ADMIN")
+    public ResponseEntity<List<CacheStatsResponse>> getStats() {
+        log.debug("Getting catalog cache stats");
+
+        List<CacheStatsResponse> responses = catalogCache.stats()
+            .entrySet()
+            .stream()
+            .map(entry -> CacheStatsResponse.builder()
+                .name(entry.getKey())
+                .hitCount(entry.getValue().hitCount())
+                .missCount(entry.getValue().missCount())
+                .hitRate(entry.getValue().hitRate())
+                .evictionCount(entry.getValue().evictionCount())
+                .build())
+            .toList();
+
+        return ResponseEntity.ok(responses);
+    }
+}
@@ -7,16 +7,22 @@ import jakarta.validation.Valid;
 import org.bibliodigit.api.dto.req.CategoryRequest;
 import org.bibliodigit.api.dto.res.CategoryResponse;
 import org.bibliodigit.api.mapper.CategoryMapper;
+import org.bibliodigit.config.HttpCachePolicy;
 import org.bibliodigit.domain.Category;
 import org.bibliodigit.domain.port.CategoryService;
+import org.bibliodigit.util.EtagUtil;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import org.bibliodigit.security.RequireRole;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 
 @Slf4j
@@ -27,6 +33,7 @@ public class CategoryController {
 
     private final CategoryService categoryService;
     private final CategoryMapper mapper;
+    private final HttpCachePolicy cachePolicy;
 
     // ========== BASIC CRUD OPERATIONS ==========
 
@@ -46,27 +53,37 @@ public class CategoryController {
     }
 
     @GetMapping
-    public ResponseEntity<List<CategoryResponse>> getAllCategories() {
+    public ResponseEntity<List<CategoryResponse>> getAllCategories(WebRequest webRequest) {
         log.debug("Getting all categories");
 
-        List<CategoryResponse> responses = categoryService.findAll()
-                .stream()
-                .map(mapper::toResponse)
-                .toList();
+        List<Category> categories = categoryService.findAll();
 
-        return responses.isEmpty()
+        return categories.isEmpty()
                 ? ResponseEntity.noContent().build()
-                : ResponseEntity.ok(responses);
+                : conditional(categories, webRequest);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<CategoryResponse> getCategoryById(@PathVariable Long id) {
+    public ResponseEntity<CategoryResponse> getCategoryById(@PathVariable Long id, WebRequest webRequest) {
         log.debug("Getting category by id: {}", id);
 
-        return categoryService.findById(id)
-                .map(mapper::toResponse)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+        Optional<Category> found = categoryService.findById(id);
+
+        if (found.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        Category category = found.get();
+        String etag = EtagUtil.of(category.getId(), category.getVersion());
+
+        if (webRequest.checkNotModified(etag, toEpochMilli(category.getUpdatedAt()))) {
+            return notModified(etag);
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cachePolicy.categories())
+                .body(mapper.toResponse(category));
     }
 
     @PutMapping("/{id}")
@@ -110,17 +127,47 @@ public class CategoryController {
 
     @GetMapping("/search")
     @RequireRole("ADMIN")
-    public ResponseEntity<List<CategoryResponse>> findByName(@RequestParam String name) {
+    public ResponseEntity<List<CategoryResponse>> findByName(@RequestParam String name, WebRequest webRequest) {
 
         log.debug("Searching categories by name: {}", name);
 
-        List<CategoryResponse> results = categoryService.findByName(name)
-                .stream()
-                .map(mapper::toResponse)
-                .toList();
+        List<Category> results = categoryService.findByName(name).stream().toList();
 
         return results.isEmpty()
                 ? ResponseEntity.noContent().build()
-                : ResponseEntity.ok(results);
+                : conditional(results, webRequest);
+    }
+
+    private ResponseEntity<List<CategoryResponse>> conditional(List<Category> categories, WebRequest webRequest) {
+        List<Object> parts = new ArrayList<>(categories.size() * 2);
+
+        for (Category category : categories) {
+            parts.add(category.getId());
+            parts.add(category.getVersion());
+        }
+
+        String etag = EtagUtil.of(parts);
+
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cachePolicy.categories())
+                .body(categories.stream().map(mapper::toResponse).toList());
+    }
+
+    private <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(cachePolicy.categories())
+                .build();
+    }
+
+    private static long toEpochMilli(LocalDateTime updatedAt) {
+        return updatedAt != null
+                ? updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1;
     }
 }
@@ -0,0 +1,69 @@
+package org.bibliodigit.api;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bibliodigit.application.export.CatalogExporter;
+import org.bibliodigit.application.export.ExportFormat;
+import org.bibliodigit.security.RequireRole;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+// Descargas completas escritas directamente sobre la respuesta, sin construir la lista en memoria
+@Slf4j
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final CatalogExporter exporter;
+
+    @GetMapping("/books")
+    @RequireRole("ADMIN")
+    public void exportBooks(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) throws IOException {
+
+        log.debug("Exporting books as {} (gzip: {})", format, gzip);
+
+        try (OutputStream output = open(response, "books", format, gzip)) {
+            exporter.exportBooks(format, output);
+        }
+    }
+
+    @GetMapping("/loans")
+    @RequireRole("ADMIN")
+    public void exportLoans(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) Long userId,
+            HttpServletResponse response) throws IOException {
+
+        log.debug("Exporting loans as {} (gzip: {}, userId: {})", format, gzip, userId);
+
+        try (OutputStream output = open(response, "loans", format, gzip)) {
+            exporter.exportLoans(format, userId, output);
+        }
+    }
+
+    private OutputStream open(HttpServletResponse response, String name, ExportFormat format, boolean gzip)
+            throws IOException {
+
+        String fileName = name + "." + format.getExtension() + (gzip ? ".gz" : "");
+
+        response.setContentType(gzip ? "application/gzip" : format.getContentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+
+        // Sin Content-Length: la respuesta sale en chunks a medida que se recorre el cursor
+        OutputStream output = response.getOutputStream();
+        return gzip ? new GZIPOutputStream(output, 64 * 1024) : output;
+    }
+}
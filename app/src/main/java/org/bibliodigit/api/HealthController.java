@@ -1,5 +1,10 @@
 package org.bibliodigit.api;
 
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.HealthComponent;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -9,19 +14,30 @@ import java.util.Map;
 
 @RestController
 @RequestMapping("/api")
+@RequiredArgsConstructor
 public class HealthController {
 
+    private final HealthEndpoint healthEndpoint;
+
     @GetMapping("/hello")
     public ResponseEntity<Map<String, String>> hello() {
         return ResponseEntity.ok(Map.of("message", "Hello World!!"));
     }
     
+    // Resumen público del indicador "db" de Actuator (valida una conexión del pool);
+    // el detalle completo está en /actuator/health del puerto de gestión
     @GetMapping("/health")
     public ResponseEntity<Map<String, Object>> health() {
-        return ResponseEntity.ok(Map.of(
-            "status", "UP",
-            "service", "BiblioDigit API",
-            "version", "1.0.2"
-        ));
+        HealthComponent db = healthEndpoint.healthForPath("db");
+        Status status = db != null ? db.getStatus() : Status.UNKNOWN;
+
+        return ResponseEntity
+            .status(Status.UP.equals(status) ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+            .body(Map.of(
+                "status", status.getCode(),
+                "database", status.getCode(),
+                "service", "BiblioDigit API",
+                "version", "1.0.2"
+            ));
     }
 }
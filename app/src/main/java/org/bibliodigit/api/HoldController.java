@@ -0,0 +1,86 @@
+package org.bibliodigit.api;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bibliodigit.api.dto.req.HoldRequest;
+import org.bibliodigit.api.dto.res.HoldResponse;
+import org.bibliodigit.api.mapper.HoldMapper;
+import org.bibliodigit.domain.Hold;
+import org.bibliodigit.domain.port.HoldService;
+import org.bibliodigit.security.RequireRole;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// Alternativa a reintentar POST /api/loans: una reserva recibe la próxima copia devuelta
+@Slf4j
+@RestController
+@RequestMapping("/api/holds")
+@RequiredArgsConstructor
+public class HoldController {
+
+    private final HoldService holdService;
+    private final HoldMapper mapper;
+
+    @PostMapping
+    @RequireRole({"ADMIN", "STUDENT", "TEACHER", "EXTERNAL"})
+    public ResponseEntity<HoldResponse> placeHold(@Valid @RequestBody HoldRequest request) {
+        log.debug("Hold request: userId={}, bookId={}", request.getUserId(), request.getBookId());
+
+        try {
+            Hold hold = holdService.placeHold(request.getUserId(), request.getBookId());
+            return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(toResponse(hold));
+        } catch (RuntimeException e) {
+            log.error("Error placing hold: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/{id}")
+    @RequireRole({"ADMIN", "STUDENT", "TEACHER", "EXTERNAL"})
+    public ResponseEntity<HoldResponse> getHoldById(@PathVariable Long id) {
+        log.debug("Getting hold by id: {}", id);
+
+        return holdService.findById(id)
+            .map(this::toResponse)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/user/{userId}")
+    @RequireRole({"ADMIN", "STUDENT", "TEACHER", "EXTERNAL"})
+    public ResponseEntity<List<HoldResponse>> getOpenHolds(@PathVariable Long userId) {
+        log.debug("Getting open holds for user: {}", userId);
+
+        List<HoldResponse> responses = holdService.getOpenHoldsForUser(userId)
+            .stream()
+            .map(this::toResponse)
+            .toList();
+
+        return responses.isEmpty()
+            ? ResponseEntity.noContent().build()
+            : ResponseEntity.ok(responses);
+    }
+
+    @DeleteMapping("/{id}")
+    @RequireRole({"ADMIN", "STUDENT", "TEACHER", "EXTERNAL"})
+    public ResponseEntity<HoldResponse> cancelHold(@PathVariable Long id) {
+        log.debug("Cancel request for hold: {}", id);
+
+        try {
+            return ResponseEntity.ok(toResponse(holdService.cancelHold(id)));
+        } catch (RuntimeException e) {
+            log.error("Error cancelling hold: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    private HoldResponse toResponse(Hold hold) {
+        return mapper.toResponse(hold, holdService.getQueuePosition(hold));
+    }
+}
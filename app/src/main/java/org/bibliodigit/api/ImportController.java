@@ -0,0 +1,74 @@
+package org.bibliodigit.api;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bibliodigit.api.dto.res.ImportResponse;
+import org.bibliodigit.api.mapper.ImportMapper;
+import org.bibliodigit.application.importer.CatalogImporter;
+import org.bibliodigit.domain.ImportCheckpoint;
+import org.bibliodigit.domain.ImportFormat;
+import org.bibliodigit.security.RequireRole;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/import")
+@RequiredArgsConstructor
+public class ImportController {
+
+    private final CatalogImporter importer;
+    private final ImportMapper mapper;
+
+    // El cuerpo se lee como stream; reenviar el mismo fichero con el mismo job reanuda la importación
+    @PostMapping("/books")
+    @RequireRole("ADMIN")
+    public ResponseEntity<ImportResponse> importBooks(
+            @RequestParam ImportFormat format,
+            @RequestParam(required = false) String job,
+            InputStream body) {
+
+        String jobName = job != null && !job.isBlank()
+            ? job
+            : format.name().toLowerCase() + "-" + System.currentTimeMillis();
+
+        log.debug("Import request: job={}, format={}", jobName, format);
+
+        try {
+            ImportCheckpoint checkpoint = importer.importCatalog(jobName, format, body);
+            return ResponseEntity.ok(mapper.toResponse(checkpoint));
+        } catch (IllegalStateException e) {
+            log.warn("Rejected import: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected import: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (RuntimeException e) {
+            log.error("Error importing books: {}", e.getMessage());
+
+            // El checkpoint indica hasta dónde quedó confirmado
+            return importer.findCheckpoint(jobName)
+                .map(checkpoint -> ResponseEntity.unprocessableEntity().body(mapper.toResponse(checkpoint)))
+                .orElse(ResponseEntity.internalServerError().build());
+        }
+    }
+
+    @GetMapping("/{job}")
+    @RequireRole("ADMIN")
+    public ResponseEntity<ImportResponse> getImport(@PathVariable String job) {
+        log.debug("Getting import progress: {}", job);
+
+        return importer.findCheckpoint(job)
+            .map(mapper::toResponse)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -3,17 +3,23 @@ package org.bibliodigit.api;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bibliodigit.api.dto.req.BatchLoanRequest;
+import org.bibliodigit.api.dto.req.BatchReturnRequest;
 import org.bibliodigit.api.dto.req.LoanRequest;
+import org.bibliodigit.api.dto.res.LoanBatchResponse;
 import org.bibliodigit.api.dto.res.LoanResponse;
 import org.bibliodigit.api.mapper.LoanMapper;
-import org.bibliodigit.domain.Stock;
+import org.bibliodigit.domain.Loan;
+import org.bibliodigit.domain.LoanView;
 import org.bibliodigit.domain.port.LoanService;
 import org.bibliodigit.security.RequireRole;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -32,7 +38,7 @@ public class LoanController {
         log.debug("Loan request: userId={}, bookId={}", request.getUserId(), request.getBookId());
 
         try {
-            Stock loan = loanService.borrowBook(request.getUserId(), request.getBookId());
+            Loan loan = loanService.borrowBook(request.getUserId(), request.getBookId());
             return ResponseEntity
                 .status(HttpStatus.CREATED)
                 .body(mapper.toResponse(loan));
@@ -42,13 +48,46 @@ public class LoanController {
         }
     }
 
+    @PostMapping("/batch")
+    @RequireRole("ADMIN")
+    public ResponseEntity<LoanBatchResponse> borrowBooks(@Valid @RequestBody BatchLoanRequest request) {
+        log.debug("Batch loan request: userId={}, books={}", request.getUserId(), request.getBookIds().size());
+
+        try {
+            LoanBatchResponse response = mapper.toBatchResponse(
+                loanService.borrowBooks(request.getUserId(), request.getBookIds()));
+            return ResponseEntity
+                .status(response.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS)
+                .body(response);
+        } catch (RuntimeException e) {
+            log.error("Error borrowing batch: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PutMapping("/batch/return")
+    @RequireRole("ADMIN")
+    public ResponseEntity<LoanBatchResponse> returnBooks(@Valid @RequestBody BatchReturnRequest request) {
+        log.debug("Batch return request: loans={}", request.getLoanIds().size());
+
+        try {
+            LoanBatchResponse response = mapper.toBatchResponse(loanService.returnBooks(request.getLoanIds()));
+            return ResponseEntity
+                .status(response.getFailed() == 0 ? HttpStatus.OK : HttpStatus.MULTI_STATUS)
+                .body(response);
+        } catch (RuntimeException e) {
+            log.error("Error returning batch: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PutMapping("/{id}/return")
     @RequireRole({"ADMIN", "STUDENT", "TEACHER", "EXTERNAL"})
     public ResponseEntity<LoanResponse> returnBook(@PathVariable Long id) {
         log.debug("Return request for loan: {}", id);
 
         try {
-            Stock returned = loanService.returnBook(id);
+            Loan returned = loanService.returnBook(id);
             return ResponseEntity.ok(mapper.toResponse(returned));
         } catch (RuntimeException e) {
             log.error("Error returning book: {}", e.getMessage());
@@ -73,10 +112,19 @@ public class LoanController {
 
     @GetMapping("/user/{userId}/history")
     @RequireRole({"ADMIN", "STUDENT", "TEACHER", "EXTERNAL"})
-    public ResponseEntity<List<LoanResponse>> getLoanHistory(@PathVariable Long userId) {
-        log.debug("Getting loan history for user: {}", userId);
-
-        List<LoanResponse> responses = loanService.getLoanHistoryForUser(userId)
+    public ResponseEntity<List<LoanResponse>> getLoanHistory(
+            @PathVariable Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.debug("Getting loan history for user: {} (from={}, to={})", userId, from, to);
+
+        // Con from solo se leen las particiones de loans del rango; to es inclusivo y por defecto hoy
+        List<LoanView> history = from == null
+            ? loanService.getLoanHistoryForUser(userId)
+            : loanService.getLoanHistoryForUser(userId, from.atStartOfDay(),
+                (to != null ? to : LocalDate.now()).plusDays(1).atStartOfDay());
+
+        List<LoanResponse> responses = history
             .stream()
             .map(mapper::toResponse)
             .collect(Collectors.toList());
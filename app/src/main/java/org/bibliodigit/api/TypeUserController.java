@@ -30,7 +30,7 @@ public class TypeUserController {
     public ResponseEntity<List<TypeUserResponse>> getAllTypeUsers() {
         log.debug("Getting all type users");
 
-        List<TypeUserResponse> responses = typeUserService.findAll()
+        List<TypeUserResponse> responses = typeUserService.findAllWithUserCount()
             .stream()
             .map(mapper::toResponse)
             .collect(Collectors.toList());
@@ -45,7 +45,7 @@ public class TypeUserController {
     public ResponseEntity<TypeUserResponse> getTypeUserById(@PathVariable Long id) {
         log.debug("Getting type user by id: {}", id);
 
-        return typeUserService.findById(id)
+        return typeUserService.findViewById(id)
             .map(mapper::toResponse)
             .map(ResponseEntity::ok)
             .orElse(ResponseEntity.notFound().build());
@@ -56,7 +56,7 @@ public class TypeUserController {
     public ResponseEntity<TypeUserResponse> getTypeUserByType(@PathVariable String type) {
         log.debug("Getting type user by type: {}", type);
 
-        return typeUserService.findByType(type)
+        return typeUserService.findViewByType(type)
             .map(mapper::toResponse)
             .map(ResponseEntity::ok)
             .orElse(ResponseEntity.notFound().build());
@@ -75,7 +75,7 @@ public class TypeUserController {
 
             return ResponseEntity
                 .status(HttpStatus.CREATED)
-                .body(mapper.toResponse(created));
+                .body(mapper.toResponse(created, 0));
         } catch (RuntimeException e) {
             log.error("Error creating type user: {}", e.getMessage());
             return ResponseEntity.badRequest().build();
@@ -94,7 +94,7 @@ public class TypeUserController {
             TypeUser typeUserToUpdate = mapper.toDomain(request);
             TypeUser updated = typeUserService.update(id, typeUserToUpdate);
 
-            return ResponseEntity.ok(mapper.toResponse(updated));
+            return ResponseEntity.ok(mapper.toResponse(updated, typeUserService.countUsers(id)));
         } catch (RuntimeException e) {
             log.error("Error updating type user: {}", e.getMessage());
             return ResponseEntity.notFound().build();
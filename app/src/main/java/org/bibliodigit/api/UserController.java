@@ -101,7 +101,7 @@ public class UserController {
             request.getEmail(),
             request.getPassword(),
             request.getTypeUserId()
-        );
+        ).getUser();
 
         return ResponseEntity
             .status(HttpStatus.CREATED)
@@ -0,0 +1,25 @@
+package org.bibliodigit.api.dto.req;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchLoanRequest {
+    
+    @NotNull(message = "User ID is required")
+    private Long userId;
+    
+    @NotEmpty(message = "At least one book ID is required")
+    @Size(max = 100, message = "A batch cannot exceed 100 books")
+    private List<@NotNull Long> bookIds;
+}
@@ -0,0 +1,22 @@
+package org.bibliodigit.api.dto.req;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchReturnRequest {
+    
+    @NotEmpty(message = "At least one loan ID is required")
+    @Size(max = 100, message = "A batch cannot exceed 100 loans")
+    private List<@NotNull Long> loanIds;
+}
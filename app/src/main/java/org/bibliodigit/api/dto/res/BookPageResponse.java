@@ -0,0 +1,19 @@
+package org.bibliodigit.api.dto.res;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookPageResponse {
+    
+    private List<BookResponse> items;
+    private String nextCursor;
+    private Boolean hasNext;
+}
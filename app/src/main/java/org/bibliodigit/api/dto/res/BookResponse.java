@@ -22,4 +22,9 @@ public class BookResponse {
     private Long categoryId;
     private String categoryName;
     private String categoryDescription;
+
+    private Integer totalCopies;
+    private Integer availableCopies;
+    private Integer onLoanCopies;
+    private Integer overdueCopies;
 }
@@ -0,0 +1,30 @@
+package org.bibliodigit.api.dto.res;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HoldResponse {
+
+    private Long id;
+    private Long bookId;
+    private Long userId;
+
+    private String status;
+    // Solo en WAITING; 1 = siguiente en recibir copia
+    private Long position;
+
+    // Copia apartada mientras la reserva está READY
+    private Long stockId;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime readyAt;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,26 @@
+package org.bibliodigit.api.dto.res;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportResponse {
+
+    private String job;
+    private String format;
+    private String status;
+    private Long recordsProcessed;
+    private Long booksCreated;
+    private Long copiesCreated;
+    private Long recordsSkipped;
+    private String lastError;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,18 @@
+package org.bibliodigit.api.dto.res;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanBatchItemResponse {
+    
+    private Long requestedId;
+    private Boolean success;
+    private String error;
+    private LoanResponse loan;
+}
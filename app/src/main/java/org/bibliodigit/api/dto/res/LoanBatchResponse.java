@@ -0,0 +1,20 @@
+package org.bibliodigit.api.dto.res;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanBatchResponse {
+    
+    private Integer requested;
+    private Integer succeeded;
+    private Integer failed;
+    private List<LoanBatchItemResponse> items;
+}
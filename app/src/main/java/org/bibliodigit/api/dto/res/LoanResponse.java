@@ -15,6 +15,8 @@ import java.time.LocalDateTime;
 public class LoanResponse {
     
     private Long id;
+    // Copia física prestada
+    private Long stockId;
     
     private Long bookId;
     private String bookTitle;
@@ -26,7 +28,9 @@ public class LoanResponse {
     private String userEmail;
     private String userType;
     
-    private Boolean availability;
+    // true una vez devuelto. Sustituye a "availability", que con la tabla loans ya no
+    // describe la copia (puede estar prestada de nuevo) y se retiró de la respuesta
+    private Boolean returned;
     private String status;
     private LocalDateTime departureDate;
     private LocalDateTime deliveryDate;
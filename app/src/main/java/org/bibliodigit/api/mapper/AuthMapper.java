@@ -1,19 +1,22 @@
 package org.bibliodigit.api.mapper;
 
 import org.bibliodigit.api.dto.res.AuthResponse;
+import org.bibliodigit.domain.AuthSession;
 import org.bibliodigit.domain.User;
 import org.springframework.stereotype.Component;
 
 @Component
 public class AuthMapper {
 
-    public AuthResponse toAuthResponse(User user) {
-        if (user == null) {
+    public AuthResponse toAuthResponse(AuthSession session) {
+        if (session == null) {
             return null;
         }
 
+        User user = session.getUser();
+
         return AuthResponse.builder()
-            .token(user.getAuthToken())
+            .token(session.getToken())
             .type("Bearer")
             .userId(user.getId())
             .email(user.getEmail())
@@ -4,6 +4,8 @@ import org.bibliodigit.api.dto.req.BookRequest;
 import org.bibliodigit.api.dto.res.BookResponse;
 import org.bibliodigit.domain.Author;
 import org.bibliodigit.domain.Book;
+import org.bibliodigit.domain.BookAvailability;
+import org.bibliodigit.domain.BookView;
 import org.bibliodigit.domain.Category;
 import org.springframework.stereotype.Component;
 
@@ -11,6 +13,10 @@ import org.springframework.stereotype.Component;
 public class BookMapper {
 
     public BookResponse toResponse(Book book) {
+        return toResponse(book, null);
+    }
+
+    public BookResponse toResponse(Book book, BookAvailability availability) {
         return BookResponse.builder()
             .id(book.getId())
             .title(book.getTitle())
@@ -23,6 +29,32 @@ public class BookMapper {
             .categoryId(book.getCategory() != null ? book.getCategory().getId() : null)
             .categoryName(book.getCategory() != null ? book.getCategory().getName() : null)
             .categoryDescription(book.getCategory() != null ? book.getCategory().getDescription() : null)
+
+            .totalCopies(availability != null ? availability.getTotalCopies() : null)
+            .availableCopies(availability != null ? availability.getAvailableCopies() : null)
+            .onLoanCopies(availability != null ? availability.getOnLoanCopies() : null)
+            .overdueCopies(availability != null ? availability.getOverdueCopies() : null)
+            .build();
+    }
+    
+    public BookResponse toResponse(BookView book, BookAvailability availability) {
+        return BookResponse.builder()
+            .id(book.id())
+            .title(book.title())
+            .year(book.year())
+
+            .authorId(book.authorId())
+            .authorName(book.authorName())
+            .authorNationality(book.authorNationality())
+
+            .categoryId(book.categoryId())
+            .categoryName(book.categoryName())
+            .categoryDescription(book.categoryDescription())
+
+            .totalCopies(availability != null ? availability.getTotalCopies() : null)
+            .availableCopies(availability != null ? availability.getAvailableCopies() : null)
+            .onLoanCopies(availability != null ? availability.getOnLoanCopies() : null)
+            .overdueCopies(availability != null ? availability.getOverdueCopies() : null)
             .build();
     }
     
@@ -0,0 +1,24 @@
+package org.bibliodigit.api.mapper;
+
+import org.bibliodigit.api.dto.res.HoldResponse;
+import org.bibliodigit.domain.Hold;
+import org.springframework.stereotype.Component;
+
+@Component
+public class HoldMapper {
+
+    // Solo ids de las relaciones LAZY: no inicializa book, user ni stock
+    public HoldResponse toResponse(Hold hold, long position) {
+        return HoldResponse.builder()
+            .id(hold.getId())
+            .bookId(hold.getBook() != null ? hold.getBook().getId() : null)
+            .userId(hold.getUser() != null ? hold.getUser().getId() : null)
+            .status(hold.getStatus() != null ? hold.getStatus().name() : null)
+            .position(position > 0 ? position : null)
+            .stockId(hold.getStock() != null ? hold.getStock().getId() : null)
+            .createdAt(hold.getCreatedAt())
+            .readyAt(hold.getReadyAt())
+            .expiresAt(hold.getExpiresAt())
+            .build();
+    }
+}
@@ -0,0 +1,24 @@
+package org.bibliodigit.api.mapper;
+
+import org.bibliodigit.api.dto.res.ImportResponse;
+import org.bibliodigit.domain.ImportCheckpoint;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ImportMapper {
+
+    public ImportResponse toResponse(ImportCheckpoint checkpoint) {
+        return ImportResponse.builder()
+            .job(checkpoint.getJobName())
+            .format(checkpoint.getFormat() != null ? checkpoint.getFormat().name() : null)
+            .status(checkpoint.getStatus() != null ? checkpoint.getStatus().name() : null)
+            .recordsProcessed(checkpoint.getRecordsProcessed())
+            .booksCreated(checkpoint.getBooksCreated())
+            .copiesCreated(checkpoint.getCopiesCreated())
+            .recordsSkipped(checkpoint.getRecordsSkipped())
+            .lastError(checkpoint.getLastError())
+            .startedAt(checkpoint.getStartedAt())
+            .updatedAt(checkpoint.getUpdatedAt())
+            .build();
+    }
+}
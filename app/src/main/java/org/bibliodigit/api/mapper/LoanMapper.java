@@ -1,33 +1,82 @@
 package org.bibliodigit.api.mapper;
 
+import org.bibliodigit.api.dto.res.LoanBatchItemResponse;
+import org.bibliodigit.api.dto.res.LoanBatchResponse;
 import org.bibliodigit.api.dto.res.LoanResponse;
-import org.bibliodigit.domain.Stock;
+import org.bibliodigit.domain.Loan;
+import org.bibliodigit.domain.LoanBatchResult;
+import org.bibliodigit.domain.LoanView;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class LoanMapper {
 
 
-    public LoanResponse toResponse(Stock stock) {
+    public LoanResponse toResponse(Loan loan) {
+        return LoanResponse.builder()
+            .id(loan.getId())
+            .stockId(loan.getStock() != null ? loan.getStock().getId() : null)
+            .bookId(loan.getBook() != null ? loan.getBook().getId() : null)
+            .bookTitle(loan.getBook() != null ? loan.getBook().getTitle() : null)
+            .bookIsbn(loan.getBook() != null ? loan.getBook().getIsbn() : null)
+            .authorName(loan.getBook() != null && loan.getBook().getAuthor() != null 
+                ? loan.getBook().getAuthor().getName() : null)
+            .userId(loan.getUser() != null ? loan.getUser().getId() : null)
+            .userName(loan.getUser() != null ? loan.getUser().getName() : null)
+            .userEmail(loan.getUser() != null ? loan.getUser().getEmail() : null)
+            .userType(loan.getUser() != null && loan.getUser().getTypeUser() != null
+                ? loan.getUser().getTypeUser().getType() : null)
+            .returned(loan.getActualReturnDate() != null)
+            .status(loan.getStatus() != null ? loan.getStatus().name() : null)
+            .departureDate(loan.getDepartureDate())
+            .deliveryDate(loan.getDeliveryDate())
+            .actualReturnDate(loan.getActualReturnDate())
+            .daysOverdue(loan.getDaysOverdue())
+            .fine(loan.getFine())
+            .build();
+    }
+
+    public LoanResponse toResponse(LoanView loan) {
         return LoanResponse.builder()
-            .id(stock.getId())
-            .bookId(stock.getBook() != null ? stock.getBook().getId() : null)
-            .bookTitle(stock.getBook() != null ? stock.getBook().getTitle() : null)
-            .bookIsbn(stock.getBook() != null ? stock.getBook().getIsbn() : null)
-            .authorName(stock.getBook() != null && stock.getBook().getAuthor() != null 
-                ? stock.getBook().getAuthor().getName() : null)
-            .userId(stock.getUser() != null ? stock.getUser().getId() : null)
-            .userName(stock.getUser() != null ? stock.getUser().getName() : null)
-            .userEmail(stock.getUser() != null ? stock.getUser().getEmail() : null)
-            .userType(stock.getUser() != null && stock.getUser().getTypeUser() != null
-                ? stock.getUser().getTypeUser().getType() : null)
-            .availability(stock.getAvailability())
-            .status(stock.getStatus() != null ? stock.getStatus().name() : null)
-            .departureDate(stock.getDepartureDate())
-            .deliveryDate(stock.getDeliveryDate())
-            .actualReturnDate(stock.getActualReturnDate())
-            .daysOverdue(stock.getDaysOverdue())
-            .fine(stock.getFine())
+            .id(loan.id())
+            .stockId(loan.stockId())
+            .bookId(loan.bookId())
+            .bookTitle(loan.bookTitle())
+            .bookIsbn(loan.bookIsbn())
+            .authorName(loan.authorName())
+            .userId(loan.userId())
+            .userName(loan.userName())
+            .userEmail(loan.userEmail())
+            .userType(loan.userType())
+            .returned(loan.returned())
+            .status(loan.status() != null ? loan.status().name() : null)
+            .departureDate(loan.departureDate())
+            .deliveryDate(loan.deliveryDate())
+            .actualReturnDate(loan.actualReturnDate())
+            .daysOverdue(loan.daysOverdue())
+            .fine(loan.fine())
+            .build();
+    }
+
+    public LoanBatchResponse toBatchResponse(List<LoanBatchResult> results) {
+        List<LoanBatchItemResponse> items = results.stream()
+            .map(result -> LoanBatchItemResponse.builder()
+                .requestedId(result.getRequestedId())
+                .success(result.isSuccess())
+                .error(result.getError())
+                .loan(result.isSuccess() ? toResponse(result.getLoan()) : null)
+                .build())
+            .toList();
+
+        int succeeded = (int) results.stream().filter(LoanBatchResult::isSuccess).count();
+
+        return LoanBatchResponse.builder()
+            .requested(results.size())
+            .succeeded(succeeded)
+            .failed(results.size() - succeeded)
+            .items(items)
             .build();
     }
 }
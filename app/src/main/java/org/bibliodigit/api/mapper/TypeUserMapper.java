@@ -3,12 +3,27 @@ package org.bibliodigit.api.mapper;
 import org.bibliodigit.api.dto.req.TypeUserRequest;
 import org.bibliodigit.api.dto.res.TypeUserResponse;
 import org.bibliodigit.domain.TypeUser;
+import org.bibliodigit.domain.TypeUserView;
 import org.springframework.stereotype.Component;
 
 @Component
 public class TypeUserMapper {
 
-    public TypeUserResponse toResponse(TypeUser typeUser) {
+    public TypeUserResponse toResponse(TypeUserView view) {
+        if (view == null) {
+            return null;
+        }
+
+        return TypeUserResponse.builder()
+            .id(view.id())
+            .type(view.type())
+            .description(view.description())
+            .userCount(view.userCount().intValue())
+            .build();
+    }
+
+    // Escrituras: el conteo llega aparte (TypeUserService.countUsers), nunca de getUsers().size()
+    public TypeUserResponse toResponse(TypeUser typeUser, long userCount) {
         if (typeUser == null) {
             return null;
         }
@@ -17,7 +32,7 @@ public class TypeUserMapper {
             .id(typeUser.getId())
             .type(typeUser.getType())
             .description(typeUser.getDescription())
-            .userCount(typeUser.getUsers() != null ? typeUser.getUsers().size() : 0)
+            .userCount((int) userCount)
             .build();
     }
 
@@ -0,0 +1,97 @@
+package org.bibliodigit.application.availability;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bibliodigit.domain.BookAvailability;
+import org.bibliodigit.repository.BookAvailabilityRepository;
+import org.bibliodigit.repository.StockRepository;
+import org.bibliodigit.repository.projection.StockCounts;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Se invoca dentro de la transacción que modifica stock, así el agregado nunca queda a medias
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AvailabilityCounter {
+
+    private final BookAvailabilityRepository availabilityRepository;
+    private final StockRepository stockRepository;
+
+    public void lent(Long bookId, int copies) {
+        apply(bookId, 0, -copies, copies, 0);
+    }
+
+    // heldCopies: copias devueltas que pasan directamente a una reserva y no vuelven a estantería
+    public void returned(Long bookId, int copies, int overdueCopies, int heldCopies) {
+        apply(bookId, 0, copies - heldCopies, -copies, -overdueCopies);
+    }
+
+    // Copia apartada para una reserva: sale de estantería pero aún no está prestada
+    public void reserved(Long bookId, int copies) {
+        apply(bookId, 0, -copies, 0, 0);
+    }
+
+    public void released(Long bookId, int copies) {
+        apply(bookId, 0, copies, 0, 0);
+    }
+
+    public void pickedUp(Long bookId, int copies) {
+        apply(bookId, 0, 0, copies, 0);
+    }
+
+    public void copiesAdded(Long bookId, int copies) {
+        apply(bookId, copies, copies, 0, 0);
+    }
+
+    public void created(Long bookId) {
+        availabilityRepository.save(BookAvailability.builder().bookId(bookId).build());
+    }
+
+    public void deleted(Long bookId) {
+        availabilityRepository.deleteById(bookId);
+    }
+
+    public void overdueChanged(Collection<Long> bookIds) {
+        if (!bookIds.isEmpty()) {
+            availabilityRepository.refreshOverdue(bookIds);
+        }
+    }
+
+    public Map<Long, BookAvailability> findByBookIds(Collection<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return availabilityRepository.findByBookIdIn(bookIds)
+            .stream()
+            .collect(Collectors.toMap(BookAvailability::getBookId, Function.identity()));
+    }
+
+    // Recalcula desde stock con la fila del agregado bloqueada: los deltas concurrentes se aplican después
+    public BookAvailability reconcile(Long bookId) {
+        BookAvailability availability = availabilityRepository.findByBookIdForUpdate(bookId)
+            .orElseGet(() -> BookAvailability.builder().bookId(bookId).build());
+
+        StockCounts counts = stockRepository.countByBook(bookId)
+            .orElseGet(() -> StockCounts.empty(bookId));
+
+        availability.setTotalCopies(counts.total().intValue());
+        availability.setAvailableCopies(counts.available().intValue());
+        availability.setOnLoanCopies(counts.onLoan().intValue());
+        availability.setOverdueCopies(counts.overdue().intValue());
+
+        return availabilityRepository.save(availability);
+    }
+
+    private void apply(Long bookId, int total, int available, int onLoan, int overdue) {
+        if (availabilityRepository.applyDelta(bookId, total, available, onLoan, overdue) == 0) {
+            // No se crea aquí: dos préstamos simultáneos chocarían en el INSERT; lo crea el reconciliador
+            log.warn("No availability row for book {}, pending reconciliation", bookId);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package org.bibliodigit.application.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bibliodigit.domain.Author;
+import org.bibliodigit.domain.Book;
+import org.bibliodigit.domain.Category;
+import org.bibliodigit.util.TransactionHooks;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogCache {
+
+    // Guardan BookView (records inmutables), nunca entidades: nada que pueda quedar detached con proxies sin cargar
+    public static final String BOOKS = "books";
+    public static final String BOOKS_BY_AUTHOR = "booksByAuthor";
+    public static final String BOOKS_BY_CATEGORY = "booksByCategory";
+    public static final String BOOKS_BY_YEAR = "booksByYear";
+
+    private final CacheManager cacheManager;
+
+    public void evictBook(Book book) {
+        List<CacheKey> keys = new ArrayList<>();
+        collectKeys(book, keys);
+        TransactionHooks.afterCommit(() -> evictNow(keys));
+    }
+
+    public void evictBooks(Collection<Book> books) {
+        List<CacheKey> keys = new ArrayList<>();
+        collectKeys(books, keys);
+        TransactionHooks.afterCommit(() -> evictNow(keys));
+    }
+
+    public void evictAuthor(Author author) {
+        List<CacheKey> keys = new ArrayList<>();
+        keys.add(new CacheKey(BOOKS_BY_AUTHOR, author.getId()));
+        collectKeys(author.getBooks(), keys);
+        TransactionHooks.afterCommit(() -> evictNow(keys));
+    }
+
+    public void evictCategory(Category category) {
+        List<CacheKey> keys = new ArrayList<>();
+        keys.add(new CacheKey(BOOKS_BY_CATEGORY, category.getId()));
+        collectKeys(category.getBooks(), keys);
+        TransactionHooks.afterCommit(() -> evictNow(keys));
+    }
+
+    public Map<String, CacheStats> stats() {
+        Map<String, CacheStats> stats = new LinkedHashMap<>();
+
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+
+            if (cache instanceof CaffeineCache caffeineCache) {
+                stats.put(name, caffeineCache.getNativeCache().stats());
+            }
+        }
+
+        return stats;
+    }
+
+    private void collectKeys(Collection<Book> books, List<CacheKey> keys) {
+        if (books != null) {
+            books.forEach(book -> collectKeys(book, keys));
+        }
+    }
+
+    private void collectKeys(Book book, List<CacheKey> keys) {
+        keys.add(new CacheKey(BOOKS, book.getId()));
+        keys.add(new CacheKey(BOOKS_BY_YEAR, book.getYear()));
+
+        if (book.getAuthor() != null) {
+            keys.add(new CacheKey(BOOKS_BY_AUTHOR, book.getAuthor().getId()));
+        }
+
+        if (book.getCategory() != null) {
+            keys.add(new CacheKey(BOOKS_BY_CATEGORY, book.getCategory().getId()));
+        }
+    }
+
+    // Se llama tras el commit para que una lectura concurrente no vuelva a cachear datos viejos
+    private void evictNow(List<CacheKey> keys) {
+        for (CacheKey key : keys) {
+            Cache cache = cacheManager.getCache(key.cache());
+
+            if (cache != null && key.key() != null) {
+                cache.evict(key.key());
+            }
+        }
+
+        log.debug("Evicted {} catalog cache entries", keys.size());
+    }
+
+    private record CacheKey(String cache, Object key) {
+    }
+}
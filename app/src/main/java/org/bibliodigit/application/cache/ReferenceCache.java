@@ -0,0 +1,38 @@
+package org.bibliodigit.application.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bibliodigit.util.TransactionHooks;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+// Caché de segundo nivel de TypeUser, Category y Author (ehcache.xml). Hibernate ya actualiza la entrada
+// en las escrituras hechas con la sesión; los servicios desalojan además entidad y consultas al confirmar,
+// igual que CatalogCache, para que la invalidación no dependa del tipo de escritura (SQL nativo, bulk)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceCache {
+
+    public static final String QUERIES = "reference.queries";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void evict(Class<?> type, Object id) {
+        TransactionHooks.afterCommit(() -> {
+            entityManagerFactory.getCache().evict(type, id);
+            sessionFactory().getCache().evictQueryRegion(QUERIES);
+            log.debug("Evicted {}#{} from the second-level cache", type.getSimpleName(), id);
+        });
+    }
+
+    // Altas: la entidad aún no está en caché, pero los findAll/findByName cacheados ya no son válidos
+    public void evictQueries() {
+        TransactionHooks.afterCommit(() -> sessionFactory().getCache().evictQueryRegion(QUERIES));
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+}
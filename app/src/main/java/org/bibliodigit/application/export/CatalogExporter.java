@@ -0,0 +1,148 @@
+package org.bibliodigit.application.export;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bibliodigit.application.availability.AvailabilityCounter;
+import org.bibliodigit.domain.Book;
+import org.bibliodigit.domain.BookAvailability;
+import org.bibliodigit.domain.Loan;
+import org.bibliodigit.repository.BookRepository;
+import org.bibliodigit.repository.LoanRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+// Exportaciones completas: se recorre un cursor y cada bloque se escribe y se desvincula de la sesión
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogExporter {
+
+    // Igual que el fetchSize de las consultas: un bloque por viaje al servidor
+    private static final int CHUNK_SIZE = 500;
+
+    private static final List<ExportColumn<BookRow>> BOOK_COLUMNS = List.of(
+        new ExportColumn<>("id", row -> row.book().getId()),
+        new ExportColumn<>("title", row -> row.book().getTitle()),
+        new ExportColumn<>("year", row -> row.book().getYear()),
+        new ExportColumn<>("author_id", row -> row.book().getAuthor() != null ? row.book().getAuthor().getId() : null),
+        new ExportColumn<>("author", row -> row.book().getAuthor() != null ? row.book().getAuthor().getName() : null),
+        new ExportColumn<>("category_id", row -> row.book().getCategory() != null ? row.book().getCategory().getId() : null),
+        new ExportColumn<>("category", row -> row.book().getCategory() != null ? row.book().getCategory().getName() : null),
+        new ExportColumn<>("total_copies", row -> count(row, BookAvailability::getTotalCopies)),
+        new ExportColumn<>("available_copies", row -> count(row, BookAvailability::getAvailableCopies)),
+        new ExportColumn<>("on_loan_copies", row -> count(row, BookAvailability::getOnLoanCopies)),
+        new ExportColumn<>("overdue_copies", row -> count(row, BookAvailability::getOverdueCopies))
+    );
+
+    private static final List<ExportColumn<Loan>> LOAN_COLUMNS = List.of(
+        new ExportColumn<>("id", Loan::getId),
+        new ExportColumn<>("stock_id", loan -> loan.getStock().getId()),
+        new ExportColumn<>("book_id", loan -> loan.getBook().getId()),
+        new ExportColumn<>("book_title", loan -> loan.getBook().getTitle()),
+        new ExportColumn<>("author", loan -> loan.getBook().getAuthor() != null ? loan.getBook().getAuthor().getName() : null),
+        new ExportColumn<>("user_id", loan -> loan.getUser().getId()),
+        new ExportColumn<>("user_name", loan -> loan.getUser().getName()),
+        new ExportColumn<>("user_email", loan -> loan.getUser().getEmail()),
+        new ExportColumn<>("user_type", loan -> loan.getUser().getTypeUser() != null
+            ? loan.getUser().getTypeUser().getType() : null),
+        new ExportColumn<>("status", loan -> loan.getStatus() != null ? loan.getStatus().name() : null),
+        new ExportColumn<>("departure_date", Loan::getDepartureDate),
+        new ExportColumn<>("delivery_date", Loan::getDeliveryDate),
+        new ExportColumn<>("actual_return_date", Loan::getActualReturnDate),
+        new ExportColumn<>("days_overdue", Loan::getDaysOverdue),
+        new ExportColumn<>("fine", Loan::getFine)
+    );
+
+    private final BookRepository bookRepository;
+    private final LoanRepository loanRepository;
+    private final AvailabilityCounter availabilityCounter;
+    private final EntityManager entityManager;
+
+    // Transacción de solo lectura obligatoria: sin ella PostgreSQL ignora el fetch size y trae todo
+    @Transactional(readOnly = true)
+    public long exportBooks(ExportFormat format, OutputStream output) throws IOException {
+        try (ExportWriter<BookRow> writer = ExportWriter.open(format, output, BOOK_COLUMNS);
+             Stream<Book> books = bookRepository.streamAll()) {
+
+            List<Book> chunk = new ArrayList<>(CHUNK_SIZE);
+            long written = 0;
+            Iterator<Book> rows = books.iterator();
+
+            while (rows.hasNext()) {
+                chunk.add(rows.next());
+
+                if (chunk.size() == CHUNK_SIZE) {
+                    written += writeBooks(writer, chunk);
+                }
+            }
+
+            written += writeBooks(writer, chunk);
+
+            log.debug("Exported {} books as {}", written, format);
+            return written;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long exportLoans(ExportFormat format, Long userId, OutputStream output) throws IOException {
+        try (ExportWriter<Loan> writer = ExportWriter.open(format, output, LOAN_COLUMNS);
+             Stream<Loan> loans = loanRepository.streamLoanHistory(userId)) {
+
+            long written = 0;
+            Iterator<Loan> rows = loans.iterator();
+
+            while (rows.hasNext()) {
+                writer.write(rows.next());
+
+                if (++written % CHUNK_SIZE == 0) {
+                    detachAll();
+                }
+            }
+
+            log.debug("Exported {} loans as {}", written, format);
+            return written;
+        }
+    }
+
+    // Una consulta de disponibilidad por bloque, como en los listados de BookController
+    private int writeBooks(ExportWriter<BookRow> writer, List<Book> chunk) throws IOException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, BookAvailability> availability = availabilityCounter.findByBookIds(
+            chunk.stream().map(Book::getId).toList());
+
+        for (Book book : chunk) {
+            writer.write(new BookRow(book, availability.get(book.getId())));
+        }
+
+        int written = chunk.size();
+        chunk.clear();
+        detachAll();
+        return written;
+    }
+
+    // Las filas ya escritas (y sus autores, usuarios...) no se vuelven a usar; sin esto la sesión
+    // retendría todo el resultado hasta el final de la exportación
+    private void detachAll() {
+        entityManager.clear();
+    }
+
+    private static Integer count(BookRow row, Function<BookAvailability, Integer> field) {
+        return row.availability() != null ? field.apply(row.availability()) : 0;
+    }
+
+    private record BookRow(Book book, BookAvailability availability) {
+    }
+}
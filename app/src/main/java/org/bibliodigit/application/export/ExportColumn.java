@@ -0,0 +1,7 @@
+package org.bibliodigit.application.export;
+
+import java.util.function.Function;
+
+// Una misma definición de columnas alimenta el CSV y las claves del NDJSON
+public record ExportColumn<T>(String name, Function<T, Object> value) {
+}
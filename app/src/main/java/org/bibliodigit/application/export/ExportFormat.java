@@ -0,0 +1,22 @@
+package org.bibliodigit.application.export;
+
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),   // Un objeto JSON por línea
+    CSV("text/csv", "csv");                      // Cabecera + una fila por registro
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
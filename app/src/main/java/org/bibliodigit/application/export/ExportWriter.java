@@ -0,0 +1,128 @@
+package org.bibliodigit.application.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+// Escribe fila a fila sobre el stream de salida; no retiene registros ya escritos
+public abstract class ExportWriter<T> implements Closeable {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    protected final List<ExportColumn<T>> columns;
+
+    protected ExportWriter(List<ExportColumn<T>> columns) {
+        this.columns = columns;
+    }
+
+    public abstract void write(T row) throws IOException;
+
+    public static <T> ExportWriter<T> open(ExportFormat format, OutputStream output,
+                                           List<ExportColumn<T>> columns) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonWriter<>(output, columns);
+            case CSV -> new CsvWriter<>(output, columns);
+        };
+    }
+
+    private static class NdjsonWriter<T> extends ExportWriter<T> {
+
+        private final JsonGenerator generator;
+
+        NdjsonWriter(OutputStream output, List<ExportColumn<T>> columns) throws IOException {
+            super(columns);
+            this.generator = JSON_FACTORY.createGenerator(output);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(T row) throws IOException {
+            generator.writeStartObject();
+
+            for (ExportColumn<T> column : columns) {
+                generator.writeFieldName(column.name());
+                writeValue(column.value().apply(row));
+            }
+
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            // Se vacía el buffer sin cerrar el stream: lo gestiona quien lo abrió
+            generator.flush();
+        }
+
+        private void writeValue(Object value) throws IOException {
+            if (value == null) {
+                generator.writeNull();
+            } else if (value instanceof Boolean bool) {
+                generator.writeBoolean(bool);
+            } else if (value instanceof BigDecimal decimal) {
+                generator.writeNumber(decimal);
+            } else if (value instanceof Number number) {
+                generator.writeNumber(number.longValue());
+            } else {
+                generator.writeString(value.toString());
+            }
+        }
+    }
+
+    private static class CsvWriter<T> extends ExportWriter<T> {
+
+        private final Writer writer;
+
+        CsvWriter(OutputStream output, List<ExportColumn<T>> columns) throws IOException {
+            super(columns);
+            this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 64 * 1024);
+
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(columns.get(i).name());
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(T row) throws IOException {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+
+                Object value = columns.get(i).value().apply(row);
+                if (value != null) {
+                    writer.write(escape(value.toString()));
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+
+        // RFC 4180: comillas solo si el valor contiene separador, comillas o saltos de línea
+        private String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package org.bibliodigit.application.hold;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bibliodigit.application.availability.AvailabilityCounter;
+import org.bibliodigit.domain.Book;
+import org.bibliodigit.domain.CopyStatus;
+import org.bibliodigit.domain.Hold;
+import org.bibliodigit.domain.HoldQueue;
+import org.bibliodigit.domain.HoldStatus;
+import org.bibliodigit.domain.Stock;
+import org.bibliodigit.domain.User;
+import org.bibliodigit.repository.HoldQueueRepository;
+import org.bibliodigit.repository.HoldRepository;
+import org.bibliodigit.repository.StockRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+// Cola FIFO por libro. Se invoca dentro de la transacción del préstamo, la devolución o el job,
+// y toda transición de una reserva ocurre con la fila de HoldQueue del libro bloqueada
+@Slf4j
+@Component
+public class HoldAllocator {
+
+    private static final List<HoldStatus> OPEN = List.of(HoldStatus.WAITING, HoldStatus.READY);
+
+    private final HoldRepository holdRepository;
+    private final HoldQueueRepository queueRepository;
+    private final StockRepository stockRepository;
+    private final AvailabilityCounter availabilityCounter;
+    private final Duration pickupWindow;
+
+    public HoldAllocator(
+            HoldRepository holdRepository,
+            HoldQueueRepository queueRepository,
+            StockRepository stockRepository,
+            AvailabilityCounter availabilityCounter,
+            @Value("${loans.hold.pickup-window:48h}") Duration pickupWindow) {
+
+        this.holdRepository = holdRepository;
+        this.queueRepository = queueRepository;
+        this.stockRepository = stockRepository;
+        this.availabilityCounter = availabilityCounter;
+        this.pickupWindow = pickupWindow;
+    }
+
+    public Hold enqueue(User user, Book book, LocalDateTime now) {
+        HoldQueue queue = lockQueue(book.getId());
+
+        if (holdRepository.existsByUserIdAndBookIdAndStatusIn(user.getId(), book.getId(), OPEN)) {
+            throw new RuntimeException("User already has an active hold for book " + book.getId());
+        }
+
+        queue.setLastTicket(queue.getLastTicket() + 1);
+        Hold hold = holdRepository.save(Hold.builder()
+            .book(book)
+            .user(user)
+            .ticket(queue.getLastTicket())
+            .status(HoldStatus.WAITING)
+            .createdAt(now)
+            .build());
+
+        // Si hay copias en estantería se reparten ya, así quien reserva sin cola sale READY en la misma llamada
+        fillFromShelf(queue, now);
+
+        log.debug("Hold {} placed for book {} by user {} with ticket {}",
+            hold.getId(), book.getId(), user.getId(), hold.getTicket());
+        return hold;
+    }
+
+    // Devolución: la copia, aún prestada, pasa a la cabeza de la cola sin volver a estantería.
+    // Va antes del delta de book_availability para tomar los bloqueos en el mismo orden que claim y enqueue
+    public Optional<Hold> allocate(Stock stock, LocalDateTime now) {
+        return queueRepository.findByBookIdForUpdate(stock.getBook().getId())
+            .filter(HoldQueue::hasWaiting)
+            .map(queue -> dequeue(queue, stock, now));
+    }
+
+    // Copia apartada para el usuario, si tiene una reserva READY en plazo; la reserva queda cumplida
+    public Optional<Stock> claim(Long userId, Long bookId, LocalDateTime now) {
+        // Lectura sin bloqueo: la gran mayoría de préstamos no tienen reserva
+        if (!holdRepository.existsByUserIdAndBookIdAndStatus(userId, bookId, HoldStatus.READY)) {
+            return Optional.empty();
+        }
+
+        lockQueue(bookId);
+
+        Optional<Hold> ready = holdRepository.findByUserIdAndBookIdAndStatus(userId, bookId, HoldStatus.READY)
+            .filter(hold -> !now.isAfter(hold.getExpiresAt()));
+
+        if (ready.isEmpty()) {
+            // Caducada: la cierra el job y la copia pasa al siguiente
+            return Optional.empty();
+        }
+
+        Hold hold = ready.get();
+        hold.setStatus(HoldStatus.FULFILLED);
+
+        log.debug("Hold {} fulfilled by user {}", hold.getId(), userId);
+        return stockRepository.findByIdForUpdate(hold.getStock().getId());
+    }
+
+    public Hold cancel(Long holdId, LocalDateTime now) {
+        Long bookId = holdRepository.findBookIdById(holdId)
+            .orElseThrow(() -> new RuntimeException("Hold not found with id: " + holdId));
+
+        HoldQueue queue = lockQueue(bookId);
+        Hold hold = holdRepository.findById(holdId).orElseThrow();
+
+        if (!hold.isOpen()) {
+            throw new RuntimeException("Hold is not active. Current status: " + hold.getStatus());
+        }
+
+        close(queue, hold, HoldStatus.CANCELLED, now);
+        return hold;
+    }
+
+    public int expire(LocalDateTime now) {
+        int expired = 0;
+
+        for (Long holdId : holdRepository.findExpiredIds(now)) {
+            Long bookId = holdRepository.findBookIdById(holdId).orElseThrow();
+            HoldQueue queue = lockQueue(bookId);
+            Hold hold = holdRepository.findById(holdId).orElseThrow();
+
+            // Recogida o cancelada entre la búsqueda y el bloqueo
+            if (hold.getStatus() != HoldStatus.READY || !now.isAfter(hold.getExpiresAt())) {
+                continue;
+            }
+
+            close(queue, hold, HoldStatus.EXPIRED, now);
+            expired++;
+        }
+
+        return expired;
+    }
+
+    public int fillFromShelf(Long bookId, LocalDateTime now) {
+        return queueRepository.findByBookIdForUpdate(bookId)
+            .map(queue -> fillFromShelf(queue, now))
+            .orElse(0);
+    }
+
+    // Posición 1 = siguiente en recibir copia. Lectura por clave primaria de la cola, sin contar filas
+    public long position(Hold hold) {
+        if (hold.getStatus() != HoldStatus.WAITING) {
+            return 0;
+        }
+
+        return queueRepository.findById(hold.getBook().getId())
+            .map(queue -> hold.getTicket() - queue.getServedTicket())
+            .orElse(0L);
+    }
+
+    private HoldQueue lockQueue(Long bookId) {
+        Optional<HoldQueue> queue = queueRepository.findByBookIdForUpdate(bookId);
+
+        if (queue.isPresent()) {
+            return queue.get();
+        }
+
+        queueRepository.createIfAbsent(bookId);
+        return queueRepository.findByBookIdForUpdate(bookId).orElseThrow();
+    }
+
+    private int fillFromShelf(HoldQueue queue, LocalDateTime now) {
+        int allocated = 0;
+
+        while (queue.hasWaiting()) {
+            Optional<Stock> free = stockRepository.findFirstByBookIdAndAvailabilityOrderByIdAsc(queue.getBookId(), true);
+
+            if (free.isEmpty()) {
+                break;
+            }
+
+            dequeue(queue, free.get(), now);
+            allocated++;
+        }
+
+        return allocated;
+    }
+
+    private Hold dequeue(HoldQueue queue, Stock stock, LocalDateTime now) {
+        Long bookId = queue.getBookId();
+        Long ticket = queue.getServedTicket() + 1;
+
+        Hold head = holdRepository.findByBookIdAndStatusAndTicket(bookId, HoldStatus.WAITING, ticket)
+            .orElseThrow(() -> new RuntimeException("Hold queue for book " + bookId + " has no ticket " + ticket));
+
+        queue.setServedTicket(ticket);
+
+        // Una copia que pasa de una reserva caducada a la siguiente ya estaba descontada
+        if (Boolean.TRUE.equals(stock.getAvailability())) {
+            availabilityCounter.reserved(bookId, 1);
+        }
+
+        stock.setAvailability(false);
+        stock.setStatus(CopyStatus.RESERVED);
+
+        head.setStatus(HoldStatus.READY);
+        head.setStock(stock);
+        head.setReadyAt(now);
+        head.setExpiresAt(now.plus(pickupWindow));
+
+        log.debug("Copy {} reserved for hold {} until {}", stock.getId(), head.getId(), head.getExpiresAt());
+        return head;
+    }
+
+    private void close(HoldQueue queue, Hold hold, HoldStatus outcome, LocalDateTime now) {
+        HoldStatus previous = hold.getStatus();
+        hold.setStatus(outcome);
+
+        if (previous == HoldStatus.WAITING) {
+            // Los turnos posteriores avanzan uno para que la cola siga siendo contigua
+            queue.setLastTicket(queue.getLastTicket() - 1);
+            holdRepository.closeGap(queue.getBookId(), hold.getTicket());
+            return;
+        }
+
+        Stock stock = stockRepository.findByIdForUpdate(hold.getStock().getId()).orElseThrow();
+
+        if (queue.hasWaiting()) {
+            dequeue(queue, stock, now);
+        } else {
+            stock.setAvailability(true);
+            stock.setStatus(CopyStatus.AVAILABLE);
+            availabilityCounter.released(queue.getBookId(), 1);
+        }
+
+        log.debug("Hold {} closed as {}, copy {} handed on", hold.getId(), outcome, stock.getId());
+    }
+}
@@ -0,0 +1,83 @@
+package org.bibliodigit.application.importer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bibliodigit.domain.ImportCheckpoint;
+import org.bibliodigit.domain.ImportFormat;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+// Modo CLI: java -jar app.jar --import.file=catalogo.mrc [--import.format=MARC] [--import.job=nombre]
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "import.file")
+public class CatalogImportRunner implements ApplicationRunner {
+
+    private final CatalogImporter importer;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${import.file}")
+    private String file;
+
+    @Value("${import.format:}")
+    private String format;
+
+    @Value("${import.job:}")
+    private String job;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Path path = Path.of(file);
+        String fileName = path.getFileName().toString();
+        ImportFormat importFormat = format.isBlank() ? formatOf(fileName) : ImportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+
+        // Por defecto el job se llama como el fichero, así relanzar el comando reanuda la importación
+        String jobName = job.isBlank() ? fileName : job;
+
+        int exitCode = 0;
+
+        try (InputStream input = open(path)) {
+            ImportCheckpoint checkpoint = importer.importCatalog(jobName, importFormat, input);
+            log.info("Import {} finished with status {}", jobName, checkpoint.getStatus());
+        } catch (RuntimeException e) {
+            log.error("Import {} aborted: {}", jobName, e.getMessage());
+            exitCode = 1;
+        }
+
+        int code = exitCode;
+        System.exit(SpringApplication.exit(context, () -> code));
+    }
+
+    private InputStream open(Path path) throws Exception {
+        InputStream input = Files.newInputStream(path);
+        return path.toString().endsWith(".gz") ? new GZIPInputStream(input, 64 * 1024) : input;
+    }
+
+    private ImportFormat formatOf(String fileName) {
+        String name = fileName.toLowerCase(Locale.ROOT).replaceFirst("\\.gz$", "");
+
+        if (name.endsWith(".csv")) {
+            return ImportFormat.CSV;
+        }
+        if (name.endsWith(".json") || name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return ImportFormat.JSON;
+        }
+        if (name.endsWith(".mrc") || name.endsWith(".marc")) {
+            return ImportFormat.MARC;
+        }
+
+        throw new IllegalArgumentException("Cannot infer import format from " + fileName + ", use --import.format");
+    }
+}
@@ -0,0 +1,348 @@
+package org.bibliodigit.application.importer;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.bibliodigit.application.cache.CatalogCache;
+import org.bibliodigit.application.search.SearchIndexer;
+import org.bibliodigit.application.search.SearchTextNormalizer;
+import org.bibliodigit.domain.Author;
+import org.bibliodigit.domain.Book;
+import org.bibliodigit.domain.BookAvailability;
+import org.bibliodigit.domain.Category;
+import org.bibliodigit.domain.ImportCheckpoint;
+import org.bibliodigit.domain.ImportFormat;
+import org.bibliodigit.domain.ImportStatus;
+import org.bibliodigit.domain.Stock;
+import org.bibliodigit.repository.AuthorRepository;
+import org.bibliodigit.repository.BookRepository;
+import org.bibliodigit.repository.CategoryRepository;
+import org.bibliodigit.repository.ImportCheckpointRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// Importación masiva por lotes: cada lote y su checkpoint se confirman en la misma transacción
+@Slf4j
+@Component
+public class CatalogImporter {
+
+    private static final int MAX_COPIES_PER_RECORD = 1000;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final BookRepository bookRepository;
+    private final AuthorRepository authorRepository;
+    private final CategoryRepository categoryRepository;
+    private final ImportCheckpointRepository checkpointRepository;
+    private final SearchIndexer searchIndexer;
+    private final CatalogCache catalogCache;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    // Evita que dos peticiones de esta instancia avancen el mismo job a la vez
+    private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+
+    public CatalogImporter(
+            BookRepository bookRepository,
+            AuthorRepository authorRepository,
+            CategoryRepository categoryRepository,
+            ImportCheckpointRepository checkpointRepository,
+            SearchIndexer searchIndexer,
+            CatalogCache catalogCache,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            @Value("${import.batch-size:1000}") int batchSize) {
+
+        this.bookRepository = bookRepository;
+        this.authorRepository = authorRepository;
+        this.categoryRepository = categoryRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.searchIndexer = searchIndexer;
+        this.catalogCache = catalogCache;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    public ImportCheckpoint importCatalog(String jobName, ImportFormat format, InputStream input) {
+        if (!runningJobs.add(jobName)) {
+            throw new IllegalStateException("Import " + jobName + " is already running");
+        }
+
+        try {
+            ImportCheckpoint checkpoint = start(jobName, format);
+
+            if (checkpoint.getStatus() == ImportStatus.COMPLETED) {
+                log.info("Import {} already completed, nothing to do", jobName);
+                return checkpoint;
+            }
+
+            try (CatalogRecordReader reader = CatalogRecordReader.open(format, input)) {
+                return run(checkpoint, reader);
+            } catch (IOException | RuntimeException e) {
+                fail(jobName, e);
+                throw new RuntimeException("Import " + jobName + " failed: " + e.getMessage(), e);
+            }
+        } finally {
+            runningJobs.remove(jobName);
+        }
+    }
+
+    public Optional<ImportCheckpoint> findCheckpoint(String jobName) {
+        return checkpointRepository.findById(jobName);
+    }
+
+    private ImportCheckpoint run(ImportCheckpoint checkpoint, CatalogRecordReader reader) throws IOException {
+        String jobName = checkpoint.getJobName();
+        long resumeFrom = checkpoint.getRecordsProcessed();
+
+        // El fichero se vuelve a leer desde el principio; lo ya confirmado solo se consume
+        for (long skipped = 0; skipped < resumeFrom; skipped++) {
+            if (reader.next() == null) {
+                return complete(jobName);
+            }
+        }
+
+        if (resumeFrom > 0) {
+            log.info("Import {} resuming after {} records", jobName, resumeFrom);
+        }
+
+        Dictionary dictionary = loadDictionary();
+        long startedAt = System.nanoTime();
+        long processed = 0;
+        List<ImportRecord> chunk = new ArrayList<>(batchSize);
+        ImportRecord record;
+
+        while ((record = reader.next()) != null) {
+            chunk.add(record);
+
+            if (chunk.size() >= batchSize) {
+                processed += writeChunk(jobName, chunk, dictionary, startedAt, processed);
+                chunk.clear();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            writeChunk(jobName, chunk, dictionary, startedAt, processed);
+        }
+
+        return complete(jobName);
+    }
+
+    private int writeChunk(String jobName, List<ImportRecord> chunk, Dictionary dictionary,
+                           long startedAt, long processedBefore) {
+
+        ImportCheckpoint checkpoint = transactionTemplate.execute(status -> {
+            ImportCheckpoint current = checkpointRepository.findByJobNameForUpdate(jobName)
+                .orElseThrow(() -> new RuntimeException("Import checkpoint not found: " + jobName));
+
+            Set<String> titles = chunk.stream()
+                .map(ImportRecord::title)
+                .filter(Objects::nonNull)
+                .map(String::strip)
+                .collect(Collectors.toSet());
+
+            // Un solo SELECT por lote para los duplicados contra la BD; el Set cubre los del propio lote
+            Set<String> seen = new HashSet<>(titles.isEmpty() ? Set.of() : bookRepository.findExistingTitles(titles));
+
+            List<Book> created = new ArrayList<>();
+            long copies = 0;
+            long skipped = 0;
+
+            for (ImportRecord record : chunk) {
+                if (!isValid(record) || !seen.add(record.title().strip())) {
+                    skipped++;
+                    continue;
+                }
+
+                int count = record.copies() != null ? record.copies() : 1;
+
+                Book book = Book.builder()
+                    .title(record.title().strip())
+                    .year(record.year())
+                    .author(dictionary.author(record.author()))
+                    .category(dictionary.category(record.category()))
+                    .build();
+
+                // Ids de secuencia: persist no ejecuta el INSERT, se agrupa en lotes JDBC al hacer flush
+                entityManager.persist(book);
+
+                for (int i = 0; i < count; i++) {
+                    entityManager.persist(Stock.builder().book(book).build());
+                }
+
+                // persist directo: save() con id asignado haría un SELECT previo por libro
+                entityManager.persist(BookAvailability.builder()
+                    .bookId(book.getId())
+                    .totalCopies(count)
+                    .availableCopies(count)
+                    .build());
+
+                created.add(book);
+                copies += count;
+            }
+
+            current.advance(chunk.size(), created.size(), copies, skipped);
+
+            entityManager.flush();
+            // Se aplica al confirmar el lote: un lote que falla no deja libros fantasma en el índice
+            created.forEach(searchIndexer::index);
+            catalogCache.evictBooks(created);
+
+            // Sin clear el contexto de persistencia crecería con cada lote
+            entityManager.clear();
+            return current;
+        });
+
+        long processed = processedBefore + chunk.size();
+        double seconds = Math.max((System.nanoTime() - startedAt) / 1_000_000_000.0, 0.001);
+
+        log.info("Import {}: {} records ({} books, {} copies, {} skipped), {} records/s",
+            jobName,
+            checkpoint.getRecordsProcessed(),
+            checkpoint.getBooksCreated(),
+            checkpoint.getCopiesCreated(),
+            checkpoint.getRecordsSkipped(),
+            Math.round(processed / seconds));
+
+        return chunk.size();
+    }
+
+    private ImportCheckpoint start(String jobName, ImportFormat format) {
+        return transactionTemplate.execute(status -> {
+            ImportCheckpoint checkpoint = checkpointRepository.findByJobNameForUpdate(jobName)
+                .orElseGet(() -> ImportCheckpoint.builder()
+                    .jobName(jobName)
+                    .format(format)
+                    .status(ImportStatus.RUNNING)
+                    .startedAt(LocalDateTime.now())
+                    .build());
+
+            if (checkpoint.getFormat() != format) {
+                throw new IllegalArgumentException(
+                    "Import " + jobName + " was started with format " + checkpoint.getFormat());
+            }
+
+            if (checkpoint.getStatus() != ImportStatus.COMPLETED) {
+                checkpoint.setStatus(ImportStatus.RUNNING);
+                checkpoint.setLastError(null);
+            }
+
+            return checkpointRepository.save(checkpoint);
+        });
+    }
+
+    private ImportCheckpoint complete(String jobName) {
+        ImportCheckpoint checkpoint = transactionTemplate.execute(status -> {
+            ImportCheckpoint current = checkpointRepository.findByJobNameForUpdate(jobName)
+                .orElseThrow(() -> new RuntimeException("Import checkpoint not found: " + jobName));
+            current.setStatus(ImportStatus.COMPLETED);
+            return current;
+        });
+
+        log.info("Import {} completed: {} records, {} books, {} copies, {} skipped",
+            jobName,
+            checkpoint.getRecordsProcessed(),
+            checkpoint.getBooksCreated(),
+            checkpoint.getCopiesCreated(),
+            checkpoint.getRecordsSkipped());
+
+        return checkpoint;
+    }
+
+    private void fail(String jobName, Exception cause) {
+        log.error("Import {} failed: {}", jobName, cause.getMessage());
+
+        String message = String.valueOf(cause.getMessage());
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                checkpointRepository.findByJobNameForUpdate(jobName).ifPresent(checkpoint -> {
+                    checkpoint.setStatus(ImportStatus.FAILED);
+                    checkpoint.setLastError(message.length() > MAX_ERROR_LENGTH
+                        ? message.substring(0, MAX_ERROR_LENGTH)
+                        : message);
+                }));
+        } catch (RuntimeException e) {
+            log.error("Could not mark import {} as failed: {}", jobName, e.getMessage());
+        }
+    }
+
+    // Mismas restricciones que BookRequest y las columnas de authors/categories
+    private boolean isValid(ImportRecord record) {
+        return record.title() != null
+            && !record.title().isBlank()
+            && record.title().strip().length() <= 255
+            && record.year() != null
+            && record.year() >= 1000
+            && record.year() <= 9999
+            && (record.copies() == null || (record.copies() >= 0 && record.copies() <= MAX_COPIES_PER_RECORD))
+            && (record.author() == null || record.author().length() <= 255)
+            && (record.category() == null || record.category().length() <= 100);
+    }
+
+    private Dictionary loadDictionary() {
+        Dictionary dictionary = new Dictionary();
+
+        authorRepository.findAll().forEach(author -> dictionary.authors.putIfAbsent(key(author.getName()), author));
+        categoryRepository.findAll().forEach(category -> dictionary.categories.putIfAbsent(key(category.getName()), category));
+
+        log.debug("Import dictionary loaded: {} authors, {} categories",
+            dictionary.authors.size(), dictionary.categories.size());
+
+        return dictionary;
+    }
+
+    // "García Márquez, Gabriel" y "garcia marquez gabriel" resuelven al mismo autor
+    private static String key(String name) {
+        return String.join(" ", SearchTextNormalizer.tokenize(name));
+    }
+
+    // Autores y categorías del catálogo en memoria durante toda la importación; los nuevos se
+    // insertan al primer uso. Las entidades quedan detached tras cada clear, pero como referencia
+    // de una FK basta su id.
+    private class Dictionary {
+
+        private final Map<String, Author> authors = new HashMap<>();
+        private final Map<String, Category> categories = new HashMap<>();
+
+        Author author(String name) {
+            if (name == null || key(name).isEmpty()) {
+                return null;
+            }
+
+            return authors.computeIfAbsent(key(name), k -> {
+                Author author = Author.builder().name(name.strip()).build();
+                entityManager.persist(author);
+                return author;
+            });
+        }
+
+        Category category(String name) {
+            if (name == null || key(name).isEmpty()) {
+                return null;
+            }
+
+            return categories.computeIfAbsent(key(name), k -> {
+                Category category = Category.builder().name(name.strip()).build();
+                entityManager.persist(category);
+                return category;
+            });
+        }
+    }
+}
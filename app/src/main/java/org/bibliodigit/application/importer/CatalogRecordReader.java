@@ -0,0 +1,36 @@
+package org.bibliodigit.application.importer;
+
+import org.bibliodigit.domain.ImportFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+// Lector incremental: nunca carga el fichero completo en memoria
+public interface CatalogRecordReader extends AutoCloseable {
+
+    // Siguiente registro, o null al final de la entrada
+    ImportRecord next() throws IOException;
+
+    @Override
+    void close() throws IOException;
+
+    static CatalogRecordReader open(ImportFormat format, InputStream input) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvRecordReader(input);
+            case JSON -> new JsonRecordReader(input);
+            case MARC -> new MarcRecordReader(input);
+        };
+    }
+
+    static Integer parseInteger(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
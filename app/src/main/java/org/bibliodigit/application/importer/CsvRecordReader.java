@@ -0,0 +1,122 @@
+package org.bibliodigit.application.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// CSV (RFC 4180) con cabecera; las columnas se localizan por nombre, no por posición
+public class CsvRecordReader implements CatalogRecordReader {
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+
+    public CsvRecordReader(InputStream input) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+
+        List<String> header = readRow();
+        if (header == null) {
+            return;
+        }
+
+        for (int i = 0; i < header.size(); i++) {
+            // Se descarta un posible BOM al inicio de la cabecera
+            String name = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            columns.putIfAbsent(name, i);
+        }
+
+        if (!columns.containsKey("title")) {
+            throw new IOException("CSV header must contain a 'title' column");
+        }
+    }
+
+    @Override
+    public ImportRecord next() throws IOException {
+        List<String> row = readRow();
+
+        // Las líneas vacías no cuentan como registros
+        while (row != null && row.size() == 1 && row.get(0).isBlank()) {
+            row = readRow();
+        }
+
+        if (row == null) {
+            return null;
+        }
+
+        return new ImportRecord(
+            column(row, "title"),
+            CatalogRecordReader.parseInteger(column(row, "year")),
+            column(row, "author"),
+            column(row, "category"),
+            CatalogRecordReader.parseInteger(column(row, "copies"))
+        );
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String column(List<String> row, String name) {
+        Integer index = columns.get(name);
+
+        if (index == null || index >= row.size()) {
+            return null;
+        }
+
+        String value = row.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // Una fila lógica puede ocupar varias líneas si un campo entrecomillado contiene saltos
+    private List<String> readRow() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (c != -1) {
+            char ch = (char) c;
+
+            if (quoted) {
+                if (ch == '"') {
+                    reader.mark(1);
+                    int following = reader.read();
+
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    field.append(ch);
+                }
+            } else if (ch == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\n') {
+                break;
+            } else if (ch != '\r') {
+                field.append(ch);
+            }
+
+            c = reader.read();
+        }
+
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,5 @@
+package org.bibliodigit.application.importer;
+
+// Fila normalizada de cualquier formato de entrada; los campos ausentes llegan como null
+public record ImportRecord(String title, Integer year, String author, String category, Integer copies) {
+}
@@ -0,0 +1,73 @@
+package org.bibliodigit.application.importer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+// Parser de streaming: acepta un array de objetos o un objeto por línea (NDJSON)
+public class JsonRecordReader implements CatalogRecordReader {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final JsonParser parser;
+    private boolean array;
+    private boolean started;
+
+    public JsonRecordReader(InputStream input) throws IOException {
+        this.parser = new JsonFactory(MAPPER).createParser(input);
+    }
+
+    @Override
+    public ImportRecord next() throws IOException {
+        JsonToken token = parser.nextToken();
+
+        if (!started) {
+            started = true;
+            array = token == JsonToken.START_ARRAY;
+
+            if (array) {
+                token = parser.nextToken();
+            }
+        }
+
+        if (token == null || (array && token == JsonToken.END_ARRAY)) {
+            return null;
+        }
+
+        if (token != JsonToken.START_OBJECT) {
+            throw new IOException("Expected a JSON object at " + parser.currentLocation());
+        }
+
+        // Solo el objeto actual se materializa como árbol
+        JsonNode node = parser.readValueAsTree();
+
+        return new ImportRecord(
+            text(node, "title"),
+            CatalogRecordReader.parseInteger(text(node, "year")),
+            text(node, "author"),
+            text(node, "category"),
+            CatalogRecordReader.parseInteger(text(node, "copies"))
+        );
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    private String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+
+        if (value == null || value.isNull()) {
+            return null;
+        }
+
+        String text = value.asText().trim();
+        return text.isEmpty() ? null : text;
+    }
+}
@@ -0,0 +1,187 @@
+package org.bibliodigit.application.importer;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// MARC 21 en ISO 2709: 245$a título, 100$a autor, 260$c/264$c año, 650$a materia, un 952 por ejemplar
+public class MarcRecordReader implements CatalogRecordReader {
+
+    private static final int LEADER_LENGTH = 24;
+    private static final int DIRECTORY_ENTRY_LENGTH = 12;
+    private static final byte FIELD_TERMINATOR = 0x1E;
+    private static final byte RECORD_TERMINATOR = 0x1D;
+    private static final byte SUBFIELD_DELIMITER = 0x1F;
+    private static final Pattern YEAR = Pattern.compile("\\d{4}");
+
+    private final InputStream input;
+
+    public MarcRecordReader(InputStream input) {
+        this.input = new BufferedInputStream(input);
+    }
+
+    @Override
+    public ImportRecord next() throws IOException {
+        byte[] record = readRecord();
+
+        if (record == null) {
+            return null;
+        }
+
+        // Posición 9 del leader: 'a' = UTF-8, en blanco = MARC-8 (se aproxima con ISO-8859-1)
+        Charset charset = record[9] == 'a' ? StandardCharsets.UTF_8 : StandardCharsets.ISO_8859_1;
+        int baseAddress = parseNumber(record, 12, 5);
+
+        String title = null;
+        String author = null;
+        String category = null;
+        String published = null;
+        String fixedDate = null;
+        int items = 0;
+
+        for (int entry = LEADER_LENGTH;
+             entry + DIRECTORY_ENTRY_LENGTH <= baseAddress && record[entry] != FIELD_TERMINATOR;
+             entry += DIRECTORY_ENTRY_LENGTH) {
+
+            String tag = new String(record, entry, 3, StandardCharsets.US_ASCII);
+            int length = parseNumber(record, entry + 3, 4);
+            int start = baseAddress + parseNumber(record, entry + 7, 5);
+
+            if (start + length > record.length) {
+                throw new IOException("MARC directory entry " + tag + " points outside the record");
+            }
+
+            switch (tag) {
+                case "008" -> fixedDate = new String(record, start, length, charset);
+                case "100" -> author = first(author, subfield(record, start, length, 'a', charset));
+                case "245" -> title = first(title, subfield(record, start, length, 'a', charset));
+                case "260", "264" -> published = first(published, subfield(record, start, length, 'c', charset));
+                case "650" -> category = first(category, subfield(record, start, length, 'a', charset));
+                case "952" -> items++;
+                default -> {
+                }
+            }
+        }
+
+        return new ImportRecord(
+            clean(title),
+            year(published, fixedDate),
+            clean(author),
+            clean(category),
+            items > 0 ? items : null
+        );
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+
+    private byte[] readRecord() throws IOException {
+        int first = input.read();
+
+        // Algunos exportadores separan registros con saltos de línea
+        while (first == '\n' || first == '\r') {
+            first = input.read();
+        }
+
+        if (first == -1) {
+            return null;
+        }
+
+        byte[] lengthDigits = new byte[5];
+        lengthDigits[0] = (byte) first;
+        readFully(lengthDigits, 1, 4);
+
+        int length = parseNumber(lengthDigits, 0, 5);
+        if (length < LEADER_LENGTH + 1) {
+            throw new IOException("Invalid MARC record length: " + length);
+        }
+
+        byte[] record = new byte[length];
+        System.arraycopy(lengthDigits, 0, record, 0, 5);
+        readFully(record, 5, length - 5);
+
+        if (record[length - 1] != RECORD_TERMINATOR) {
+            throw new IOException("MARC record is not terminated where its leader says");
+        }
+
+        return record;
+    }
+
+    private void readFully(byte[] buffer, int offset, int length) throws IOException {
+        int read = input.readNBytes(buffer, offset, length);
+
+        if (read < length) {
+            throw new IOException("Truncated MARC record");
+        }
+    }
+
+    private int parseNumber(byte[] data, int offset, int length) throws IOException {
+        int value = 0;
+
+        for (int i = offset; i < offset + length; i++) {
+            if (data[i] < '0' || data[i] > '9') {
+                throw new IOException("Invalid number in MARC record at offset " + i);
+            }
+            value = value * 10 + (data[i] - '0');
+        }
+
+        return value;
+    }
+
+    private String subfield(byte[] record, int start, int length, char code, Charset charset) {
+        int end = start + length;
+
+        for (int i = start; i < end - 1; i++) {
+            if (record[i] == SUBFIELD_DELIMITER && record[i + 1] == code) {
+                int valueStart = i + 2;
+                int valueEnd = valueStart;
+
+                while (valueEnd < end
+                    && record[valueEnd] != SUBFIELD_DELIMITER
+                    && record[valueEnd] != FIELD_TERMINATOR) {
+                    valueEnd++;
+                }
+
+                return new String(record, valueStart, valueEnd - valueStart, charset);
+            }
+        }
+
+        return null;
+    }
+
+    private Integer year(String published, String fixedDate) {
+        if (published != null) {
+            Matcher matcher = YEAR.matcher(published);
+            if (matcher.find()) {
+                return Integer.valueOf(matcher.group());
+            }
+        }
+
+        // 008/07-10: fecha 1 de los datos fijos
+        if (fixedDate != null && fixedDate.length() >= 11) {
+            return CatalogRecordReader.parseInteger(fixedDate.substring(7, 11));
+        }
+
+        return null;
+    }
+
+    private String first(String current, String candidate) {
+        return current != null ? current : candidate;
+    }
+
+    // La puntuación ISBD final (" /", " :", ",", ".") no forma parte del valor
+    private String clean(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        String cleaned = value.strip().replaceAll("[\\s/:;,.=]+$", "").strip();
+        return cleaned.isEmpty() ? null : cleaned;
+    }
+}
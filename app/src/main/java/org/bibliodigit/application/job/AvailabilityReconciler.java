@@ -0,0 +1,103 @@
+package org.bibliodigit.application.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bibliodigit.application.availability.AvailabilityCounter;
+import org.bibliodigit.domain.BookAvailability;
+import org.bibliodigit.repository.BookAvailabilityRepository;
+import org.bibliodigit.repository.StockRepository;
+import org.bibliodigit.repository.projection.StockCounts;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class AvailabilityReconciler {
+
+    private final AvailabilityCounter availabilityCounter;
+    private final BookAvailabilityRepository availabilityRepository;
+    private final StockRepository stockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int pageSize;
+
+    public AvailabilityReconciler(
+            AvailabilityCounter availabilityCounter,
+            BookAvailabilityRepository availabilityRepository,
+            StockRepository stockRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${loans.availability.reconcile-page-size:1000}") int pageSize) {
+
+        this.availabilityCounter = availabilityCounter;
+        this.availabilityRepository = availabilityRepository;
+        this.stockRepository = stockRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.pageSize = pageSize;
+    }
+
+    @Scheduled(
+        initialDelayString = "${loans.availability.reconcile-initial-delay:60000}",
+        fixedDelayString = "${loans.availability.reconcile-interval:3600000}")
+    public int reconcile() {
+        List<Long> drifted = new ArrayList<>(transactionTemplate.execute(status -> {
+            List<Long> missing = availabilityRepository.findBookIdsWithoutAvailability();
+            missing.forEach(availabilityCounter::reconcile);
+            return missing;
+        }));
+
+        // Una transacción corta por página: la tabla nunca se carga entera ni se bloquea de una vez
+        Long afterId = 0L;
+        List<BookAvailability> page;
+        do {
+            Long from = afterId;
+            page = transactionTemplate.execute(status -> reconcilePage(from, drifted));
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1).getBookId();
+            }
+        } while (page.size() == pageSize);
+
+        if (!drifted.isEmpty()) {
+            log.warn("Availability reconciled for {} books: {}", drifted.size(), drifted);
+        }
+        return drifted.size();
+    }
+
+    private List<BookAvailability> reconcilePage(Long afterId, List<Long> drifted) {
+        List<BookAvailability> page = availabilityRepository
+            .findByBookIdGreaterThanOrderByBookIdAsc(afterId, Limit.of(pageSize));
+        if (page.isEmpty()) {
+            return page;
+        }
+
+        // Comparación sin bloqueos; solo los libros con diferencias se recalculan bajo bloqueo
+        Map<Long, StockCounts> counts = stockRepository.countByBookIn(page.stream().map(BookAvailability::getBookId).toList())
+            .stream()
+            .collect(Collectors.toMap(StockCounts::bookId, Function.identity()));
+
+        for (BookAvailability availability : page) {
+            StockCounts expected = counts.getOrDefault(availability.getBookId(),
+                StockCounts.empty(availability.getBookId()));
+
+            if (!matches(availability, expected)) {
+                availabilityCounter.reconcile(availability.getBookId());
+                drifted.add(availability.getBookId());
+            }
+        }
+        return page;
+    }
+
+    private boolean matches(BookAvailability availability, StockCounts counts) {
+        return availability.getTotalCopies() == counts.total().intValue()
+            && availability.getAvailableCopies() == counts.available().intValue()
+            && availability.getOnLoanCopies() == counts.onLoan().intValue()
+            && availability.getOverdueCopies() == counts.overdue().intValue();
+    }
+}
@@ -0,0 +1,45 @@
+package org.bibliodigit.application.job;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bibliodigit.application.hold.HoldAllocator;
+import org.bibliodigit.repository.HoldQueueRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HoldExpirySweeper {
+
+    private final HoldAllocator holdAllocator;
+    private final HoldQueueRepository queueRepository;
+
+    @Scheduled(
+        initialDelayString = "${loans.hold.sweep-initial-delay:30000}",
+        fixedDelayString = "${loans.hold.sweep-interval:60000}")
+    @Transactional
+    public void sweep() {
+        sweepUntil(LocalDateTime.now());
+    }
+
+    @Transactional
+    public int sweepUntil(LocalDateTime now) {
+        // Cada copia no recogida pasa al siguiente de su cola o vuelve a estantería
+        int expired = holdAllocator.expire(now);
+
+        // Copias que llegaron a estantería sin pasar por una devolución (altas, importaciones)
+        int allocated = queueRepository.findBookIdsWithWaitingAndFreeCopies()
+            .stream()
+            .mapToInt(bookId -> holdAllocator.fillFromShelf(bookId, now))
+            .sum();
+
+        if (expired > 0 || allocated > 0) {
+            log.debug("Hold sweep at {}: {} holds expired, {} shelf copies reserved", now, expired, allocated);
+        }
+        return expired;
+    }
+}
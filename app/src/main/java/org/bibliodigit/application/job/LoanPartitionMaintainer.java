@@ -0,0 +1,77 @@
+package org.bibliodigit.application.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+// Particiones mensuales de loans; solo PostgreSQL (H2 no soporta PARTITION BY)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "loans.partitions.maintain", havingValue = "true", matchIfMissing = true)
+public class LoanPartitionMaintainer {
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'loans_'yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+
+    public LoanPartitionMaintainer(
+            JdbcTemplate jdbcTemplate,
+            @Value("${loans.partitions.months-ahead:3}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @Scheduled(
+        initialDelayString = "${loans.partitions.maintain-initial-delay:0}",
+        fixedDelayString = "${loans.partitions.maintain-interval:86400000}")
+    public void maintain() {
+        ensurePartitions(YearMonth.now());
+    }
+
+    // Mes de partida y los monthsAhead siguientes, para que los préstamos nuevos nunca caigan en loans_default
+    public List<String> ensurePartitions(YearMonth from) {
+        List<String> created = new ArrayList<>();
+
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = from.plusMonths(i);
+            String name = partitionName(month);
+
+            if (exists(name)) {
+                continue;
+            }
+
+            try {
+                jdbcTemplate.execute(String.format(
+                    "CREATE TABLE IF NOT EXISTS %s PARTITION OF loans FOR VALUES FROM ('%s') TO ('%s')",
+                    name, month.atDay(1), month.plusMonths(1).atDay(1)));
+                created.add(name);
+            } catch (DataAccessException e) {
+                // Falla si loans_default ya tiene filas de ese mes: hay que moverlas a mano antes
+                log.error("Could not create loan partition {}: {}", name, e.getMessage());
+            }
+        }
+
+        if (!created.isEmpty()) {
+            log.info("Created loan partitions {}", created);
+        }
+        return created;
+    }
+
+    public static String partitionName(YearMonth month) {
+        return month.format(PARTITION_NAME);
+    }
+
+    private boolean exists(String name) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, name));
+    }
+}
@@ -0,0 +1,67 @@
+package org.bibliodigit.application.job;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bibliodigit.application.availability.AvailabilityCounter;
+import org.bibliodigit.domain.JobWatermark;
+import org.bibliodigit.repository.JobWatermarkRepository;
+import org.bibliodigit.repository.LoanRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OverdueLoanSweeper {
+
+    static final String JOB_NAME = "overdue-loan-sweeper";
+
+    // Primera ejecución: cualquier préstamo vencido antes de hoy
+    private static final LocalDateTime INITIAL_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final JobWatermarkRepository watermarkRepository;
+    private final LoanRepository loanRepository;
+    private final AvailabilityCounter availabilityCounter;
+
+    @Scheduled(
+        initialDelayString = "${loans.overdue.sweep-initial-delay:10000}",
+        fixedDelayString = "${loans.overdue.sweep-interval:300000}")
+    @Transactional
+    public void sweep() {
+        sweepUntil(LocalDateTime.now());
+    }
+
+    @Transactional
+    public int sweepUntil(LocalDateTime now) {
+        JobWatermark watermark = watermarkRepository.findByNameForUpdate(JOB_NAME)
+            .orElseGet(() -> watermarkRepository.save(JobWatermark.builder()
+                .name(JOB_NAME)
+                .processedUntil(INITIAL_WATERMARK)
+                .build()));
+
+        LocalDateTime since = watermark.getProcessedUntil();
+
+        if (!now.isAfter(since)) {
+            log.debug("Overdue sweep skipped, watermark {} is ahead of {}", since, now);
+            return 0;
+        }
+
+        // Solo los préstamos cuya fecha de entrega cruzó [since, now) desde la última ejecución
+        List<Long> bookIds = loanRepository.findBookIdsCrossingOverdue(since, now);
+        int marked = loanRepository.markOverdue(since, now);
+        int fined = loanRepository.accrueOverdueFines(now);
+        availabilityCounter.overdueChanged(bookIds);
+
+        watermark = watermarkRepository.findById(JOB_NAME).orElseThrow();
+        watermark.setProcessedUntil(now);
+        watermarkRepository.save(watermark);
+
+        log.debug("Overdue sweep [{} - {}): {} loans marked overdue, {} fines updated",
+            since, now, marked, fined);
+        return marked;
+    }
+}
@@ -0,0 +1,24 @@
+package org.bibliodigit.application.search;
+
+import org.bibliodigit.domain.Author;
+import org.bibliodigit.domain.Book;
+
+import java.util.List;
+
+public interface BookSearchEngine {
+
+    // Ids de libros ordenados por relevancia; cada término de la consulta se trata como prefijo
+    List<Long> search(String query, int limit);
+
+    default void index(Book book) {
+    }
+
+    default void remove(Long bookId) {
+    }
+
+    default void reindexAuthor(Author author) {
+    }
+
+    default void removeAuthor(Long authorId) {
+    }
+}
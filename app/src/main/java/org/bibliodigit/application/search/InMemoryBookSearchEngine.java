@@ -0,0 +1,171 @@
+package org.bibliodigit.application.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bibliodigit.domain.Author;
+import org.bibliodigit.domain.Book;
+import org.bibliodigit.repository.BookRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.engine", havingValue = "memory")
+public class InMemoryBookSearchEngine implements BookSearchEngine {
+
+    private static final int TITLE_WEIGHT = 2;
+    private static final int AUTHOR_WEIGHT = 1;
+    private static final int EXACT_MATCH_BONUS = 1;
+
+    private final BookRepository bookRepository;
+
+    // Índices invertidos ordenados: término -> ids de libros (el orden permite buscar por prefijo)
+    private final ConcurrentSkipListMap<String, Set<Long>> titleIndex = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<String, Set<Long>> authorIndex = new ConcurrentSkipListMap<>();
+    private final Map<Long, IndexedBook> documents = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<Book> books = bookRepository.findAll();
+        books.forEach(this::index);
+        log.info("In-memory search index built with {} books", books.size());
+    }
+
+    @Override
+    public List<Long> search(String query, int limit) {
+        List<String> terms = SearchTextNormalizer.tokenize(query);
+
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        // Todos los términos deben aparecer (en título o autor); el puntaje se suma por término
+        Map<Long, Integer> scores = null;
+
+        for (String term : terms) {
+            Map<Long, Integer> termScores = new HashMap<>();
+            collect(titleIndex, term, TITLE_WEIGHT, termScores);
+            collect(authorIndex, term, AUTHOR_WEIGHT, termScores);
+
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                scores.keySet().retainAll(termScores.keySet());
+                scores.replaceAll((id, score) -> score + termScores.get(id));
+            }
+
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        return scores.entrySet()
+            .stream()
+            .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey()))
+            .limit(limit)
+            .map(Map.Entry::getKey)
+            .toList();
+    }
+
+    @Override
+    public synchronized void index(Book book) {
+        removeDocument(book.getId());
+
+        Author author = book.getAuthor();
+        IndexedBook document = new IndexedBook(
+            author != null ? author.getId() : null,
+            new HashSet<>(SearchTextNormalizer.tokenize(book.getTitle())),
+            new HashSet<>(SearchTextNormalizer.tokenize(author != null ? author.getName() : null))
+        );
+
+        addDocument(book.getId(), document);
+    }
+
+    @Override
+    public synchronized void remove(Long bookId) {
+        removeDocument(bookId);
+    }
+
+    @Override
+    public synchronized void reindexAuthor(Author author) {
+        Set<String> authorTokens = new HashSet<>(SearchTextNormalizer.tokenize(author.getName()));
+
+        documents.entrySet()
+            .stream()
+            .filter(entry -> author.getId().equals(entry.getValue().authorId()))
+            .map(Map.Entry::getKey)
+            .toList()
+            .forEach(bookId -> {
+                IndexedBook current = removeDocument(bookId);
+                addDocument(bookId, new IndexedBook(author.getId(), current.titleTokens(), authorTokens));
+            });
+    }
+
+    @Override
+    public synchronized void removeAuthor(Long authorId) {
+        documents.entrySet()
+            .stream()
+            .filter(entry -> authorId.equals(entry.getValue().authorId()))
+            .map(Map.Entry::getKey)
+            .toList()
+            .forEach(this::removeDocument);
+    }
+
+    private void collect(NavigableMap<String, Set<Long>> index, String term, int weight, Map<Long, Integer> scores) {
+        NavigableMap<String, Set<Long>> matches = index.subMap(term, true, term + Character.MAX_VALUE, true);
+
+        for (Map.Entry<String, Set<Long>> entry : matches.entrySet()) {
+            int score = entry.getKey().equals(term) ? weight + EXACT_MATCH_BONUS : weight;
+
+            for (Long bookId : entry.getValue()) {
+                scores.merge(bookId, score, Math::max);
+            }
+        }
+    }
+
+    private void addDocument(Long bookId, IndexedBook document) {
+        documents.put(bookId, document);
+        document.titleTokens().forEach(token -> postings(titleIndex, token).add(bookId));
+        document.authorTokens().forEach(token -> postings(authorIndex, token).add(bookId));
+    }
+
+    private IndexedBook removeDocument(Long bookId) {
+        IndexedBook document = documents.remove(bookId);
+
+        if (document != null) {
+            document.titleTokens().forEach(token -> unlink(titleIndex, token, bookId));
+            document.authorTokens().forEach(token -> unlink(authorIndex, token, bookId));
+        }
+
+        return document;
+    }
+
+    private Set<Long> postings(Map<String, Set<Long>> index, String token) {
+        return index.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet());
+    }
+
+    private void unlink(Map<String, Set<Long>> index, String token, Long bookId) {
+        index.computeIfPresent(token, (key, ids) -> {
+            ids.remove(bookId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private record IndexedBook(Long authorId, Set<String> titleTokens, Set<String> authorTokens) {
+    }
+}
@@ -0,0 +1,36 @@
+package org.bibliodigit.application.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bibliodigit.repository.BookRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.engine", havingValue = "postgres", matchIfMissing = true)
+public class PostgresBookSearchEngine implements BookSearchEngine {
+
+    // Extensiones, función unaccent inmutable e índices GIN: db/migration/V3__full_text_search.sql
+    private final BookRepository bookRepository;
+
+    @Override
+    public List<Long> search(String query, int limit) {
+        List<String> terms = SearchTextNormalizer.tokenize(query);
+
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        // Los tokens ya vienen normalizados a [a-z0-9], así que no pueden alterar la sintaxis de tsquery
+        String tsQuery = terms.stream()
+            .map(term -> term + ":*")
+            .collect(Collectors.joining(" & "));
+
+        return bookRepository.searchRankedIds(tsQuery, limit);
+    }
+}
@@ -0,0 +1,35 @@
+package org.bibliodigit.application.search;
+
+import lombok.RequiredArgsConstructor;
+import org.bibliodigit.domain.Author;
+import org.bibliodigit.domain.Book;
+import org.bibliodigit.util.TransactionHooks;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Component;
+
+// Escrituras en el índice de búsqueda al confirmar la transacción: si hay rollback,
+// el índice en memoria no se queda con libros que no existen ni pierde los que sí
+@Component
+@RequiredArgsConstructor
+public class SearchIndexer {
+
+    private final BookSearchEngine searchEngine;
+
+    public void index(Book book) {
+        // El autor se carga ahora, dentro de la transacción, y no en el callback
+        Hibernate.initialize(book.getAuthor());
+        TransactionHooks.afterCommit(() -> searchEngine.index(book));
+    }
+
+    public void remove(Long bookId) {
+        TransactionHooks.afterCommit(() -> searchEngine.remove(bookId));
+    }
+
+    public void reindexAuthor(Author author) {
+        TransactionHooks.afterCommit(() -> searchEngine.reindexAuthor(author));
+    }
+
+    public void removeAuthor(Long authorId) {
+        TransactionHooks.afterCommit(() -> searchEngine.removeAuthor(authorId));
+    }
+}
@@ -2,6 +2,9 @@ package org.bibliodigit.application.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bibliodigit.application.cache.CatalogCache;
+import org.bibliodigit.application.cache.ReferenceCache;
+import org.bibliodigit.application.search.SearchIndexer;
 import org.bibliodigit.domain.Author;
 import org.bibliodigit.domain.port.AuthorService;
 import org.bibliodigit.repository.AuthorRepository;
@@ -18,6 +21,9 @@ import java.util.Optional;
 public class AuthorServiceImp implements AuthorService {
 
     private final AuthorRepository authorRepository;
+    private final SearchIndexer searchIndexer;
+    private final CatalogCache catalogCache;
+    private final ReferenceCache referenceCache;
 
     // ========== BASIC CRUD OPERATIONS ==========
 
@@ -37,7 +43,10 @@ public class AuthorServiceImp implements AuthorService {
     @Transactional
     public Author save(Author author) {
         log.debug("Saving author: {}", author.getName());
-        return authorRepository.save(author);
+
+        Author saved = authorRepository.save(author);
+        referenceCache.evict(Author.class, saved.getId());
+        return saved;
     }
 
     @Override
@@ -54,7 +63,9 @@ public class AuthorServiceImp implements AuthorService {
                 .nationality(nationality)
                 .build();
 
-        return authorRepository.save(author);
+        Author saved = authorRepository.save(author);
+        referenceCache.evictQueries();
+        return saved;
     }
 
     @Override
@@ -66,7 +77,11 @@ public class AuthorServiceImp implements AuthorService {
                 .map(existingAuthor -> {
                     existingAuthor.setName(author.getName());
                     existingAuthor.setNationality(author.getNationality());
-                    return authorRepository.save(existingAuthor);
+                    Author saved = authorRepository.save(existingAuthor);
+                    searchIndexer.reindexAuthor(saved);
+                    catalogCache.evictAuthor(saved);
+                    referenceCache.evict(Author.class, id);
+                    return saved;
                 })
                 .orElseThrow(() -> new RuntimeException("Author not found with id: " + id));
     }
@@ -76,11 +91,13 @@ public class AuthorServiceImp implements AuthorService {
     public void deleteById(Long id) {
         log.debug("Deleting author with ID: {}", id);
 
-        if (!authorRepository.existsById(id)) {
-            throw new RuntimeException("Author not found with id: " + id);
-        }
+        Author author = authorRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Author not found with id: " + id));
 
-        authorRepository.deleteById(id);
+        catalogCache.evictAuthor(author);
+        referenceCache.evict(Author.class, id);
+        authorRepository.delete(author);
+        searchIndexer.removeAuthor(id);
     }
 
     // ========== ADDITIONAL SEARCHES ==========
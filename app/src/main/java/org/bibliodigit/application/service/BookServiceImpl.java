@@ -2,41 +2,86 @@ package org.bibliodigit.application.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import io.micrometer.core.annotation.Timed;
+import org.bibliodigit.application.availability.AvailabilityCounter;
+import org.bibliodigit.application.cache.CatalogCache;
+import org.bibliodigit.application.search.BookSearchEngine;
+import org.bibliodigit.application.search.SearchIndexer;
 import org.bibliodigit.domain.Author;
 import org.bibliodigit.domain.Book;
+import org.bibliodigit.domain.BookAvailability;
+import org.bibliodigit.domain.BookPage;
+import org.bibliodigit.domain.BookView;
 import org.bibliodigit.domain.Category;
 import org.bibliodigit.domain.port.BookService;
 import org.bibliodigit.repository.AuthorRepository;
 import org.bibliodigit.repository.BookRepository;
 import org.bibliodigit.repository.CategoryRepository;
+import org.bibliodigit.util.CursorUtil;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j  
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)  
 public class BookServiceImpl implements BookService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
     
     private final BookRepository bookRepository;
     private final AuthorRepository authorRepository;
     private final CategoryRepository categoryRepository;
+    private final BookSearchEngine searchEngine;
+    private final SearchIndexer searchIndexer;
+    private final CatalogCache catalogCache;
+    private final AvailabilityCounter availabilityCounter;
     
     // ========== BASIC CRUD OPERATIONS ==========
     
     @Override
-    public List<Book> findAll() {
-        log.debug("Finding all books with relations");
-        return bookRepository.findAll();  
+    public List<BookView> findAll() {
+        log.debug("Finding all books");
+        return bookRepository.findAllViews();
+    }
+
+    @Override
+    public BookPage findPage(String cursor, Integer size) {
+        Long afterId = CursorUtil.decode(cursor);
+        int pageSize = size == null || size <= 0
+            ? DEFAULT_PAGE_SIZE
+            : Math.min(size, MAX_PAGE_SIZE);
+
+        log.debug("Finding books page after id: {} size: {}", afterId, pageSize);
+
+        // Se pide un registro extra para saber si existe una página siguiente
+        List<BookView> rows = bookRepository.findViewsAfter(afterId, Limit.of(pageSize + 1));
+
+        if (rows.size() <= pageSize) {
+            return new BookPage(rows, null);
+        }
+
+        List<BookView> books = rows.subList(0, pageSize);
+        String nextCursor = CursorUtil.encode(books.get(pageSize - 1).id());
+        return new BookPage(books, nextCursor);
     }
     
     @Override
-    public Optional<Book> findById(Long id) {
+    @Cacheable(CatalogCache.BOOKS)
+    public Optional<BookView> findById(Long id) {
         log.debug("Finding book by id: {}", id);
-        return bookRepository.findById(id); 
+        return bookRepository.findViewById(id);
     }
     
     @Override
@@ -68,7 +113,11 @@ public class BookServiceImpl implements BookService {
             .category(category)
             .build();
         
-        return bookRepository.save(book);
+        Book saved = bookRepository.save(book);
+        availabilityCounter.created(saved.getId());
+        searchIndexer.index(saved);
+        catalogCache.evictBook(saved);
+        return saved;
     }
     
     @Override
@@ -78,6 +127,8 @@ public class BookServiceImpl implements BookService {
         
         return bookRepository.findById(id)
             .map(existingBook -> {
+                catalogCache.evictBook(existingBook);
+
                 existingBook.setTitle(book.getTitle());
                 existingBook.setYear(book.getYear());
                 
@@ -97,7 +148,10 @@ public class BookServiceImpl implements BookService {
                     existingBook.setCategory(newCategory);
                 }
                 
-                return bookRepository.save(existingBook);
+                Book saved = bookRepository.save(existingBook);
+                searchIndexer.index(saved);
+                catalogCache.evictBook(saved);
+                return saved;
             })
             .orElseThrow(() -> new RuntimeException("Book not found with id: " + id));
     }
@@ -107,57 +161,91 @@ public class BookServiceImpl implements BookService {
     public void deleteById(Long id) {
         log.debug("Deleting book with id: {}", id);
         
-        if (!bookRepository.existsById(id)) {
-            throw new RuntimeException("Book not found with id: " + id);
-        }
+        Book book = bookRepository.findById(id)
+            .orElseThrow(() -> new RuntimeException("Book not found with id: " + id));
         
-        bookRepository.deleteById(id);
+        catalogCache.evictBook(book);
+        availabilityCounter.deleted(id);
+        bookRepository.delete(book);
+        searchIndexer.remove(id);
     }
     
     // ========== RELATIONSHIP SEARCHES ==========
     
     @Override
-    public List<Book> findByAuthorId(Long authorId) {
+    @Cacheable(CatalogCache.BOOKS_BY_AUTHOR)
+    public List<BookView> findByAuthorId(Long authorId) {
         log.debug("Finding books by authorId: {}", authorId);
-        return bookRepository.findByAuthorId(authorId);
+        return bookRepository.findViewsByAuthorId(authorId);
     }
     
     @Override
-    public List<Book> findByCategoryId(Long categoryId) {
+    @Cacheable(CatalogCache.BOOKS_BY_CATEGORY)
+    public List<BookView> findByCategoryId(Long categoryId) {
         log.debug("Finding books by categoryId: {}", categoryId);
-        return bookRepository.findByCategoryId(categoryId);
+        return bookRepository.findViewsByCategoryId(categoryId);
     }
     
     @Override
-    public List<Book> findByAuthorName(String authorName) {
+    @Timed(value = "bibliodigit.books.search", extraTags = {"type", "author-name"})
+    public List<BookView> findByAuthorName(String authorName) {
         log.debug("Finding books by author name: {}", authorName);
-        return bookRepository.findByAuthorNameContaining(authorName);
+        return bookRepository.findViewsByAuthorNameContaining(authorName);
     }
     
     // ========== ADDITIONAL SEARCHES ==========
+
+    @Override
+    @Timed(value = "bibliodigit.books.search", extraTags = {"type", "fulltext"})
+    public List<BookView> search(String query, Integer limit) {
+        int maxResults = limit == null || limit <= 0
+            ? DEFAULT_PAGE_SIZE
+            : Math.min(limit, MAX_PAGE_SIZE);
+
+        log.debug("Searching books by text: {} limit: {}", query, maxResults);
+
+        List<Long> rankedIds = searchEngine.search(query, maxResults);
+
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, BookView> booksById = bookRepository.findViewsByIdIn(rankedIds)
+            .stream()
+            .collect(Collectors.toMap(BookView::id, Function.identity()));
+
+        return rankedIds.stream()
+            .map(booksById::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
     
     @Override
-    public List<Book> findByTitleContaining(String titleKeyword) {
+    @Timed(value = "bibliodigit.books.search", extraTags = {"type", "title"})
+    public List<BookView> findByTitleContaining(String titleKeyword) {
         log.debug("Finding books by title containing: {}", titleKeyword);
-        return bookRepository.findByTitleContaining(titleKeyword);
+        return bookRepository.findViewsByTitleContaining(titleKeyword);
     }
     
     @Override
-    public List<Book> findByYear(Integer year) {
+    @Cacheable(CatalogCache.BOOKS_BY_YEAR)
+    public List<BookView> findByYear(Integer year) {
         log.debug("Finding books by year: {}", year);
-        return bookRepository.findByYear(year);
+        return bookRepository.findViewsByYear(year);
     }
     
     @Override
-    public List<Book> findByYearBetween(Integer startYear, Integer endYear) {
+    @Timed(value = "bibliodigit.books.search", extraTags = {"type", "year-range"})
+    public List<BookView> findByYearBetween(Integer startYear, Integer endYear) {
         log.debug("Finding books between {} and {}", startYear, endYear);
-        return bookRepository.findByYearBetween(startYear, endYear);
+        return bookRepository.findViewsByYearBetween(startYear, endYear);
     }
     
     @Override
-    public List<Book> findByCategoryName(String categoryName) {
+    @Timed(value = "bibliodigit.books.search", extraTags = {"type", "category-name"})
+    public List<BookView> findByCategoryName(String categoryName) {
         log.debug("Finding books by category name: {}", categoryName);
-        return bookRepository.findByCategoryName(categoryName);
+        return bookRepository.findViewsByCategoryName(categoryName);
     }
     
     @Override
@@ -191,4 +279,12 @@ public class BookServiceImpl implements BookService {
         log.debug("Checking if book exists with title: {}", title);
         return bookRepository.existsByTitle(title);
     }
+
+    // ========== AVAILABILITY ==========
+
+    @Override
+    public Map<Long, BookAvailability> findAvailability(Collection<Long> bookIds) {
+        log.debug("Finding availability for {} books", bookIds.size());
+        return availabilityCounter.findByBookIds(bookIds);
+    }
 }
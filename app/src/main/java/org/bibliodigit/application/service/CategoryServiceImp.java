@@ -2,6 +2,8 @@ package org.bibliodigit.application.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bibliodigit.application.cache.CatalogCache;
+import org.bibliodigit.application.cache.ReferenceCache;
 import org.bibliodigit.domain.Category;
 import org.bibliodigit.domain.port.CategoryService;
 import org.bibliodigit.repository.CategoryRepository;
@@ -18,6 +20,8 @@ import java.util.Optional;
 public class CategoryServiceImp implements CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CatalogCache catalogCache;
+    private final ReferenceCache referenceCache;
 
     @Override
     public List<Category> findAll() {
@@ -35,7 +39,10 @@ public class CategoryServiceImp implements CategoryService {
     @Transactional
     public Category save(Category category) {
         log.debug("Saving category: {}", category.getName());
-        return categoryRepository.save(category);
+
+        Category saved = categoryRepository.save(category);
+        referenceCache.evict(Category.class, saved.getId());
+        return saved;
     }
 
     @Override
@@ -52,7 +59,9 @@ public class CategoryServiceImp implements CategoryService {
                 .description(description)
                 .build();
 
-        return categoryRepository.save(category);
+        Category saved = categoryRepository.save(category);
+        referenceCache.evictQueries();
+        return saved;
     }
 
     @Override
@@ -64,7 +73,10 @@ public class CategoryServiceImp implements CategoryService {
                 .map(existing -> {
                     existing.setName(newData.getName());
                     existing.setDescription(newData.getDescription());
-                    return categoryRepository.save(existing);
+                    Category saved = categoryRepository.save(existing);
+                    catalogCache.evictCategory(saved);
+                    referenceCache.evict(Category.class, id);
+                    return saved;
                 })
                 .orElseThrow(() ->
                         new RuntimeException("Category not found with id: " + id));
@@ -75,11 +87,12 @@ public class CategoryServiceImp implements CategoryService {
     public void deleteById(Long id) {
         log.debug("Deleting category with ID: {}", id);
 
-        if (!categoryRepository.existsById(id)) {
-            throw new RuntimeException("Category not found with id: " + id);
-        }
+        Category category = categoryRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Category not found with id: " + id));
 
-        categoryRepository.deleteById(id);
+        catalogCache.evictCategory(category);
+        referenceCache.evict(Category.class, id);
+        categoryRepository.delete(category);
     }
 
     // ========== ADDITIONAL SEARCHES ==========
@@ -93,7 +106,7 @@ public class CategoryServiceImp implements CategoryService {
     @Override
     public List<Category> findByCategoriesIsNotEmpty() {
         log.debug("Finding categories with books");
-        return categoryRepository.findByCategoriesIsNotEmpty();
+        return categoryRepository.findByBooksIsNotEmpty();
     }
 
     // ========== COUNTING OPERATIONS ==========
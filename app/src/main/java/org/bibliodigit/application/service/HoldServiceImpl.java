@@ -0,0 +1,76 @@
+package org.bibliodigit.application.service;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bibliodigit.application.hold.HoldAllocator;
+import org.bibliodigit.domain.Hold;
+import org.bibliodigit.domain.HoldStatus;
+import org.bibliodigit.domain.User;
+import org.bibliodigit.domain.port.HoldService;
+import org.bibliodigit.repository.BookRepository;
+import org.bibliodigit.repository.HoldRepository;
+import org.bibliodigit.repository.UserRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class HoldServiceImpl implements HoldService {
+
+    private final HoldRepository holdRepository;
+    private final BookRepository bookRepository;
+    private final UserRepository userRepository;
+    private final HoldAllocator holdAllocator;
+
+
+    @Override
+    @Transactional
+    @Timed(value = "bibliodigit.holds", extraTags = {"operation", "place"})
+    public Hold placeHold(Long userId, Long bookId) {
+        log.debug("Placing hold on book {} for user {}", bookId, userId);
+
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
+
+        if (!user.getIsActive()) {
+            throw new RuntimeException("User account is inactive");
+        }
+
+        if (!bookRepository.existsById(bookId)) {
+            throw new RuntimeException("Book not found with id: " + bookId);
+        }
+
+        return holdAllocator.enqueue(user, bookRepository.getReferenceById(bookId), LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional
+    @Timed(value = "bibliodigit.holds", extraTags = {"operation", "cancel"})
+    public Hold cancelHold(Long holdId) {
+        log.debug("Cancelling hold {}", holdId);
+        return holdAllocator.cancel(holdId, LocalDateTime.now());
+    }
+
+    @Override
+    public Optional<Hold> findById(Long id) {
+        return holdRepository.findById(id);
+    }
+
+    @Override
+    public List<Hold> getOpenHoldsForUser(Long userId) {
+        log.debug("Getting open holds for user: {}", userId);
+        return holdRepository.findByUserIdAndStatusInOrderByIdAsc(userId, List.of(HoldStatus.WAITING, HoldStatus.READY));
+    }
+
+    @Override
+    public long getQueuePosition(Hold hold) {
+        return holdAllocator.position(hold);
+    }
+}
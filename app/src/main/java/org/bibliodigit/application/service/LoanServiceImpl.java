@@ -2,14 +2,22 @@ package org.bibliodigit.application.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.bibliodigit.domain.Book;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import org.bibliodigit.application.availability.AvailabilityCounter;
+import org.bibliodigit.application.hold.HoldAllocator;
+import org.bibliodigit.domain.CopyStatus;
+import org.bibliodigit.domain.Loan;
+import org.bibliodigit.domain.LoanBatchResult;
 import org.bibliodigit.domain.LoanStatus;
+import org.bibliodigit.domain.LoanView;
 import org.bibliodigit.domain.Stock;
 import org.bibliodigit.domain.User;
 import org.bibliodigit.domain.port.LoanService;
 import org.bibliodigit.domain.strategy.LoanValidationStrategy;
 import org.bibliodigit.domain.strategy.LoanValidatorFactory;
 import org.bibliodigit.repository.BookRepository;
+import org.bibliodigit.repository.LoanRepository;
 import org.bibliodigit.repository.StockRepository;
 import org.bibliodigit.repository.UserRepository;
 import org.springframework.stereotype.Service;
@@ -17,8 +25,16 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -26,32 +42,37 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class LoanServiceImpl implements LoanService {
 
+    private static final int MAX_BATCH_SIZE = 100;
     
     private final StockRepository stockRepository;
+    private final LoanRepository loanRepository;
     private final BookRepository bookRepository;
     private final UserRepository userRepository;
     private final LoanValidatorFactory validatorFactory;
+    private final AvailabilityCounter availabilityCounter;
+    private final HoldAllocator holdAllocator;
 
 
     @Override
     @Transactional
-    public Stock borrowBook(Long userId, Long bookId) {
+    @Timed(value = "bibliodigit.loans", extraTags = {"operation", "borrow"})
+    @Counted(value = "bibliodigit.loans.operations", extraTags = {"operation", "borrow"})
+    public Loan borrowBook(Long userId, Long bookId) {
         log.debug("Borrowing book {} for user {}", bookId, userId);
 
-        User user = userRepository.findById(userId)
+        User user = userRepository.findByIdForUpdate(userId)
             .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
 
         if (!user.getIsActive()) {
             throw new RuntimeException("User account is inactive");
         }
 
-        Book book = bookRepository.findById(bookId)
-            .orElseThrow(() -> new RuntimeException("Book not found with id: " + bookId));
-
-        Stock stock = stockRepository.findByBookIdAndAvailability(bookId, true)
-            .orElseThrow(() -> new RuntimeException("Book is not available for loan"));
+        if (!bookRepository.existsById(bookId)) {
+            throw new RuntimeException("Book not found with id: " + bookId);
+        }
 
-        Long currentLoans = stockRepository.countActiveLoansForUser(userId);
+        // Con la fila del usuario bloqueada, el conteo no puede quedar desfasado por otro préstamo concurrente
+        Long currentLoans = loanRepository.countActiveLoansForUser(userId);
 
         String userType = user.getTypeUser().getType();
         LoanValidationStrategy validator = validatorFactory.getValidator(userType);
@@ -64,75 +85,238 @@ public class LoanServiceImpl implements LoanService {
         }
 
         LocalDateTime now = LocalDateTime.now();
-        stock.setAvailability(false);
-        stock.setUser(user);
-        stock.setDepartureDate(now);
-        stock.setDeliveryDate(now.plusDays(validator.getMaxDays()));
-        stock.setStatus(LoanStatus.ACTIVE);
 
-        Stock saved = stockRepository.save(stock);
+        // Una reserva READY del usuario se recoge con la copia apartada, no con una de estantería
+        Optional<Stock> reserved = holdAllocator.claim(userId, bookId, now);
+
+        Stock stock = reserved.orElseGet(() -> stockRepository.findFirstByBookIdAndAvailabilityOrderByIdAsc(bookId, true)
+            .orElseThrow(() -> new RuntimeException("Book is not available for loan")));
+
+        Loan loan = loanRepository.save(lend(stock, user, validator, now));
+
+        if (reserved.isPresent()) {
+            availabilityCounter.pickedUp(bookId, 1);
+        } else {
+            availabilityCounter.lent(bookId, 1);
+        }
 
         log.debug("Book {} borrowed successfully by user {}", bookId, userId);
-        return saved;
+        return loan;
     }
 
 
     @Override
     @Transactional
-    public Stock returnBook(Long stockId) {
-        log.debug("Returning book with stock id: {}", stockId);
+    public List<LoanBatchResult> borrowBooks(Long userId, List<Long> bookIds) {
+        log.debug("Batch borrowing {} books for user {}", bookIds.size(), userId);
 
-        Stock stock = stockRepository.findById(stockId)
-            .orElseThrow(() -> new RuntimeException("Loan not found with id: " + stockId));
+        checkBatchSize(bookIds);
 
-        if (stock.getStatus() != LoanStatus.ACTIVE) {
-            throw new RuntimeException("Loan is not active. Current status: " + stock.getStatus());
+        User user = userRepository.findByIdForUpdate(userId)
+            .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
+
+        if (!user.getIsActive()) {
+            throw new RuntimeException("User account is inactive");
         }
 
+        // Usuario, validador y conteo se resuelven una sola vez para todo el lote
+        LoanValidationStrategy validator = validatorFactory.getValidator(user.getTypeUser().getType());
+        int currentLoans = loanRepository.countActiveLoansForUser(userId).intValue();
+
+        Set<Long> existingBooks = bookRepository.findExistingIds(new HashSet<>(bookIds));
+        Map<Long, Stock> firstCopies = existingBooks.isEmpty()
+            ? Map.of()
+            : stockRepository.findFirstAvailableForBooks(existingBooks)
+                .stream()
+                .collect(Collectors.toMap(stock -> stock.getBook().getId(), Function.identity()));
+
         LocalDateTime now = LocalDateTime.now();
-        stock.setActualReturnDate(now);
-        stock.setAvailability(true);
-        stock.setUser(null);
+        List<LoanBatchResult> results = new ArrayList<>(bookIds.size());
+        List<Loan> lent = new ArrayList<>();
+        Set<Loan> pickedUp = new HashSet<>();
+
+        for (Long bookId : bookIds) {
+            if (!existingBooks.contains(bookId)) {
+                results.add(LoanBatchResult.failure(bookId, "Book not found with id: " + bookId));
+                continue;
+            }
+
+            if (!validator.canBorrow(user, currentLoans)) {
+                results.add(LoanBatchResult.failure(bookId, String.format(
+                    "User cannot borrow more books. Max: %d, Current: %d",
+                    validator.getMaxBooks(), currentLoans)));
+                continue;
+            }
+
+            // Igual que borrowBook: una reserva READY se recoge con su copia apartada
+            Optional<Stock> reserved = holdAllocator.claim(userId, bookId, now);
+
+            // Títulos repetidos o copias tomadas por otra transacción caen a la búsqueda individual
+            Stock stock = reserved.orElseGet(() -> firstCopies.containsKey(bookId)
+                ? firstCopies.remove(bookId)
+                : stockRepository.findFirstByBookIdAndAvailabilityOrderByIdAsc(bookId, true).orElse(null));
+
+            if (stock == null) {
+                results.add(LoanBatchResult.failure(bookId, "Book is not available for loan"));
+                continue;
+            }
+
+            Loan loan = lend(stock, user, validator, now);
+            lent.add(loan);
+            if (reserved.isPresent()) {
+                pickedUp.add(loan);
+            }
+            currentLoans++;
+            results.add(LoanBatchResult.success(bookId, loan));
+        }
 
-        if (stock.isOverdue()) {
-            stock.setStatus(LoanStatus.OVERDUE);
-            BigDecimal fine = stock.calculateFine();
-            stock.setFine(fine);
-            log.warn("Book returned late. Fine: ${}", fine);
-        } else {
-            stock.setStatus(LoanStatus.RETURNED);
-            stock.setFine(BigDecimal.ZERO);
+        // Las copias son entidades gestionadas; el flush las agrupa junto con los INSERT de loans
+        loanRepository.saveAll(lent);
+
+        // Las copias apartadas ya salieron de estantería al reservarse: solo pasan a prestadas
+        Map<Boolean, Map<Long, Long>> copiesByBook = lent.stream()
+            .collect(Collectors.partitioningBy(pickedUp::contains,
+                Collectors.groupingBy(loan -> loan.getBook().getId(), Collectors.counting())));
+
+        copiesByBook.get(false).forEach((bookId, copies) -> availabilityCounter.lent(bookId, copies.intValue()));
+        copiesByBook.get(true).forEach((bookId, copies) -> availabilityCounter.pickedUp(bookId, copies.intValue()));
+
+        log.debug("Batch borrow for user {}: {} of {} books lent", userId, lent.size(), bookIds.size());
+        return results;
+    }
+
+
+    @Override
+    @Transactional
+    @Timed(value = "bibliodigit.loans", extraTags = {"operation", "return"})
+    @Counted(value = "bibliodigit.loans.operations", extraTags = {"operation", "return"})
+    public Loan returnBook(Long loanId) {
+        log.debug("Returning loan with id: {}", loanId);
+
+        Loan loan = loanRepository.findByIdForUpdate(loanId)
+            .orElseThrow(() -> new RuntimeException("Loan not found with id: " + loanId));
+
+        if (!loan.isOnLoan()) {
+            throw new RuntimeException("Loan is not active. Current status: " + loan.getStatus());
         }
 
-        Stock saved = stockRepository.save(stock);
+        boolean wasOverdue = loan.getStatus() == LoanStatus.OVERDUE;
+        LocalDateTime now = LocalDateTime.now();
+
+        Stock stock = stockRepository.findByIdForUpdate(loan.getStock().getId())
+            .orElseThrow(() -> new RuntimeException("Copy not found for loan: " + loanId));
+        receive(loan, now);
+
+        // Cola antes que agregado, como en claim y enqueue: con el orden inverso una devolución
+        // y una recogida del mismo título se bloquean mutuamente
+        boolean held = receiveCopy(stock, now);
+
+        availabilityCounter.returned(loan.getBook().getId(), 1, wasOverdue ? 1 : 0, held ? 1 : 0);
 
         log.debug("Book returned successfully. Status: {}, Fine: ${}", 
-            saved.getStatus(), saved.getFine());
-        return saved;
+            loan.getStatus(), loan.getFine());
+        return loan;
+    }
+
+
+    @Override
+    @Transactional
+    public List<LoanBatchResult> returnBooks(List<Long> loanIds) {
+        log.debug("Batch returning {} loans", loanIds.size());
+
+        checkBatchSize(loanIds);
+
+        Map<Long, Loan> loans = loanRepository.findAllByIdForUpdate(new HashSet<>(loanIds))
+            .stream()
+            .collect(Collectors.toMap(Loan::getId, Function.identity()));
+
+        // Copias de los préstamos abiertos, bloqueadas en orden de id como en el préstamo por lote
+        Set<Long> copyIds = loans.values().stream()
+            .filter(Loan::isOnLoan)
+            .map(loan -> loan.getStock().getId())
+            .collect(Collectors.toSet());
+
+        Map<Long, Stock> copies = copyIds.isEmpty()
+            ? Map.of()
+            : stockRepository.findAllByIdForUpdate(copyIds)
+                .stream()
+                .collect(Collectors.toMap(Stock::getId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<LoanBatchResult> results = new ArrayList<>(loanIds.size());
+        List<Loan> returned = new ArrayList<>();
+        Set<Long> wereOverdue = new HashSet<>();
+
+        for (Long loanId : loanIds) {
+            Loan loan = loans.get(loanId);
+
+            if (loan == null) {
+                results.add(LoanBatchResult.failure(loanId, "Loan not found with id: " + loanId));
+                continue;
+            }
+
+            if (!loan.isOnLoan()) {
+                results.add(LoanBatchResult.failure(loanId,
+                    "Loan is not active. Current status: " + loan.getStatus()));
+                continue;
+            }
+
+            if (loan.getStatus() == LoanStatus.OVERDUE) {
+                wereOverdue.add(loanId);
+            }
+
+            receive(loan, now);
+            returned.add(loan);
+            results.add(LoanBatchResult.success(loanId, loan));
+        }
+
+        // Primero todas las colas, en orden de libro como las copias; después un delta neto por libro
+        Map<Long, List<Loan>> byBook = returned.stream()
+            .collect(Collectors.groupingBy(loan -> loan.getBook().getId(), TreeMap::new, Collectors.toList()));
+        Map<Long, Integer> held = new HashMap<>();
+
+        byBook.forEach((bookId, bookLoans) -> bookLoans.forEach(loan -> {
+            if (receiveCopy(copies.get(loan.getStock().getId()), now)) {
+                held.merge(bookId, 1, Integer::sum);
+            }
+        }));
+
+        byBook.forEach((bookId, bookLoans) -> availabilityCounter.returned(bookId, bookLoans.size(),
+            (int) bookLoans.stream().filter(loan -> wereOverdue.contains(loan.getId())).count(),
+            held.getOrDefault(bookId, 0)));
+
+        log.debug("Batch return: {} of {} loans returned", returned.size(), loanIds.size());
+        return results;
     }
 
 
     @Override
-    public List<Stock> getActiveLoansForUser(Long userId) {
+    public List<LoanView> getActiveLoansForUser(Long userId) {
         log.debug("Getting active loans for user: {}", userId);
-        return stockRepository.findByUserIdAndStatus(userId, LoanStatus.ACTIVE);
+        return loanRepository.findOpenLoanViewsByUserId(userId);
     }
 
     @Override
-    public List<Stock> getLoanHistoryForUser(Long userId) {
+    public List<LoanView> getLoanHistoryForUser(Long userId) {
         log.debug("Getting loan history for user: {}", userId);
-        return stockRepository.findByUserId(userId);
+        return loanRepository.findLoanViewsByUserId(userId);
     }
 
     @Override
-    public List<Stock> getOverdueLoans() {
+    public List<LoanView> getLoanHistoryForUser(Long userId, LocalDateTime from, LocalDateTime to) {
+        log.debug("Getting loan history for user {} between {} and {}", userId, from, to);
+        return loanRepository.findLoanViewsByUserIdBetween(userId, from, to);
+    }
+
+    @Override
+    public List<LoanView> getOverdueLoans() {
         log.debug("Getting overdue loans");
-        return stockRepository.findOverdueLoans(LocalDateTime.now());
+        return loanRepository.findOverdueLoanViews();
     }
 
     @Override
-    public Optional<Stock> findById(Long id) {
-        return stockRepository.findById(id);
+    public Optional<Loan> findById(Long id) {
+        return loanRepository.findById(id);
     }
 
 
@@ -145,7 +329,7 @@ public class LoanServiceImpl implements LoanService {
             return false;
         }
 
-        Long currentLoans = stockRepository.countActiveLoansForUser(userId);
+        Long currentLoans = loanRepository.countActiveLoansForUser(userId);
         LoanValidationStrategy validator = validatorFactory.getValidator(user.getTypeUser().getType());
 
         return validator.canBorrow(user, currentLoans.intValue());
@@ -153,15 +337,63 @@ public class LoanServiceImpl implements LoanService {
 
     @Override
     public Long countActiveLoansForUser(Long userId) {
-        return stockRepository.countActiveLoansForUser(userId);
+        return loanRepository.countActiveLoansForUser(userId);
     }
 
 
     @Override
-    public BigDecimal calculateFine(Long stockId) {
-        Stock stock = stockRepository.findById(stockId)
+    public BigDecimal calculateFine(Long loanId) {
+        Loan loan = loanRepository.findById(loanId)
             .orElseThrow(() -> new RuntimeException("Loan not found"));
 
-        return stock.calculateFine();
+        return loan.calculateFine();
+    }
+
+
+    private void checkBatchSize(List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_BATCH_SIZE) {
+            throw new RuntimeException("Batch size must be between 1 and " + MAX_BATCH_SIZE);
+        }
+    }
+
+    private Loan lend(Stock stock, User user, LoanValidationStrategy validator, LocalDateTime now) {
+        stock.setAvailability(false);
+        stock.setStatus(CopyStatus.ON_LOAN);
+
+        return Loan.builder()
+            .stock(stock)
+            .book(stock.getBook())
+            .user(user)
+            .departureDate(now)
+            .deliveryDate(now.plusDays(validator.getMaxDays()))
+            .status(LoanStatus.ACTIVE)
+            .build();
+    }
+
+    // Con reservas en espera la copia no vuelve a estantería: queda apartada para la primera
+    private boolean receiveCopy(Stock stock, LocalDateTime now) {
+        if (holdAllocator.allocate(stock, now).isPresent()) {
+            return true;
+        }
+
+        stock.setAvailability(true);
+        stock.setStatus(CopyStatus.AVAILABLE);
+        return false;
+    }
+
+    private void receive(Loan loan, LocalDateTime now) {
+        boolean late = loan.isOverdue();
+
+        loan.setActualReturnDate(now);
+
+        if (late) {
+            loan.setStatus(LoanStatus.OVERDUE);
+            BigDecimal fine = loan.calculateFine();
+            loan.setFine(fine);
+            log.warn("Book returned late. Fine: ${}", fine);
+        } else {
+            loan.setStatus(LoanStatus.RETURNED);
+            loan.setFine(BigDecimal.ZERO);
+        }
     }
 }
@@ -2,7 +2,9 @@ package org.bibliodigit.application.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bibliodigit.application.cache.ReferenceCache;
 import org.bibliodigit.domain.TypeUser;
+import org.bibliodigit.domain.TypeUserView;
 import org.bibliodigit.domain.port.TypeUserService;
 import org.bibliodigit.repository.TypeUserRepository;
 import org.springframework.stereotype.Service;
@@ -15,9 +17,10 @@ import java.util.Optional;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-public class TypeUserServiceImpl implements TypeUserService {
+public class TypeUserServiceImp implements TypeUserService {
 
     private final TypeUserRepository typeUserRepository;
+    private final ReferenceCache referenceCache;
 
     @Override
     public List<TypeUser> findAll() {
@@ -41,7 +44,10 @@ public class TypeUserServiceImpl implements TypeUserService {
     @Transactional
     public TypeUser save(TypeUser typeUser) {
         log.debug("Saving type user: {}", typeUser.getType());
-        return typeUserRepository.save(typeUser);
+
+        TypeUser saved = typeUserRepository.save(typeUser);
+        referenceCache.evict(TypeUser.class, saved.getId());
+        return saved;
     }
 
     @Override
@@ -60,7 +66,9 @@ public class TypeUserServiceImpl implements TypeUserService {
             .description(description)
             .build();
 
-        return typeUserRepository.save(typeUser);
+        TypeUser saved = typeUserRepository.save(typeUser);
+        referenceCache.evictQueries();
+        return saved;
     }
 
     @Override
@@ -86,7 +94,9 @@ public class TypeUserServiceImpl implements TypeUserService {
                     existingTypeUser.setDescription(typeUserData.getDescription());
                 }
 
-                return typeUserRepository.save(existingTypeUser);
+                TypeUser saved = typeUserRepository.save(existingTypeUser);
+                referenceCache.evict(TypeUser.class, id);
+                return saved;
             })
             .orElseThrow(() -> new RuntimeException("Type user not found with id: " + id));
     }
@@ -99,14 +109,17 @@ public class TypeUserServiceImpl implements TypeUserService {
         TypeUser typeUser = typeUserRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Type user not found with id: " + id));
 
-        if (typeUser.getUsers() != null && !typeUser.getUsers().isEmpty()) {
+        long users = typeUserRepository.countUsers(id);
+
+        if (users > 0) {
             throw new RuntimeException(
                 String.format("Cannot delete type user '%s'. It has %d associated users.", 
-                    typeUser.getType(), typeUser.getUsers().size())
+                    typeUser.getType(), users)
             );
         }
 
         typeUserRepository.deleteById(id);
+        referenceCache.evict(TypeUser.class, id);
     }
 
     @Override
@@ -114,4 +127,29 @@ public class TypeUserServiceImpl implements TypeUserService {
         log.debug("Checking if type user exists: {}", type);
         return typeUserRepository.existsByType(type.toUpperCase());
     }
+
+    // ========== USER COUNTS ==========
+
+    @Override
+    public List<TypeUserView> findAllWithUserCount() {
+        log.debug("Finding all type users with user count");
+        return typeUserRepository.findAllViews();
+    }
+
+    @Override
+    public Optional<TypeUserView> findViewById(Long id) {
+        log.debug("Finding type user view by id: {}", id);
+        return typeUserRepository.findViewById(id);
+    }
+
+    @Override
+    public Optional<TypeUserView> findViewByType(String type) {
+        log.debug("Finding type user view by type: {}", type);
+        return typeUserRepository.findViewByType(type.toUpperCase());
+    }
+
+    @Override
+    public long countUsers(Long typeUserId) {
+        return typeUserRepository.countUsers(typeUserId);
+    }
 }
@@ -2,17 +2,21 @@ package org.bibliodigit.application.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import org.bibliodigit.domain.AuthPrincipal;
+import org.bibliodigit.domain.AuthSession;
 import org.bibliodigit.domain.TypeUser;
 import org.bibliodigit.domain.User;
 import org.bibliodigit.domain.port.UserService;
 import org.bibliodigit.repository.TypeUserRepository;
 import org.bibliodigit.repository.UserRepository;
-import org.bibliodigit.util.PasswordUtil;
-import org.bibliodigit.util.TokenUtil;
+import org.bibliodigit.security.PasswordHasher;
+import org.bibliodigit.security.TokenStrategy;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,37 +28,52 @@ public class UserServiceImp implements UserService {
 
     private final UserRepository userRepository;
     private final TypeUserRepository typeUserRepository;
+    private final TokenStrategy tokenStrategy;
+    private final PasswordHasher passwordHasher;
 
 
+    // Sin transacción envolvente: no se retiene una conexión del pool mientras se calcula el hash
     @Override
-    @Transactional
-    public User login(String email, String password) {
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @Timed(value = "bibliodigit.auth", extraTags = {"operation", "login"})
+    @Counted(value = "bibliodigit.auth.logins")
+    public AuthSession login(String email, String password) {
         log.debug("Login attempt for email: {}", email);
 
-        User user = userRepository.findByEmail(email)
-            .orElseThrow(() -> new RuntimeException("Invalid email or password"));
+        Optional<User> found = userRepository.findByEmail(email);
 
-        if (!user.getIsActive()) {
-            throw new RuntimeException("User account is inactive");
+        if (found.isEmpty()) {
+            // Se calcula un hash igual: el tiempo de respuesta no revela qué correos están registrados
+            passwordHasher.verifyDummy(password);
+            throw new RuntimeException("Invalid email or password");
         }
 
-        if (!PasswordUtil.verifyPassword(password, user.getPassword())) {
+        User user = found.get();
+
+        if (!passwordHasher.verify(password, user.getPassword())) {
             throw new RuntimeException("Invalid email or password");
         }
 
-        String token = TokenUtil.generateToken();
-        user.setAuthToken(token);
-        user.setTokenCreatedAt(LocalDateTime.now());
+        // Solo tras la contraseña correcta: el mensaje no sirve para sondear cuentas
+        if (!user.getIsActive()) {
+            throw new RuntimeException("User account is inactive");
+        }
+
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            log.debug("Rehashing password for user: {}", user.getId());
+            user.setPassword(passwordHasher.hash(password));
+            user = userRepository.save(user);
+        }
 
-        userRepository.save(user);
+        String token = tokenStrategy.issue(user);
 
         log.debug("Login successful for user: {}", email);
-        return user;
+        return new AuthSession(user, token);
     }
 
     @Override
-    @Transactional
-    public User register(String name, String email, String password, Long typeUserId) {
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public AuthSession register(String name, String email, String password, Long typeUserId) {
         log.debug("Registration attempt for email: {}", email);
 
         if (userRepository.existsByEmail(email)) {
@@ -67,62 +86,43 @@ public class UserServiceImp implements UserService {
         User user = User.builder()
             .name(name)
             .email(email)
-            .password(PasswordUtil.hashPassword(password))
+            .password(passwordHasher.hash(password))
             .typeUser(typeUser)
             .isActive(true)
             .build();
 
         User saved = userRepository.save(user);
 
-        String token = TokenUtil.generateToken();
-        saved.setAuthToken(token);
-        saved.setTokenCreatedAt(LocalDateTime.now());
-
-        userRepository.save(saved);
+        String token = tokenStrategy.issue(saved);
 
         log.debug("Registration successful for user: {}", email);
-        return saved;
+        return new AuthSession(saved, token);
     }
 
     @Override
     @Transactional
     public void logout(String token) {
         log.debug("Logout attempt with token");
-
-        userRepository.findByAuthToken(token)
-            .ifPresent(user -> {
-                user.setAuthToken(null);
-                user.setTokenCreatedAt(null);
-                userRepository.save(user);
-                log.debug("Logout successful for user: {}", user.getEmail());
-            });
+        tokenStrategy.revoke(token);
     }
 
     @Override
+    @Timed(value = "bibliodigit.auth", extraTags = {"operation", "validate-token"})
     public Optional<User> validateToken(String token) {
-        if (token == null || token.isEmpty()) {
-            return Optional.empty();
-        }
-
-        Optional<User> userOpt = userRepository.findByAuthToken(token);
-
-        if (userOpt.isEmpty()) {
-            return Optional.empty();
-        }
-
-        User user = userOpt.get();
-
-        if (!user.getIsActive()) {
-            return Optional.empty();
-        }
+        return authenticate(token)
+            .flatMap(principal -> userRepository.findById(principal.getUserId()));
+    }
 
-        LocalDateTime expirationTime = user.getTokenCreatedAt().plusHours(24);
-        if (LocalDateTime.now().isAfter(expirationTime)) {
-            log.debug("Token expired for user: {}", user.getEmail());
+    // Sin transacción: un acierto en caché o un token firmado no deben tomar una conexión del pool.
+    // El tiempo se mide en TokenStrategy.authenticate, que se llama por el proxy también desde validateToken
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<AuthPrincipal> authenticate(String token) {
+        if (token == null || token.isEmpty()) {
             return Optional.empty();
         }
 
-        return Optional.of(user);
+        return tokenStrategy.authenticate(token);
     }
 
 
@@ -160,20 +160,31 @@ public class UserServiceImp implements UserService {
                     existingUser.setEmail(userData.getEmail());
                 }
 
+                boolean credentialsChanged = false;
+
                 if (userData.getTypeUser() != null && 
                     !userData.getTypeUser().getId().equals(existingUser.getTypeUser().getId())) {
                     
                     TypeUser newTypeUser = typeUserRepository.findById(userData.getTypeUser().getId())
                         .orElseThrow(() -> new RuntimeException("Type user not found"));
                     existingUser.setTypeUser(newTypeUser);
+                    credentialsChanged = true;
                 }
 
                 if (userData.getPassword() != null && !userData.getPassword().isEmpty()) {
-                    existingUser.setPassword(PasswordUtil.hashPassword(userData.getPassword()));
+                    existingUser.setPassword(passwordHasher.hash(userData.getPassword()));
+                    credentialsChanged = true;
                 }
 
-                if (userData.getIsActive() != null) {
+                if (userData.getIsActive() != null && !userData.getIsActive().equals(existingUser.getIsActive())) {
                     existingUser.setIsActive(userData.getIsActive());
+                    credentialsChanged = true;
+                }
+
+                // Rol, estado o contraseña cambiados: los tokens emitidos dejan de valer.
+                // Las cachés de sesión y de versiones se descartan al confirmar la transacción
+                if (credentialsChanged) {
+                    tokenStrategy.revokeUser(id);
                 }
 
                 return userRepository.save(existingUser);
@@ -191,6 +202,7 @@ public class UserServiceImp implements UserService {
         }
 
         userRepository.deleteById(id);
+        tokenStrategy.revokeUser(id);
     }
 
     @Override
@@ -225,6 +237,8 @@ public class UserServiceImp implements UserService {
             user.setAuthToken(null);
             user.setTokenCreatedAt(null);
         }
+
+        tokenStrategy.revokeUser(id);
         
         return userRepository.save(user);
     }
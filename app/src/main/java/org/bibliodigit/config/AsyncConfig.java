@@ -0,0 +1,10 @@
+package org.bibliodigit.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+// Con spring.threads.virtual.enabled=true el executor de @Async usa hilos virtuales
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
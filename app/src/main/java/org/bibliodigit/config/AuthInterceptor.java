@@ -4,7 +4,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.bibliodigit.domain.User;
+import org.bibliodigit.domain.AuthPrincipal;
 import org.bibliodigit.domain.port.UserService;
 import org.bibliodigit.security.RequireRole;
 import org.springframework.stereotype.Component;
@@ -42,9 +42,9 @@ public class AuthInterceptor implements HandlerInterceptor {
             token = token.substring(7);
         }
 
-        Optional<User> userOpt = userService.validateToken(token);
+        Optional<AuthPrincipal> principalOpt = userService.authenticate(token);
 
-        if (userOpt.isEmpty()) {
+        if (principalOpt.isEmpty()) {
             log.warn("Invalid or missing token");
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             response.setContentType("application/json");
@@ -52,15 +52,15 @@ public class AuthInterceptor implements HandlerInterceptor {
             return false;
         }
 
-        User user = userOpt.get();
-        String userRole = user.getTypeUser().getType();
+        AuthPrincipal principal = principalOpt.get();
+        String userRole = principal.getRole();
 
         String[] allowedRoles = requireRole.value();
         boolean hasPermission = Arrays.asList(allowedRoles).contains(userRole);
 
         if (!hasPermission) {
             log.warn("User {} with role {} tried to access protected resource requiring roles: {}", 
-                user.getEmail(), userRole, Arrays.toString(allowedRoles));
+                principal.getUserId(), userRole, Arrays.toString(allowedRoles));
             
             response.setStatus(HttpServletResponse.SC_FORBIDDEN);
             response.setContentType("application/json");
@@ -70,11 +70,11 @@ public class AuthInterceptor implements HandlerInterceptor {
             return false;
         }
 
-        request.setAttribute("currentUser", user);
-        request.setAttribute("currentUserId", user.getId());
+        request.setAttribute("currentUser", principal);
+        request.setAttribute("currentUserId", principal.getUserId());
         request.setAttribute("currentUserRole", userRole);
         
-        log.debug("Authenticated user: {} with role: {}", user.getEmail(), userRole);
+        log.debug("Authenticated user: {} with role: {}", principal.getUserId(), userRole);
         return true;
     }
 }
@@ -0,0 +1,51 @@
+package org.bibliodigit.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// Cache-Control por tipo de recurso; max-age=0 obliga a revalidar siempre con el ETag
+@Component
+public class HttpCachePolicy {
+
+    private final CacheControl books;
+    private final CacheControl authors;
+    private final CacheControl categories;
+
+    public HttpCachePolicy(
+            @Value("${http.cache.books.max-age:60}") long booksMaxAge,
+            @Value("${http.cache.authors.max-age:300}") long authorsMaxAge,
+            @Value("${http.cache.categories.max-age:3600}") long categoriesMaxAge,
+            @Value("${http.cache.stale-while-revalidate:30}") long staleWhileRevalidate) {
+
+        this.books = build(booksMaxAge, staleWhileRevalidate);
+        this.authors = build(authorsMaxAge, staleWhileRevalidate);
+        this.categories = build(categoriesMaxAge, staleWhileRevalidate);
+    }
+
+    public CacheControl books() {
+        return books;
+    }
+
+    public CacheControl authors() {
+        return authors;
+    }
+
+    public CacheControl categories() {
+        return categories;
+    }
+
+    private static CacheControl build(long maxAge, long staleWhileRevalidate) {
+        if (maxAge <= 0) {
+            return CacheControl.noCache();
+        }
+
+        CacheControl control = CacheControl.maxAge(Duration.ofSeconds(maxAge)).cachePublic();
+
+        return staleWhileRevalidate > 0
+            ? control.staleWhileRevalidate(Duration.ofSeconds(staleWhileRevalidate))
+            : control;
+    }
+}
@@ -0,0 +1,38 @@
+package org.bibliodigit.config;
+
+import io.micrometer.core.aop.CountedAspect;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.bibliodigit.application.cache.CatalogCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// @Timed/@Counted en los servicios; Hikari, Hibernate y las cachés de Caffeine los publica Spring Boot
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Bean
+    public CountedAspect countedAspect(MeterRegistry registry) {
+        return new CountedAspect(registry);
+    }
+
+    // cache_gets_total ya distingue hit/miss; el ratio acumulado evita calcularlo en cada panel
+    @Bean
+    public MeterBinder catalogCacheHitRatio(CatalogCache catalogCache) {
+        return registry -> catalogCache.stats().keySet().forEach(name ->
+            Gauge.builder("bibliodigit.cache.hit.ratio", catalogCache, cache -> {
+                    var stats = cache.stats().get(name);
+                    return stats != null ? stats.hitRate() : Double.NaN;
+                })
+                .tag("cache", name)
+                .description("Cache hit ratio since startup")
+                .register(registry));
+    }
+}
@@ -0,0 +1,59 @@
+package org.bibliodigit.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+// Envuelve el DataSource (Hikari) con datasource-proxy; unwrap() sigue llegando a Hikari para métricas y salud
+@Component
+public class SlowQueryDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final boolean enabled;
+    private final long thresholdMs;
+    private final double sampleRate;
+    private final ObjectProvider<MeterRegistry> registry;
+
+    public SlowQueryDataSourcePostProcessor(
+            @Value("${sql.slow-query.enabled:true}") boolean enabled,
+            @Value("${sql.slow-query.threshold:500}") long thresholdMs,
+            @Value("${sql.slow-query.sample-rate:1.0}") double sampleRate,
+            ObjectProvider<MeterRegistry> registry) {
+
+        this.enabled = enabled;
+        this.thresholdMs = thresholdMs;
+        this.sampleRate = sampleRate;
+        this.registry = registry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        // Solo los pools reales: un DataSource que delega (enrutado a réplicas) ya pasa por ellos
+        if (!(bean instanceof DataSource dataSource)
+                || bean instanceof DelegatingDataSource
+                || bean instanceof AbstractRoutingDataSource) {
+            return bean;
+        }
+
+        return wrap(dataSource, beanName);
+    }
+
+    // También para pools que no son beans (réplicas de lectura); el nombre identifica el pool en el log
+    public DataSource wrap(DataSource dataSource, String name) {
+        if (!enabled || dataSource instanceof ProxyDataSource) {
+            return dataSource;
+        }
+
+        return ProxyDataSourceBuilder.create(dataSource)
+            .name(name)
+            .listener(new SlowQueryListener(thresholdMs, sampleRate, registry::getIfAvailable))
+            .build();
+    }
+}
@@ -0,0 +1,93 @@
+package org.bibliodigit.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// Solo las sentencias por encima del umbral se formatean y se escriben; el resto cuesta una comparación
+@Slf4j(topic = "SLOW_SQL")
+public class SlowQueryListener implements QueryExecutionListener {
+
+    // En un batch de 50 filas basta con ver las primeras para reproducir la consulta
+    private static final int MAX_PARAMETER_SETS = 5;
+
+    private final long thresholdMs;
+    private final double sampleRate;
+    private final Supplier<MeterRegistry> registry;
+
+    public SlowQueryListener(long thresholdMs, double sampleRate, Supplier<MeterRegistry> registry) {
+        this.thresholdMs = thresholdMs;
+        this.sampleRate = sampleRate;
+        this.registry = registry;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = execInfo.getElapsedTime();
+
+        if (elapsed < thresholdMs) {
+            return;
+        }
+
+        MeterRegistry meters = registry.get();
+        if (meters != null) {
+            meters.counter("bibliodigit.sql.slow").increment();
+        }
+
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+
+        log.atWarn()
+            .addKeyValue("elapsed_ms", elapsed)
+            .addKeyValue("datasource", execInfo.getDataSourceName())
+            .addKeyValue("batch_size", execInfo.getBatchSize())
+            .addKeyValue("success", execInfo.isSuccess())
+            .log("Slow query ({} ms): {}", elapsed, describe(queryInfoList));
+    }
+
+    static String describe(List<QueryInfo> queryInfoList) {
+        return queryInfoList.stream()
+            .map(SlowQueryListener::describe)
+            .collect(Collectors.joining("; "));
+    }
+
+    private static String describe(QueryInfo queryInfo) {
+        List<List<ParameterSetOperation>> parameterSets = queryInfo.getParametersList();
+
+        if (parameterSets.isEmpty()) {
+            return queryInfo.getQuery();
+        }
+
+        String parameters = parameterSets.stream()
+            .limit(MAX_PARAMETER_SETS)
+            .map(SlowQueryListener::describeParameters)
+            .collect(Collectors.joining(", "));
+
+        if (parameterSets.size() > MAX_PARAMETER_SETS) {
+            parameters += ", ... (" + parameterSets.size() + " sets)";
+        }
+
+        return queryInfo.getQuery() + " " + parameters;
+    }
+
+    private static String describeParameters(List<ParameterSetOperation> operations) {
+        return operations.stream()
+            .map(operation -> "setNull".equals(operation.getMethod().getName())
+                ? "NULL"
+                : String.valueOf(operation.getArgs()[1]))
+            .collect(Collectors.joining(",", "[", "]"));
+    }
+}
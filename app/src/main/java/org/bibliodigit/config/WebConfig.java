@@ -1,6 +1,7 @@
 package org.bibliodigit.config;
 
 import lombok.RequiredArgsConstructor;
+import org.bibliodigit.config.ratelimit.RateLimitInterceptor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -10,9 +11,15 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebConfig implements WebMvcConfigurer {
 
     private final AuthInterceptor authInterceptor;
+    private final RateLimitInterceptor rateLimitInterceptor;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        // Primero: una petición rechazada no llega a validar el token contra la BD
+        registry.addInterceptor(rateLimitInterceptor)
+            .addPathPatterns("/api/**")
+            .excludePathPatterns("/api/health");
+
         registry.addInterceptor(authInterceptor)
             .addPathPatterns("/api/**")
             .excludePathPatterns(
@@ -0,0 +1,146 @@
+package org.bibliodigit.config.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.bibliodigit.domain.AuthPrincipal;
+import org.bibliodigit.security.TokenSessionCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Va antes que AuthInterceptor y cubre también las rutas públicas. Dos límites por petición:
+ * uno por IP para toda la API (quien cambia de token en cada petición no esquiva el límite)
+ * y el de la primera regla de ruta que coincide, por usuario si la sesión ya está validada o por IP.
+ */
+@Slf4j
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final boolean enabled;
+    private final TokenSessionCache sessionCache;
+    private final RateLimiter perIp;
+    private final Counter perIpRejected;
+    private final List<RateLimiter> routes = new ArrayList<>();
+    private final List<Counter> routesRejected = new ArrayList<>();
+
+    public RateLimitInterceptor(
+            @Value("${ratelimit.enabled:true}") boolean enabled,
+            @Value("${ratelimit.per-ip:200/1s}") String perIpLimit,
+            @Value("${ratelimit.routes:}") String routeRules,
+            @Value("${ratelimit.max-keys:100000}") int maxKeys,
+            TokenSessionCache sessionCache,
+            MeterRegistry registry) {
+
+        this.enabled = enabled;
+        this.sessionCache = sessionCache;
+
+        this.perIp = new RateLimiter(RateLimitRule.limit("/**", perIpLimit), maxKeys);
+        this.perIpRejected = rejectedCounter(registry, "per-ip");
+
+        for (RateLimitRule rule : RateLimitRule.parseAll(routeRules)) {
+            routes.add(new RateLimiter(rule, maxKeys));
+            routesRejected.add(rejectedCounter(registry, rule.route()));
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        if (!enabled) {
+            return true;
+        }
+
+        long now = System.nanoTime();
+        // Detrás de un proxy: server.forward-headers-strategy, nunca X-Forwarded-For leído a mano
+        String ip = request.getRemoteAddr();
+
+        long wait = perIp.tryAcquire(ip, now);
+        if (wait > 0) {
+            perIpRejected.increment();
+            return reject(response, wait, "per-ip", ip);
+        }
+
+        PathContainer path = ServletRequestPathUtils.hasParsedRequestPath(request)
+            ? ServletRequestPathUtils.getParsedRequestPath(request).pathWithinApplication()
+            : PathContainer.parsePath(request.getRequestURI());
+
+        for (int i = 0; i < routes.size(); i++) {
+            RateLimiter route = routes.get(i);
+            if (!route.getRule().matches(path)) {
+                continue;
+            }
+
+            String client = clientKey(request, ip);
+            wait = route.tryAcquire(client, now);
+            if (wait > 0) {
+                routesRejected.get(i).increment();
+                return reject(response, wait, route.getRule().route(), ip);
+            }
+            return true;
+        }
+
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${ratelimit.purge-interval:60000}")
+    public void purgeIdle() {
+        long now = System.nanoTime();
+        int purged = perIp.purgeIdle(now);
+
+        for (RateLimiter route : routes) {
+            purged += route.purgeIdle(now);
+        }
+
+        log.debug("Purged {} idle rate limit buckets", purged);
+    }
+
+    // Usuario solo si la sesión ya está validada en caché (sus sesiones comparten límite). Un token
+    // desconocido cuenta como la IP: inventar tokens no da buckets nuevos ni llena el mapa
+    private String clientKey(HttpServletRequest request, String ip) {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+        if (authorization == null || authorization.isBlank()) {
+            return "ip:" + ip;
+        }
+
+        String token = authorization.startsWith("Bearer ") ? authorization.substring(7) : authorization;
+        Optional<AuthPrincipal> principal = sessionCache.get(token);
+
+        return principal.isPresent() ? "user:" + principal.get().getUserId() : "ip:" + ip;
+    }
+
+    private boolean reject(HttpServletResponse response, long waitNanos, String limit, String ip) throws Exception {
+        // Retry-After va en segundos enteros: se redondea hacia arriba para no invitar a reintentar antes de tiempo
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+
+        log.debug("Rate limit {} exceeded from {}, retry in {}s", limit, ip, retryAfter);
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType("application/json");
+        response.getWriter().write(
+            String.format("{\"error\": \"Too Many Requests - retry in %d s\"}", retryAfter)
+        );
+        return false;
+    }
+
+    private static Counter rejectedCounter(MeterRegistry registry, String limit) {
+        return Counter.builder("bibliodigit.ratelimit.rejected")
+            .tag("limit", limit)
+            .description("Requests rejected with 429 by the rate limiter")
+            .register(registry);
+    }
+}
@@ -0,0 +1,52 @@
+package org.bibliodigit.config.ratelimit;
+
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+// Límite de una ruta: "/api/books/search/**=20/1s" son 20 peticiones por segundo con ráfaga de 20
+public record RateLimitRule(String route, PathPattern pattern, int permits, Duration period) {
+
+    public static List<RateLimitRule> parseAll(String rules) {
+        return Arrays.stream(rules.split(","))
+            .map(String::trim)
+            .filter(rule -> !rule.isEmpty())
+            .map(RateLimitRule::parse)
+            .toList();
+    }
+
+    public static RateLimitRule parse(String rule) {
+        int separator = rule.lastIndexOf('=');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid rate limit rule, expected <route>=<permits>/<period>: " + rule);
+        }
+
+        String route = rule.substring(0, separator).trim();
+        return limit(route, rule.substring(separator + 1).trim());
+    }
+
+    // "200/1s" sin ruta: el límite por IP
+    public static RateLimitRule limit(String route, String limit) {
+        String[] parts = limit.split("/");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid rate limit, expected <permits>/<period>: " + limit);
+        }
+
+        int permits = Integer.parseInt(parts[0].trim());
+        Duration period = DurationStyle.detectAndParse(parts[1].trim());
+        if (permits <= 0 || period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("Rate limit must allow at least one request per positive period: " + limit);
+        }
+
+        return new RateLimitRule(route, PathPatternParser.defaultInstance.parse(route), permits, period);
+    }
+
+    public boolean matches(PathContainer path) {
+        return pattern.matches(path);
+    }
+}
@@ -0,0 +1,44 @@
+package org.bibliodigit.config.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+
+// Un bucket por clave para una regla. La memoria la acota maxKeys; purgeIdle quita los buckets llenos
+public class RateLimiter {
+
+    @Getter
+    private final RateLimitRule rule;
+    // Lleno, W-TinyLFU desaloja las claves poco usadas: un cliente activo conserva su bucket
+    // aunque lleguen miles de claves nuevas, y ningún cliente comparte bucket con otro
+    private final Cache<String, TokenBucket> buckets;
+
+    public RateLimiter(RateLimitRule rule, int maxKeys) {
+        this.rule = rule;
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(maxKeys)
+            .executor(Runnable::run)
+            .build();
+    }
+
+    // 0 si concede la petición; si no, nanos hasta la siguiente ficha de esa clave
+    public long tryAcquire(String key, long now) {
+        return buckets.get(key, k -> newBucket(now)).tryAcquire(now);
+    }
+
+    // Un hilo que ya tenía el bucket purgado puede gastar una ficha de más; el límite no se rompe de forma apreciable
+    public int purgeIdle(long now) {
+        long before = buckets.estimatedSize();
+        buckets.asMap().values().removeIf(bucket -> bucket.isFull(now));
+        return (int) (before - buckets.estimatedSize());
+    }
+
+    public long size() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+
+    private TokenBucket newBucket(long now) {
+        return new TokenBucket(rule.permits(), rule.period().toNanos(), now);
+    }
+}
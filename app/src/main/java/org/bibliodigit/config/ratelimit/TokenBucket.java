@@ -0,0 +1,43 @@
+package org.bibliodigit.config.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket en su forma GCRA: en vez de contar fichas se guarda el instante teórico (nanos)
+ * en que el bucket vuelve a estar lleno. Todo el estado es un AtomicLong y se actualiza por CAS.
+ */
+public class TokenBucket {
+
+    // Nanos para reponer una ficha
+    private final long interval;
+    // Ráfaga máxima expresada en tiempo: capacity * interval
+    private final long burst;
+    private final AtomicLong fullAt;
+
+    public TokenBucket(int capacity, long periodNanos, long now) {
+        this.interval = Math.max(1, periodNanos / capacity);
+        this.burst = interval * capacity;
+        this.fullAt = new AtomicLong(now);
+    }
+
+    // 0 si concede la petición; si no, nanos hasta que haya una ficha
+    public long tryAcquire(long now) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + interval;
+            long wait = next - now - burst;
+
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // Lleno equivale a recién creado: se puede descartar sin cambiar el límite de nadie
+    public boolean isFull(long now) {
+        return fullAt.get() <= now;
+    }
+}
@@ -0,0 +1,28 @@
+package org.bibliodigit.config.replica;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+// Usuarios que acaban de escribir: sus lecturas van al primario hasta que las réplicas los alcanzan.
+// Acotado por tamaño; si se expulsa a alguien antes de tiempo solo pierde la garantía, no falla
+public class ReadYourWrites {
+
+    private final Cache<Long, Boolean> pinned;
+
+    public ReadYourWrites(Duration window, long maxUsers) {
+        this.pinned = Caffeine.newBuilder()
+            .expireAfterWrite(window)
+            .maximumSize(maxUsers)
+            .build();
+    }
+
+    public void wrote(Long userId) {
+        pinned.put(userId, Boolean.TRUE);
+    }
+
+    public boolean isPinned(Long userId) {
+        return pinned.getIfPresent(userId) != null;
+    }
+}
@@ -0,0 +1,40 @@
+package org.bibliodigit.config.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// Estado de una réplica según la última comprobación de ReplicaHealthIndicator
+@Getter
+public class Replica {
+
+    private final String name;
+    private final HikariDataSource pool;
+    // El pool envuelto por el log de consultas lentas; es el que recibe las lecturas
+    private final DataSource dataSource;
+
+    // Sin comprobar todavía: no recibe lecturas hasta la primera comprobación
+    private volatile boolean healthy;
+    private volatile Duration lag = Duration.ZERO;
+
+    public Replica(String name, HikariDataSource pool, DataSource dataSource) {
+        this.name = name;
+        this.pool = pool;
+        this.dataSource = dataSource;
+    }
+
+    public boolean isUsable(Duration maxLag) {
+        return healthy && lag.compareTo(maxLag) <= 0;
+    }
+
+    public void up(Duration lag) {
+        this.lag = lag;
+        this.healthy = true;
+    }
+
+    public void down() {
+        this.healthy = false;
+    }
+}
@@ -0,0 +1,101 @@
+package org.bibliodigit.config.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.bibliodigit.config.SlowQueryDataSourcePostProcessor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Sin datasource.replica.enabled el DataSource lo sigue creando Spring Boot y todo va al primario
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    // Mismo pool que autoconfigura Spring Boot, que deja de hacerlo en cuanto se declara dataSource
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaSet replicaSet(
+            SlowQueryDataSourcePostProcessor slowQuery,
+            @Value("${datasource.replica.urls:}") String urls,
+            @Value("${datasource.replica.username:${spring.datasource.username}}") String username,
+            @Value("${datasource.replica.password:${spring.datasource.password}}") String password,
+            @Value("${datasource.replica.pool-size:10}") int poolSize,
+            @Value("${datasource.replica.connection-timeout:1000}") long connectionTimeout,
+            @Value("${datasource.replica.max-lag:5s}") Duration maxLag) {
+
+        // Separadas por espacios: las URL JDBC ya usan comas (varios hosts) y punto y coma (H2)
+        List<String> jdbcUrls = Arrays.stream(urls.trim().split("\\s+"))
+            .filter(url -> !url.isEmpty())
+            .toList();
+
+        if (jdbcUrls.isEmpty()) {
+            throw new IllegalStateException("datasource.replica.enabled is true but datasource.replica.urls is empty");
+        }
+
+        List<Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < jdbcUrls.size(); i++) {
+            String name = "replica-" + (i + 1);
+
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName(name);
+            pool.setJdbcUrl(jdbcUrls.get(i));
+            pool.setUsername(username);
+            pool.setPassword(password);
+            pool.setMaximumPoolSize(poolSize);
+            pool.setConnectionTimeout(connectionTimeout);
+            // Una escritura que llegue aquí por error falla en vez de divergir del primario
+            pool.setReadOnly(true);
+            // Una réplica caída al arrancar no impide levantar la aplicación
+            pool.setInitializationFailTimeout(-1);
+
+            replicas.add(new Replica(name, pool, slowQuery.wrap(pool, name)));
+        }
+
+        return new ReplicaSet(replicas, maxLag);
+    }
+
+    @Bean
+    public ReadYourWrites readYourWrites(
+            @Value("${datasource.replica.sticky-window:10s}") Duration window,
+            @Value("${datasource.replica.sticky-max-users:100000}") long maxUsers) {
+        return new ReadYourWrites(window, maxUsers);
+    }
+
+    @Bean
+    public ReplicaHealthIndicator replicasHealthIndicator(
+            ReplicaSet replicaSet,
+            @Value("${datasource.replica.lag-query}") String lagQuery,
+            @Value("${datasource.replica.check-timeout:2}") int timeoutSeconds) {
+        return new ReplicaHealthIndicator(replicaSet, lagQuery, timeoutSeconds);
+    }
+
+    // La conexión real se pide en la primera sentencia, con la transacción ya marcada readOnly o no
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            ReplicaSet replicaSet,
+            ReadYourWrites readYourWrites) {
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primaryDataSource, replicaSet, readYourWrites);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -0,0 +1,88 @@
+package org.bibliodigit.config.replica;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Comprueba cada réplica y mide su retraso con lag-query; el enrutado solo lee el resultado.
+ * Siempre UP: sin réplicas utilizables las lecturas siguen en el primario, que ya vigila el indicador "db".
+ */
+@Slf4j
+public class ReplicaHealthIndicator implements HealthIndicator {
+
+    private final ReplicaSet replicaSet;
+    private final String lagQuery;
+    private final int timeoutSeconds;
+
+    public ReplicaHealthIndicator(ReplicaSet replicaSet, String lagQuery, int timeoutSeconds) {
+        this.replicaSet = replicaSet;
+        this.lagQuery = lagQuery;
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Scheduled(
+        initialDelayString = "${datasource.replica.check-initial-delay:0}",
+        fixedDelayString = "${datasource.replica.check-interval:5000}")
+    public void check() {
+        replicaSet.getReplicas().forEach(this::check);
+    }
+
+    @Override
+    public Health health() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        long usable = 0;
+
+        for (Replica replica : replicaSet.getReplicas()) {
+            boolean replicaUsable = replica.isUsable(replicaSet.getMaxLag());
+            usable += replicaUsable ? 1 : 0;
+            details.put(replica.getName(), Map.of(
+                "healthy", replica.isHealthy(),
+                "lagMs", replica.getLag().toMillis(),
+                "usable", replicaUsable));
+        }
+
+        return Health.up()
+            .withDetail("usable", usable)
+            .withDetail("maxLagMs", replicaSet.getMaxLag().toMillis())
+            .withDetails(details)
+            .build();
+    }
+
+    private void check(Replica replica) {
+        boolean wasUsable = replica.isUsable(replicaSet.getMaxLag());
+
+        try (Connection connection = replica.getDataSource().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(timeoutSeconds);
+
+            try (ResultSet rs = statement.executeQuery(lagQuery)) {
+                double seconds = rs.next() ? rs.getDouble(1) : 0;
+                replica.up(Duration.ofMillis(Math.round(seconds * 1000)));
+            }
+        } catch (SQLException e) {
+            replica.down();
+            if (wasUsable) {
+                log.warn("Replica {} failed its health check, reads fall back to the primary: {}",
+                    replica.getName(), e.getMessage());
+            }
+            return;
+        }
+
+        boolean usable = replica.isUsable(replicaSet.getMaxLag());
+        if (wasUsable && !usable) {
+            log.warn("Replica {} is {} ms behind, reads fall back to the primary", replica.getName(), replica.getLag().toMillis());
+        } else if (!wasUsable && usable) {
+            log.info("Replica {} is back in rotation ({} ms behind)", replica.getName(), replica.getLag().toMillis());
+        }
+    }
+}
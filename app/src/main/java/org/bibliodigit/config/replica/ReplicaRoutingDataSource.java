@@ -0,0 +1,106 @@
+package org.bibliodigit.config.replica;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Transacciones readOnly a una réplica; escrituras, lecturas sin transacción y lecturas
+ * de un usuario que acaba de escribir, al primario. Va detrás de un LazyConnectionDataSourceProxy:
+ * la conexión se elige en la primera sentencia, cuando la transacción ya está marcada.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final ReplicaSet replicaSet;
+    private final ReadYourWrites readYourWrites;
+    private final Map<String, Replica> replicasByName = new HashMap<>();
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaSet replicaSet, ReadYourWrites readYourWrites) {
+        this.primary = primary;
+        this.replicaSet = replicaSet;
+        this.readYourWrites = readYourWrites;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (Replica replica : replicaSet.getReplicas()) {
+            targets.put(replica.getName(), replica.getDataSource());
+            replicasByName.put(replica.getName(), replica);
+        }
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = replicasByName.get(determineCurrentLookupKey());
+
+        if (replica == null) {
+            return primary.getConnection();
+        }
+
+        try {
+            Connection connection = replica.getDataSource().getConnection();
+            replicaSet.replicaRead();
+            return connection;
+        } catch (SQLException e) {
+            // Caída entre dos comprobaciones: queda fuera hasta la siguiente y la lectura sigue en el primario
+            replica.down();
+            replicaSet.fallbackRead();
+            log.warn("Replica {} refused a connection, reading from the primary: {}", replica.getName(), e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = currentUserId();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (userId != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                // Solo cuenta la escritura confirmada; la ventana empieza con el commit
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        readYourWrites.wrote(userId);
+                    }
+                });
+            }
+            return PRIMARY;
+        }
+
+        if (userId != null && readYourWrites.isPinned(userId)) {
+            replicaSet.stickyRead();
+            return PRIMARY;
+        }
+
+        Replica replica = replicaSet.pick();
+        if (replica == null) {
+            replicaSet.fallbackRead();
+            return PRIMARY;
+        }
+        return replica.getName();
+    }
+
+    // Usuario autenticado por AuthInterceptor en la petición en curso; null en jobs y rutas públicas
+    private static Long currentUserId() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        return (Long) attributes.getAttribute("currentUserId", RequestAttributes.SCOPE_REQUEST);
+    }
+}
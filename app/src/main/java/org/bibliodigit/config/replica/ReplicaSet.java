@@ -0,0 +1,95 @@
+package org.bibliodigit.config.replica;
+
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Réplicas de lectura y contadores de enrutado; los pools no son beans, se cierran aquí
+public class ReplicaSet implements MeterBinder, DisposableBean {
+
+    @Getter
+    private final List<Replica> replicas;
+    @Getter
+    private final Duration maxLag;
+
+    private final AtomicInteger next = new AtomicInteger();
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder stickyReads = new LongAdder();
+    private final LongAdder fallbackReads = new LongAdder();
+
+    public ReplicaSet(List<Replica> replicas, Duration maxLag) {
+        this.replicas = List.copyOf(replicas);
+        this.maxLag = maxLag;
+    }
+
+    // Round-robin entre las réplicas sanas y dentro del retraso máximo; null si no queda ninguna
+    public Replica pick() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isUsable(maxLag)) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    public void replicaRead() {
+        replicaReads.increment();
+    }
+
+    public void stickyRead() {
+        stickyReads.increment();
+    }
+
+    public void fallbackRead() {
+        fallbackReads.increment();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        readCounter(registry, "replica", replicaReads);
+        readCounter(registry, "sticky", stickyReads);
+        readCounter(registry, "fallback", fallbackReads);
+
+        for (Replica replica : replicas) {
+            Gauge.builder("bibliodigit.datasource.replica.lag", replica, r -> r.getLag().toMillis() / 1000.0)
+                .tag("replica", replica.getName())
+                .baseUnit("seconds")
+                .description("Replication lag measured by the last health check")
+                .register(registry);
+            Gauge.builder("bibliodigit.datasource.replica.up", replica, r -> r.isHealthy() ? 1 : 0)
+                .tag("replica", replica.getName())
+                .description("1 while the replica answers its health check")
+                .register(registry);
+
+            // Los pools de réplicas no son beans: Spring Boot no les publica hikaricp_*
+            if (replica.getPool().getMetricsTrackerFactory() == null) {
+                replica.getPool().setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        replicas.forEach(replica -> replica.getPool().close());
+    }
+
+    private void readCounter(MeterRegistry registry, String route, LongAdder adder) {
+        FunctionCounter.builder("bibliodigit.datasource.reads", adder, LongAdder::sum)
+            .tag("route", route)
+            .description("Read-only connections by route: replica, primary after a write, primary because no replica was usable")
+            .register(registry);
+    }
+}
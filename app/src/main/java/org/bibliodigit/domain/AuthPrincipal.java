@@ -0,0 +1,19 @@
+package org.bibliodigit.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class AuthPrincipal {
+
+    private final Long userId;
+    private final String email;
+    private final String role;
+    private final boolean active;
+    private final LocalDateTime expiresAt;
+}
@@ -0,0 +1,12 @@
+package org.bibliodigit.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AuthSession {
+
+    private final User user;
+    private final String token;
+}
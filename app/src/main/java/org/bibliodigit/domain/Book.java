@@ -3,6 +3,8 @@ package org.bibliodigit.domain;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Setter
 @NoArgsConstructor
@@ -12,13 +14,18 @@ import lombok.*;
 @Table(name = "books")
 public class Book {
 
+    // Secuencia con bloques de 50: permite que Hibernate agrupe los INSERT en lotes JDBC
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "books_seq")
+    @SequenceGenerator(name = "books_seq", sequenceName = "books_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 255)
     private String title;
 
+    @Column(length = 20)
+    private String isbn;
+
     @Column(nullable = false, length = 4)
     private Integer year; 
 
@@ -30,6 +37,14 @@ public class Book {
     @JoinColumn(name = "category_id", referencedColumnName = "id")
     private Category category;
 
+    // Se incrementa en cada UPDATE; base de los ETag de la API
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     public void setAuthor(Author author) {
         this.author = author;
     }
@@ -37,4 +52,10 @@ public class Book {
     public void setCategory(Category category) {
         this.category = category;
     }
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
 }
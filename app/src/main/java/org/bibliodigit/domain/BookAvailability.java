@@ -0,0 +1,35 @@
+package org.bibliodigit.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Agregado por libro mantenido en cada préstamo/devolución; AvailabilityReconciler lo repara contra stock
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "book_availability")
+public class BookAvailability {
+
+    @Id
+    @Column(name = "book_id")
+    private Long bookId;
+
+    @Column(name = "total_copies", nullable = false)
+    @Builder.Default
+    private Integer totalCopies = 0;
+
+    @Column(name = "available_copies", nullable = false)
+    @Builder.Default
+    private Integer availableCopies = 0;
+
+    @Column(name = "on_loan_copies", nullable = false)
+    @Builder.Default
+    private Integer onLoanCopies = 0;
+
+    @Column(name = "overdue_copies", nullable = false)
+    @Builder.Default
+    private Integer overdueCopies = 0;
+}
@@ -0,0 +1,20 @@
+package org.bibliodigit.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class BookPage {
+
+    private final List<BookView> books;
+
+    // Cursor opaco para pedir la siguiente página; null cuando no hay más
+    private final String nextCursor;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,19 @@
+package org.bibliodigit.domain;
+
+// Fila de lectura del catálogo: se construye en la consulta, sin entidades, proxies ni snapshots.
+// Las versiones de libro, autor y categoría componen el ETag de la respuesta
+public record BookView(
+    Long id,
+    String title,
+    Integer year,
+    Long authorId,
+    String authorName,
+    String authorNationality,
+    Long categoryId,
+    String categoryName,
+    String categoryDescription,
+    Long version,
+    Long authorVersion,
+    Long categoryVersion
+) {
+}
@@ -0,0 +1,8 @@
+package org.bibliodigit.domain;
+
+// Estado físico de una copia; el detalle del préstamo vive en Loan
+public enum CopyStatus {
+    AVAILABLE,   // En estantería
+    ON_LOAN,     // Prestada
+    RESERVED     // Apartada para una reserva, pendiente de recoger
+}
@@ -0,0 +1,38 @@
+package org.bibliodigit.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Cabecera de la cola de reservas de un libro. Los turnos en espera son siempre el rango
+// contiguo (servedTicket, lastTicket]: la posición de una reserva es ticket - servedTicket
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "hold_queues")
+public class HoldQueue {
+
+    @Id
+    @Column(name = "book_id")
+    private Long bookId;
+
+    // Último turno entregado
+    @Column(name = "last_ticket", nullable = false)
+    @Builder.Default
+    private Long lastTicket = 0L;
+
+    // Último turno que salió de la cola (recibió copia)
+    @Column(name = "served_ticket", nullable = false)
+    @Builder.Default
+    private Long servedTicket = 0L;
+
+    public boolean hasWaiting() {
+        return servedTicket < lastTicket;
+    }
+
+    public long waiting() {
+        return lastTicket - servedTicket;
+    }
+}
@@ -0,0 +1,9 @@
+package org.bibliodigit.domain;
+
+public enum HoldStatus {
+    WAITING,     // En cola, sin copia asignada
+    READY,       // Copia apartada, dentro del plazo de recogida
+    FULFILLED,   // Recogida: convertida en préstamo
+    EXPIRED,     // No se recogió a tiempo
+    CANCELLED    // Cancelada por el usuario
+}
@@ -0,0 +1,68 @@
+package org.bibliodigit.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// Progreso de una importación; se actualiza en la misma transacción que cada lote
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "import_checkpoints")
+public class ImportCheckpoint {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ImportFormat format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ImportStatus status;
+
+    // Registros del fichero ya consumidos (creados u omitidos); al reanudar se saltan
+    @Column(name = "records_processed", nullable = false)
+    @Builder.Default
+    private Long recordsProcessed = 0L;
+
+    @Column(name = "books_created", nullable = false)
+    @Builder.Default
+    private Long booksCreated = 0L;
+
+    @Column(name = "copies_created", nullable = false)
+    @Builder.Default
+    private Long copiesCreated = 0L;
+
+    @Column(name = "records_skipped", nullable = false)
+    @Builder.Default
+    private Long recordsSkipped = 0L;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public void advance(long records, long books, long copies, long skipped) {
+        recordsProcessed += records;
+        booksCreated += books;
+        copiesCreated += copies;
+        recordsSkipped += skipped;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
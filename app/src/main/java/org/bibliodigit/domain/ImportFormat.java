@@ -0,0 +1,7 @@
+package org.bibliodigit.domain;
+
+public enum ImportFormat {
+    CSV,    // Cabecera con title,year,author,category,copies
+    JSON,   // Array de objetos o un objeto por línea (NDJSON)
+    MARC    // Registros bibliográficos ISO 2709 (MARC 21)
+}
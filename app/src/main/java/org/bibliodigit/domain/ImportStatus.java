@@ -0,0 +1,7 @@
+package org.bibliodigit.domain;
+
+public enum ImportStatus {
+    RUNNING,     // Importación en curso (o interrumpida sin marcar fallo)
+    COMPLETED,   // Fichero leído hasta el final
+    FAILED       // Abortada; se reanuda desde records_processed
+}
@@ -0,0 +1,33 @@
+package org.bibliodigit.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "job_watermarks")
+public class JobWatermark {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    // Límite superior (exclusivo) ya procesado por la última ejecución
+    @Column(name = "processed_until", nullable = false)
+    private LocalDateTime processedUntil;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,91 @@
+package org.bibliodigit.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+// Un registro por cada salida de una copia; después del INSERT solo cambian estado, devolución y multa.
+// En PostgreSQL la tabla está particionada por mes de departure_date (V8 y LoanPartitionMaintainer)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "loans", indexes = {
+    @Index(name = "idx_loans_user_departure", columnList = "user_id, departure_date")
+})
+public class Loan {
+
+    // La PK física es (id, departure_date), como exige el particionado; id es único por la secuencia
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "loans_seq")
+    @SequenceGenerator(name = "loans_seq", sequenceName = "loans_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "stock_id", nullable = false)
+    private Stock stock;
+
+    @ManyToOne(fetch = FetchType.EAGER)
+    @JoinColumn(name = "book_id", nullable = false)
+    private Book book;
+
+    @ManyToOne(fetch = FetchType.EAGER)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private LoanStatus status = LoanStatus.ACTIVE;
+
+    // Clave de partición: cambiarla movería la fila a otra partición
+    @Column(name = "departure_date", nullable = false, updatable = false)
+    private LocalDateTime departureDate;
+
+    @Column(name = "delivery_date")
+    private LocalDateTime deliveryDate;
+
+    @Column(name = "actual_return_date")
+    private LocalDateTime actualReturnDate;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal fine;
+
+    public long getDaysOverdue() {
+        if (status == LoanStatus.RETURNED || deliveryDate == null) {
+            return 0;
+        }
+
+        LocalDateTime compareDate = actualReturnDate != null ? actualReturnDate : LocalDateTime.now();
+
+        if (compareDate.isAfter(deliveryDate)) {
+            return ChronoUnit.DAYS.between(deliveryDate, compareDate);
+        }
+
+        return 0;
+    }
+
+    public BigDecimal calculateFine() {
+        long daysOverdue = getDaysOverdue();
+        if (daysOverdue > 0) {
+            return BigDecimal.valueOf(daysOverdue);
+        }
+        return BigDecimal.ZERO;
+    }
+
+    // OVERDUE también marca devoluciones tardías; el préstamo sigue abierto mientras no haya devolución
+    public boolean isOnLoan() {
+        return actualReturnDate == null &&
+               (status == LoanStatus.ACTIVE || status == LoanStatus.OVERDUE);
+    }
+
+    public boolean isOverdue() {
+        return isOnLoan() && deliveryDate != null &&
+               LocalDateTime.now().isAfter(deliveryDate);
+    }
+}
@@ -0,0 +1,27 @@
+package org.bibliodigit.domain;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class LoanBatchResult {
+
+    // bookId en préstamos, loanId en devoluciones
+    private final Long requestedId;
+    private final Loan loan;
+    private final String error;
+
+    public static LoanBatchResult success(Long requestedId, Loan loan) {
+        return new LoanBatchResult(requestedId, loan, null);
+    }
+
+    public static LoanBatchResult failure(Long requestedId, String error) {
+        return new LoanBatchResult(requestedId, null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -1,7 +1,6 @@
 package org.bibliodigit.domain;
 
 public enum LoanStatus {
-    AVAILABLE,   // Libro disponible en inventario
     ACTIVE,      // Préstamo activo
     RETURNED,    // Devuelto a tiempo
     OVERDUE      // Devuelto con retraso (o aún activo con retraso)
@@ -0,0 +1,44 @@
+package org.bibliodigit.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+// Préstamo aplanado (préstamo + libro + usuario) para los listados de solo lectura
+public record LoanView(
+    Long id,
+    Long stockId,
+    Long bookId,
+    String bookTitle,
+    String bookIsbn,
+    String authorName,
+    Long userId,
+    String userName,
+    String userEmail,
+    String userType,
+    LoanStatus status,
+    LocalDateTime departureDate,
+    LocalDateTime deliveryDate,
+    LocalDateTime actualReturnDate,
+    BigDecimal fine
+) {
+
+    public boolean returned() {
+        return actualReturnDate != null;
+    }
+
+    // Misma regla que Loan.getDaysOverdue
+    public long daysOverdue() {
+        if (status == LoanStatus.RETURNED || deliveryDate == null) {
+            return 0;
+        }
+
+        LocalDateTime compareDate = actualReturnDate != null ? actualReturnDate : LocalDateTime.now();
+
+        if (compareDate.isAfter(deliveryDate)) {
+            return ChronoUnit.DAYS.between(deliveryDate, compareDate);
+        }
+
+        return 0;
+    }
+}
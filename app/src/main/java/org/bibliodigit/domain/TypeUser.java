@@ -2,16 +2,21 @@ package org.bibliodigit.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
+// Tabla de referencia en la caché de segundo nivel: se carga (EAGER) con cada User
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference.typeUsers")
 @Table(name = "type_users")
 public class TypeUser {
 
@@ -25,11 +30,8 @@ public class TypeUser {
     @Column(length = 255)
     private String description;
 
+    // No recorrer para contar: TypeUserRepository.countUsers / TypeUserView.userCount
     @OneToMany(mappedBy = "typeUser", cascade = CascadeType.ALL)
     @Builder.Default
-    private List<User> users = new ArrayList;
-    
-    public int getUserCount() {
-        return users != null ? users.size() : 0;
-    }
+    private List<User> users = new ArrayList<>();
 }
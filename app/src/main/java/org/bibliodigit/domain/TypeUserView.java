@@ -0,0 +1,10 @@
+package org.bibliodigit.domain;
+
+// Tipo de usuario con su número de usuarios, contado en la BD con GROUP BY (sin cargar la colección users)
+public record TypeUserView(
+    Long id,
+    String type,
+    String description,
+    Long userCount
+) {
+}
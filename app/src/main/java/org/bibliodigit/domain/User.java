@@ -11,7 +11,9 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+    @Index(name = "idx_users_auth_token", columnList = "auth_token")
+})
 public class User {
 
     @Id
@@ -37,6 +39,10 @@ public class User {
     @Column(name = "token_created_at")
     private LocalDateTime tokenCreatedAt;
 
+    @Column(name = "token_version", nullable = false)
+    @Builder.Default
+    private Long tokenVersion = 0L;
+
 
     @Column(name = "is_active")
     @Builder.Default
@@ -0,0 +1,8 @@
+package org.bibliodigit.domain.exception;
+
+public class DuplicateResourceException extends RuntimeException {
+
+    public DuplicateResourceException(String message) {
+        super(message);
+    }
+}
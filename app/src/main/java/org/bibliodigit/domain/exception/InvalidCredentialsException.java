@@ -0,0 +1,8 @@
+package org.bibliodigit.domain.exception;
+
+public class InvalidCredentialsException extends RuntimeException {
+
+    public InvalidCredentialsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package org.bibliodigit.domain.exception;
+
+public class ResourceNotFoundException extends RuntimeException {
+
+    public ResourceNotFoundException(String message) {
+        super(message);
+    }
+}
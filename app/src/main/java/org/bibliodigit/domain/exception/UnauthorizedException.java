@@ -0,0 +1,8 @@
+package org.bibliodigit.domain.exception;
+
+public class UnauthorizedException extends RuntimeException {
+
+    public UnauthorizedException(String message) {
+        super(message);
+    }
+}
@@ -1,7 +1,12 @@
 package org.bibliodigit.domain.port;
 
 import org.bibliodigit.domain.Book;
+import org.bibliodigit.domain.BookAvailability;
+import org.bibliodigit.domain.BookPage;
+import org.bibliodigit.domain.BookView;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 
@@ -9,9 +14,13 @@ public interface BookService {
     
     // ========== BASIC CRUD OPERATIONS ==========
 
-    List<Book> findAll();
+    // Las lecturas devuelven BookView (proyección); las escrituras trabajan con la entidad
+
+    List<BookView> findAll();
+
+    BookPage findPage(String cursor, Integer size);
     
-    Optional<Book> findById(Long id);
+    Optional<BookView> findById(Long id);
     
     Book save(Book book);
     
@@ -23,21 +32,23 @@ public interface BookService {
 
     // ========== RELATIONSHIP SEARCHES ==========
     
-    List<Book> findByAuthorId(Long authorId);
+    List<BookView> findByAuthorId(Long authorId);
     
-    List<Book> findByCategoryId(Long categoryId);
+    List<BookView> findByCategoryId(Long categoryId);
     
-    List<Book> findByAuthorName(String authorName);
+    List<BookView> findByAuthorName(String authorName);
     
     // ========== ADDITIONAL SEARCHES ==========
+
+    List<BookView> search(String query, Integer limit);
     
-    List<Book> findByTitleContaining(String titleKeyword);
+    List<BookView> findByTitleContaining(String titleKeyword);
     
-    List<Book> findByYear(Integer year);
+    List<BookView> findByYear(Integer year);
     
-    List<Book> findByYearBetween(Integer startYear, Integer endYear);
+    List<BookView> findByYearBetween(Integer startYear, Integer endYear);
     
-    List<Book> findByCategoryName(String categoryName);
+    List<BookView> findByCategoryName(String categoryName);
     
     List<Book> findBooksWithoutAuthor();
     
@@ -50,4 +61,8 @@ public interface BookService {
     Long countBooksByCategory(Long categoryId);
     
     boolean existsByTitle(String title);
+
+    // ========== AVAILABILITY ==========
+
+    Map<Long, BookAvailability> findAvailability(Collection<Long> bookIds);
 }
@@ -0,0 +1,19 @@
+package org.bibliodigit.domain.port;
+
+import org.bibliodigit.domain.Hold;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface HoldService {
+
+    Hold placeHold(Long userId, Long bookId);
+
+    Hold cancelHold(Long holdId);
+
+    Optional<Hold> findById(Long id);
+    List<Hold> getOpenHoldsForUser(Long userId);
+
+    // 1 = siguiente en recibir copia; 0 si la reserva ya no está en espera
+    long getQueuePosition(Hold hold);
+}
@@ -1,24 +1,33 @@
 package org.bibliodigit.domain.port;
 
-import org.bibliodigit.domain.Stock;
+import org.bibliodigit.domain.Loan;
+import org.bibliodigit.domain.LoanBatchResult;
+import org.bibliodigit.domain.LoanView;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface LoanService {
     
-    Stock borrowBook(Long userId, Long bookId);
+    Loan borrowBook(Long userId, Long bookId);
     
-    Stock returnBook(Long stockId);
+    Loan returnBook(Long loanId);
+
+    List<LoanBatchResult> borrowBooks(Long userId, List<Long> bookIds);
+
+    List<LoanBatchResult> returnBooks(List<Long> loanIds);
     
-    List<Stock> getActiveLoansForUser(Long userId);
-    List<Stock> getLoanHistoryForUser(Long userId);
-    List<Stock> getOverdueLoans();
-    Optional<Stock> findById(Long id);
+    List<LoanView> getActiveLoansForUser(Long userId);
+    List<LoanView> getLoanHistoryForUser(Long userId);
+    // [from, to) sobre la fecha de salida: solo se leen las particiones del rango
+    List<LoanView> getLoanHistoryForUser(Long userId, LocalDateTime from, LocalDateTime to);
+    List<LoanView> getOverdueLoans();
+    Optional<Loan> findById(Long id);
     
     boolean canUserBorrow(Long userId);
     Long countActiveLoansForUser(Long userId);
     
-    BigDecimal calculateFine(Long stockId);
+    BigDecimal calculateFine(Long loanId);
 }
@@ -1,6 +1,8 @@
 package org.bibliodigit.domain.port;
 
 import org.bibliodigit.domain.TypeUser;
+import org.bibliodigit.domain.TypeUserView;
+
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +17,10 @@ public interface TypeUserService {
     void deleteById(Long id);
     
     boolean existsByType(String type);
+
+    // Lecturas con número de usuarios: una consulta agregada, nunca la colección users
+    List<TypeUserView> findAllWithUserCount();
+    Optional<TypeUserView> findViewById(Long id);
+    Optional<TypeUserView> findViewByType(String type);
+    long countUsers(Long typeUserId);
 }
@@ -1,15 +1,18 @@
 package org.bibliodigit.domain.port;
 
+import org.bibliodigit.domain.AuthPrincipal;
+import org.bibliodigit.domain.AuthSession;
 import org.bibliodigit.domain.User;
 import java.util.List;
 import java.util.Optional;
 
 public interface UserService {
     
-    User login(String email, String password);
-    User register(String name, String email, String password, Long typeUserId);
+    AuthSession login(String email, String password);
+    AuthSession register(String name, String email, String password, Long typeUserId);
     void logout(String token);
     Optional<User> validateToken(String token);
+    Optional<AuthPrincipal> authenticate(String token);
     
     List<User> findAll();
     Optional<User> findById(Long id);
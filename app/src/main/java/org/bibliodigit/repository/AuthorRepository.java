@@ -1,7 +1,9 @@
 package org.bibliodigit.repository;
 
+import jakarta.persistence.QueryHint;
 import org.bibliodigit.domain.Author;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,6 +12,10 @@ import java.util.Optional;
 @Repository
 public interface AuthorRepository extends JpaRepository<Author, Long> {
     
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.cacheable", value = "true"),
+        @QueryHint(name = "org.hibernate.cacheRegion", value = "reference.queries")
+    })
     Optional<Author> findByName(String name);
     
     List<Author> findByNationality(String nationality);
@@ -0,0 +1,52 @@
+package org.bibliodigit.repository;
+
+import jakarta.persistence.LockModeType;
+import org.bibliodigit.domain.BookAvailability;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BookAvailabilityRepository extends JpaRepository<BookAvailability, Long> {
+
+    List<BookAvailability> findByBookIdIn(Collection<Long> bookIds);
+
+    // Recorrido por páginas (keyset) del reconciliador
+    List<BookAvailability> findByBookIdGreaterThanOrderByBookIdAsc(Long bookId, Limit limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM BookAvailability a WHERE a.bookId = :bookId")
+    Optional<BookAvailability> findByBookIdForUpdate(@Param("bookId") Long bookId);
+
+    // Incremento atómico en la misma transacción del préstamo o la devolución
+    @Modifying
+    @Query("UPDATE BookAvailability a SET " +
+           "a.totalCopies = a.totalCopies + :total, " +
+           "a.availableCopies = a.availableCopies + :available, " +
+           "a.onLoanCopies = a.onLoanCopies + :onLoan, " +
+           "a.overdueCopies = a.overdueCopies + :overdue " +
+           "WHERE a.bookId = :bookId")
+    int applyDelta(@Param("bookId") Long bookId,
+                   @Param("total") int total,
+                   @Param("available") int available,
+                   @Param("onLoan") int onLoan,
+                   @Param("overdue") int overdue);
+
+    @Modifying
+    @Query("UPDATE BookAvailability a SET a.overdueCopies = (" +
+           "SELECT COUNT(l) FROM Loan l " +
+           "WHERE l.book.id = a.bookId AND l.status = 'OVERDUE' AND l.actualReturnDate IS NULL) " +
+           "WHERE a.bookId IN :bookIds")
+    int refreshOverdue(@Param("bookIds") Collection<Long> bookIds);
+
+    @Query("SELECT b.id FROM Book b WHERE NOT EXISTS (SELECT 1 FROM BookAvailability a WHERE a.bookId = b.id)")
+    List<Long> findBookIdsWithoutAvailability();
+}
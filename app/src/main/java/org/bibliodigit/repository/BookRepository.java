@@ -1,16 +1,23 @@
 package org.bibliodigit.repository;
 
+import jakarta.persistence.QueryHint;
 import org.bibliodigit.domain.Author;
 import org.bibliodigit.domain.Book;
+import org.bibliodigit.domain.BookView;
 import org.bibliodigit.domain.Category;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookRepository extends JpaRepository<Book, Long> {
@@ -18,12 +25,15 @@ public interface BookRepository extends JpaRepository<Book, Long> {
     
     List<Book> findByTitleContaining(String titleKeyword);
     
+    @EntityGraph(attributePaths = {"author", "category"})
     List<Book> findByYear(Integer year);
     
     List<Book> findByYearBetween(Integer startYear, Integer endYear);
         
+    @EntityGraph(attributePaths = {"author", "category"})
     List<Book> findByAuthorId(Long authorId);
     
+    @EntityGraph(attributePaths = {"author", "category"})
     List<Book> findByCategoryId(Long categoryId);
     
     
@@ -39,12 +49,54 @@ public interface BookRepository extends JpaRepository<Book, Long> {
     
     @EntityGraph(attributePaths = {"author", "category"})
     Optional<Book> findById(Long id);
+
+    @EntityGraph(attributePaths = {"author", "category"})
+    List<Book> findByIdIn(Collection<Long> ids);
     
     @Query("SELECT b FROM Book b " +
            "JOIN FETCH b.author " +
            "JOIN FETCH b.category")
     List<Book> findAllWithRelations();
-    
+
+    // ========== PROYECCIONES DE LECTURA ==========
+
+    // Constructor JPQL: solo las columnas de BookResponse, sin hidratar Book/Author/Category
+    String BOOK_VIEW = "SELECT new org.bibliodigit.domain.BookView(b.id, b.title, b.year, " +
+        "a.id, a.name, a.nationality, c.id, c.name, c.description, b.version, a.version, c.version) " +
+        "FROM Book b LEFT JOIN b.author a LEFT JOIN b.category c ";
+
+    @Query(BOOK_VIEW + "ORDER BY b.id")
+    List<BookView> findAllViews();
+
+    @Query(BOOK_VIEW + "WHERE b.id = :id")
+    Optional<BookView> findViewById(@Param("id") Long id);
+
+    @Query(BOOK_VIEW + "WHERE b.id IN :ids")
+    List<BookView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(BOOK_VIEW + "WHERE b.id > :afterId ORDER BY b.id")
+    List<BookView> findViewsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query(BOOK_VIEW + "WHERE a.id = :authorId ORDER BY b.id")
+    List<BookView> findViewsByAuthorId(@Param("authorId") Long authorId);
+
+    @Query(BOOK_VIEW + "WHERE c.id = :categoryId ORDER BY b.id")
+    List<BookView> findViewsByCategoryId(@Param("categoryId") Long categoryId);
+
+    @Query(BOOK_VIEW + "WHERE b.year = :year ORDER BY b.id")
+    List<BookView> findViewsByYear(@Param("year") Integer year);
+
+    @Query(BOOK_VIEW + "WHERE b.year BETWEEN :startYear AND :endYear ORDER BY b.id")
+    List<BookView> findViewsByYearBetween(@Param("startYear") Integer startYear, @Param("endYear") Integer endYear);
+
+    @Query(BOOK_VIEW + "WHERE b.title LIKE CONCAT('%', :keyword, '%') ORDER BY b.id")
+    List<BookView> findViewsByTitleContaining(@Param("keyword") String keyword);
+
+    @Query(BOOK_VIEW + "WHERE LOWER(a.name) LIKE LOWER(CONCAT('%', :authorName, '%')) ORDER BY b.id")
+    List<BookView> findViewsByAuthorNameContaining(@Param("authorName") String authorName);
+
+    @Query(BOOK_VIEW + "WHERE c.name = :categoryName ORDER BY b.id")
+    List<BookView> findViewsByCategoryName(@Param("categoryName") String categoryName);
 
     // ========== ADVANCED SEARCHES ==========
 
@@ -63,10 +115,43 @@ public interface BookRepository extends JpaRepository<Book, Long> {
     List<Book> findByAuthorIsNull();
     
     List<Book> findByCategoryIsNull();
+
+    // ========== FULL-TEXT SEARCH (PostgreSQL) ==========
+
+    @Query(value = "SELECT hits.id FROM (" +
+           "  SELECT b.id AS id, " +
+           "         2 * ts_rank(to_tsvector('simple', bibliodigit_unaccent(b.title)), to_tsquery('simple', :query)) AS rank " +
+           "  FROM books b " +
+           "  WHERE to_tsvector('simple', bibliodigit_unaccent(b.title)) @@ to_tsquery('simple', :query) " +
+           "  UNION ALL " +
+           "  SELECT b.id AS id, " +
+           "         ts_rank(to_tsvector('simple', bibliodigit_unaccent(a.name)), to_tsquery('simple', :query)) AS rank " +
+           "  FROM authors a JOIN books b ON b.author_id = a.id " +
+           "  WHERE to_tsvector('simple', bibliodigit_unaccent(a.name)) @@ to_tsquery('simple', :query) " +
+           ") hits " +
+           "GROUP BY hits.id " +
+           "ORDER BY SUM(hits.rank) DESC, hits.id " +
+           "LIMIT :limit",
+           nativeQuery = true)
+    List<Long> searchRankedIds(@Param("query") String tsQuery, @Param("limit") int limit);
     
     Long countByAuthorId(Long authorId);
     
     Long countByCategoryId(Long categoryId);
     
     boolean existsByTitle(String title);
+
+    @Query("SELECT b.id FROM Book b WHERE b.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT b.title FROM Book b WHERE b.title IN :titles")
+    Set<String> findExistingTitles(@Param("titles") Collection<String> titles);
+
+    // Cursor de servidor para exportaciones: filas de 500 en 500, sin snapshots para dirty checking
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+        @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT b FROM Book b LEFT JOIN FETCH b.author LEFT JOIN FETCH b.category ORDER BY b.id")
+    Stream<Book> streamAll();
 }
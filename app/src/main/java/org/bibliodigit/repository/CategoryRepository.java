@@ -1,7 +1,9 @@
 package org.bibliodigit.repository;
 
+import jakarta.persistence.QueryHint;
 import org.bibliodigit.domain.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,10 +11,21 @@ import java.util.Optional;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
-    
+
+        @Override
+        @QueryHints({
+            @QueryHint(name = "org.hibernate.cacheable", value = "true"),
+            @QueryHint(name = "org.hibernate.cacheRegion", value = "reference.queries")
+        })
+        List<Category> findAll();
+
+        @QueryHints({
+            @QueryHint(name = "org.hibernate.cacheable", value = "true"),
+            @QueryHint(name = "org.hibernate.cacheRegion", value = "reference.queries")
+        })
         Optional<Category> findByName(String name);
         
-        List<Category> findByCategoriesIsNotEmpty();
+        List<Category> findByBooksIsNotEmpty();
         
         boolean existsByName(String name);
 
@@ -0,0 +1,37 @@
+package org.bibliodigit.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.bibliodigit.domain.HoldQueue;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface HoldQueueRepository extends JpaRepository<HoldQueue, Long> {
+
+    // Dos primeras reservas simultáneas del mismo libro no chocan en el INSERT. Sin declarar la tabla
+    // afectada, Hibernate invalidaría toda la caché de segundo nivel tras un INSERT nativo
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "hold_queues"))
+    @Query(value = "INSERT INTO hold_queues (book_id, last_ticket, served_ticket) VALUES (:bookId, 0, 0) " +
+                   "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int createIfAbsent(@Param("bookId") Long bookId);
+
+    // Serializa todos los cambios de la cola de un libro
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT q FROM HoldQueue q WHERE q.bookId = :bookId")
+    Optional<HoldQueue> findByBookIdForUpdate(@Param("bookId") Long bookId);
+
+    // Colas con gente esperando mientras hay copias en estantería (p. ej. copias añadidas o importadas)
+    @Query("SELECT q.bookId FROM HoldQueue q, BookAvailability a " +
+           "WHERE a.bookId = q.bookId AND q.servedTicket < q.lastTicket AND a.availableCopies > 0")
+    List<Long> findBookIdsWithWaitingAndFreeCopies();
+}
@@ -0,0 +1,44 @@
+package org.bibliodigit.repository;
+
+import org.bibliodigit.domain.Hold;
+import org.bibliodigit.domain.HoldStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// Las transiciones de estado se hacen con la fila de HoldQueue del libro bloqueada
+@Repository
+public interface HoldRepository extends JpaRepository<Hold, Long> {
+
+    // Cabeza de la cola por idx_holds_queue: una sola fila, sin recorrer la cola
+    Optional<Hold> findByBookIdAndStatusAndTicket(Long bookId, HoldStatus status, Long ticket);
+
+    Optional<Hold> findByUserIdAndBookIdAndStatus(Long userId, Long bookId, HoldStatus status);
+
+    boolean existsByUserIdAndBookIdAndStatusIn(Long userId, Long bookId, Collection<HoldStatus> statuses);
+
+    boolean existsByUserIdAndBookIdAndStatus(Long userId, Long bookId, HoldStatus status);
+
+    List<Hold> findByUserIdAndStatusInOrderByIdAsc(Long userId, Collection<HoldStatus> statuses);
+
+    // Sin cargar la entidad: el libro se necesita para bloquear su cola antes de leer el estado
+    @Query("SELECT h.book.id FROM Hold h WHERE h.id = :id")
+    Optional<Long> findBookIdById(@Param("id") Long id);
+
+    @Query("SELECT h.id FROM Hold h WHERE h.status = 'READY' AND h.expiresAt < :now ORDER BY h.id")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now);
+
+    // Cierra el hueco de una reserva cancelada: los turnos posteriores avanzan uno
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Hold h SET h.ticket = h.ticket - 1 " +
+           "WHERE h.book.id = :bookId AND h.status = org.bibliodigit.domain.HoldStatus.WAITING " +
+           "AND h.ticket > :ticket")
+    int closeGap(@Param("bookId") Long bookId, @Param("ticket") Long ticket);
+}
@@ -0,0 +1,20 @@
+package org.bibliodigit.repository;
+
+import jakarta.persistence.LockModeType;
+import org.bibliodigit.domain.ImportCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ImportCheckpointRepository extends JpaRepository<ImportCheckpoint, String> {
+
+    // Dos procesos con el mismo job no pueden confirmar el mismo lote dos veces
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ImportCheckpoint c WHERE c.jobName = :jobName")
+    Optional<ImportCheckpoint> findByJobNameForUpdate(@Param("jobName") String jobName);
+}
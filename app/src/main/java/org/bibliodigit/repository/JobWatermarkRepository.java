@@ -0,0 +1,20 @@
+package org.bibliodigit.repository;
+
+import jakarta.persistence.LockModeType;
+import org.bibliodigit.domain.JobWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface JobWatermarkRepository extends JpaRepository<JobWatermark, String> {
+
+    // Serializa ejecuciones concurrentes del mismo job entre instancias
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM JobWatermark w WHERE w.name = :name")
+    Optional<JobWatermark> findByNameForUpdate(@Param("name") String name);
+}
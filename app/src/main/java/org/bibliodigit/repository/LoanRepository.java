@@ -0,0 +1,98 @@
+package org.bibliodigit.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.bibliodigit.domain.Loan;
+import org.bibliodigit.domain.LoanView;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+// Las consultas sin rango de departure_date recorren todas las particiones por su índice;
+// las que lo llevan solo tocan las particiones del rango
+@Repository
+public interface LoanRepository extends JpaRepository<Loan, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM Loan l WHERE l.id = :id")
+    Optional<Loan> findByIdForUpdate(@Param("id") Long id);
+
+    // Orden por id para que dos lotes con préstamos en común no se bloqueen mutuamente
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM Loan l WHERE l.id IN :ids ORDER BY l.id")
+    List<Loan> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    // Índice parcial idx_loans_open_user: solo préstamos sin devolver
+    @Query("SELECT COUNT(l) FROM Loan l WHERE l.user.id = :userId AND l.actualReturnDate IS NULL")
+    Long countActiveLoansForUser(@Param("userId") Long userId);
+
+    @EntityGraph(attributePaths = {"book", "book.author"})
+    List<Loan> findByUserId(Long userId);
+
+    // ========== VENCIMIENTOS ==========
+
+    @Query("SELECT DISTINCT l.book.id FROM Loan l " +
+           "WHERE l.status = 'ACTIVE' AND l.actualReturnDate IS NULL " +
+           "AND l.deliveryDate >= :since AND l.deliveryDate < :now")
+    List<Long> findBookIdsCrossingOverdue(@Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Loan l SET l.status = org.bibliodigit.domain.LoanStatus.OVERDUE " +
+           "WHERE l.status = 'ACTIVE' AND l.actualReturnDate IS NULL " +
+           "AND l.deliveryDate >= :since AND l.deliveryDate < :now")
+    int markOverdue(@Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
+
+    // Misma regla que Loan.calculateFine(): 1 por día completo de retraso; solo se escriben filas que cambian
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Loan l SET l.fine = (:now - l.deliveryDate) by day " +
+           "WHERE l.status = 'OVERDUE' AND l.actualReturnDate IS NULL " +
+           "AND (l.fine IS NULL OR l.fine <> (:now - l.deliveryDate) by day)")
+    int accrueOverdueFines(@Param("now") LocalDateTime now);
+
+    // ========== PROYECCIONES DE LECTURA ==========
+
+    // Un solo SELECT con las columnas de LoanResponse; evita cargar Loan con book, user y typeUser EAGER
+    String LOAN_VIEW = "SELECT new org.bibliodigit.domain.LoanView(l.id, l.stock.id, b.id, b.title, " +
+        "b.isbn, a.name, u.id, u.name, u.email, t.type, l.status, " +
+        "l.departureDate, l.deliveryDate, l.actualReturnDate, l.fine) " +
+        "FROM Loan l JOIN l.book b LEFT JOIN b.author a JOIN l.user u LEFT JOIN u.typeUser t ";
+
+    @Query(LOAN_VIEW + "WHERE u.id = :userId ORDER BY l.id")
+    List<LoanView> findLoanViewsByUserId(@Param("userId") Long userId);
+
+    // Rango semiabierto [from, to) sobre la clave de partición: PostgreSQL descarta las demás particiones
+    @Query(LOAN_VIEW + "WHERE u.id = :userId AND l.departureDate >= :from AND l.departureDate < :to ORDER BY l.id")
+    List<LoanView> findLoanViewsByUserIdBetween(@Param("userId") Long userId,
+                                                @Param("from") LocalDateTime from,
+                                                @Param("to") LocalDateTime to);
+
+    @Query(LOAN_VIEW + "WHERE u.id = :userId AND l.actualReturnDate IS NULL ORDER BY l.id")
+    List<LoanView> findOpenLoanViewsByUserId(@Param("userId") Long userId);
+
+    // Estado materializado por OverdueLoanSweeper; usa el índice parcial idx_loans_overdue_open
+    @Query(LOAN_VIEW + "WHERE l.status = 'OVERDUE' AND l.actualReturnDate IS NULL ORDER BY l.id")
+    List<LoanView> findOverdueLoanViews();
+
+    // ========== EXPORTACIÓN ==========
+
+    // Cursor de servidor: el driver trae filas de 500 en 500 en lugar de materializar todo el resultado
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+        @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT l FROM Loan l JOIN FETCH l.book b LEFT JOIN FETCH b.author " +
+           "JOIN FETCH l.user u LEFT JOIN FETCH u.typeUser " +
+           "WHERE (:userId IS NULL OR u.id = :userId) ORDER BY l.id")
+    Stream<Loan> streamLoanHistory(@Param("userId") Long userId);
+}
@@ -0,0 +1,65 @@
+package org.bibliodigit.repository;
+
+import org.bibliodigit.domain.Stock;
+import org.bibliodigit.repository.projection.StockCounts;
+import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StockRepository extends JpaRepository<Stock, Long> {
+    
+    @EntityGraph(attributePaths = {"book", "book.author", "book.category"})
+    Optional<Stock> findByBookIdAndAvailability(Long bookId, Boolean availability);
+
+    // SELECT ... FOR UPDATE SKIP LOCKED: cada préstamo concurrente toma una copia distinta sin esperar
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    Optional<Stock> findFirstByBookIdAndAvailabilityOrderByIdAsc(Long bookId, Boolean availability);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Stock s WHERE s.id = :id")
+    Optional<Stock> findByIdForUpdate(@Param("id") Long id);
+
+    // Una copia libre por libro en una sola consulta; las filas tomadas por otra transacción se saltan
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT s FROM Stock s WHERE s.availability = true AND s.id IN (" +
+           "SELECT MIN(c.id) FROM Stock c WHERE c.book.id IN :bookIds AND c.availability = true " +
+           "GROUP BY c.book.id)")
+    List<Stock> findFirstAvailableForBooks(@Param("bookIds") Collection<Long> bookIds);
+
+    // Orden por id para que dos lotes con copias en común no se bloqueen mutuamente
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Stock s WHERE s.id IN :ids ORDER BY s.id")
+    List<Stock> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+    
+    @EntityGraph(attributePaths = {"book", "book.author", "book.category"})
+    List<Stock> findByAvailability(Boolean availability);
+
+    // ========== CONTEO POR LIBRO ==========
+
+    // Vencidas: préstamos abiertos en loans; el resto sale del estado de la copia
+    String STOCK_COUNTS = "SELECT new org.bibliodigit.repository.projection.StockCounts(s.book.id, COUNT(s), " +
+        "SUM(CASE WHEN s.availability = true THEN 1 ELSE 0 END), " +
+        "SUM(CASE WHEN s.status = org.bibliodigit.domain.CopyStatus.ON_LOAN THEN 1 ELSE 0 END), " +
+        "(SELECT COUNT(l) FROM Loan l WHERE l.book.id = s.book.id " +
+        "AND l.status = org.bibliodigit.domain.LoanStatus.OVERDUE AND l.actualReturnDate IS NULL)) " +
+        "FROM Stock s ";
+
+    @Query(STOCK_COUNTS + "WHERE s.book.id = :bookId GROUP BY s.book.id")
+    Optional<StockCounts> countByBook(@Param("bookId") Long bookId);
+
+    @Query(STOCK_COUNTS + "WHERE s.book.id IN :bookIds GROUP BY s.book.id")
+    List<StockCounts> countByBookIn(@Param("bookIds") Collection<Long> bookIds);
+}
@@ -1,15 +1,53 @@
 package org.bibliodigit.repository;
 
+import jakarta.persistence.QueryHint;
 import org.bibliodigit.domain.TypeUser;
+import org.bibliodigit.domain.TypeUserView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TypeUserRepository extends JpaRepository<TypeUser, Long> {
-    
+
+    // Caché de consultas: solo guarda los ids, las entidades salen de la región reference.typeUsers
+    @Override
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.cacheable", value = "true"),
+        @QueryHint(name = "org.hibernate.cacheRegion", value = "reference.queries")
+    })
+    List<TypeUser> findAll();
+
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.cacheable", value = "true"),
+        @QueryHint(name = "org.hibernate.cacheRegion", value = "reference.queries")
+    })
     Optional<TypeUser> findByType(String type);
     
     boolean existsByType(String type);
+
+    // ========== CONTEOS (una fila por tipo, sin entidades User) ==========
+
+    String TYPE_USER_VIEW = "SELECT new org.bibliodigit.domain.TypeUserView(" +
+        "t.id, t.type, t.description, COUNT(u.id)) " +
+        "FROM TypeUser t LEFT JOIN t.users u ";
+
+    String GROUP_BY_TYPE = "GROUP BY t.id, t.type, t.description ";
+
+    @Query(TYPE_USER_VIEW + GROUP_BY_TYPE + "ORDER BY t.id")
+    List<TypeUserView> findAllViews();
+
+    @Query(TYPE_USER_VIEW + "WHERE t.id = :id " + GROUP_BY_TYPE)
+    Optional<TypeUserView> findViewById(@Param("id") Long id);
+
+    @Query(TYPE_USER_VIEW + "WHERE t.type = :type " + GROUP_BY_TYPE)
+    Optional<TypeUserView> findViewByType(@Param("type") String type);
+
+    @Query("SELECT COUNT(u) FROM User u WHERE u.typeUser.id = :id")
+    long countUsers(@Param("id") Long typeUserId);
 }
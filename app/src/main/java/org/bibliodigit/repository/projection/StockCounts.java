@@ -0,0 +1,9 @@
+package org.bibliodigit.repository.projection;
+
+// Conteo de copias por libro calculado sobre stock (y loans para las vencidas)
+public record StockCounts(Long bookId, Long total, Long available, Long onLoan, Long overdue) {
+
+    public static StockCounts empty(Long bookId) {
+        return new StockCounts(bookId, 0L, 0L, 0L, 0L);
+    }
+}
@@ -0,0 +1,87 @@
+package org.bibliodigit.security;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bibliodigit.domain.AuthPrincipal;
+import org.bibliodigit.domain.User;
+import org.bibliodigit.repository.UserRepository;
+import org.bibliodigit.util.TokenUtil;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+// Token aleatorio guardado en users.auth_token, con caché de sesiones en memoria
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.token.mode", havingValue = "opaque", matchIfMissing = true)
+public class OpaqueTokenStrategy implements TokenStrategy {
+
+    private final UserRepository userRepository;
+    private final TokenSessionCache sessionCache;
+
+    @Override
+    public String issue(User user) {
+        String token = TokenUtil.generateToken();
+        user.setAuthToken(token);
+        user.setTokenCreatedAt(LocalDateTime.now());
+
+        userRepository.save(user);
+
+        // El token anterior deja de ser válido en la BD, así que también se descarta de la caché
+        sessionCache.start(token, user);
+
+        return token;
+    }
+
+    @Override
+    @Timed(value = "bibliodigit.auth", extraTags = {"operation", "authenticate"})
+    public Optional<AuthPrincipal> authenticate(String token) {
+        Optional<AuthPrincipal> cached = sessionCache.get(token);
+
+        if (cached.isPresent()) {
+            return cached.filter(AuthPrincipal::isActive);
+        }
+
+        Optional<User> userOpt = userRepository.findByAuthToken(token);
+
+        if (userOpt.isEmpty()) {
+            return Optional.empty();
+        }
+
+        User user = userOpt.get();
+
+        if (!user.getIsActive()) {
+            return Optional.empty();
+        }
+
+        LocalDateTime expirationTime = sessionCache.expiresAt(user.getTokenCreatedAt());
+        if (LocalDateTime.now().isAfter(expirationTime)) {
+            log.debug("Token expired for user: {}", user.getEmail());
+            return Optional.empty();
+        }
+
+        return Optional.of(sessionCache.put(token, user));
+    }
+
+    @Override
+    public void revoke(String token) {
+        sessionCache.invalidate(token);
+
+        userRepository.findByAuthToken(token)
+            .ifPresent(user -> {
+                user.setAuthToken(null);
+                user.setTokenCreatedAt(null);
+                userRepository.save(user);
+                log.debug("Logout successful for user: {}", user.getEmail());
+            });
+    }
+
+    @Override
+    public void revokeUser(Long userId) {
+        sessionCache.invalidateUser(userId);
+    }
+}
@@ -0,0 +1,102 @@
+package org.bibliodigit.security;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bibliodigit.util.PasswordUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Hashing de contraseñas en un pool acotado: una ráfaga de logins no puede ocupar los hilos de Tomcat
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final ThreadPoolExecutor executor;
+    private final int iterations;
+    private final long timeoutMs;
+    private final String dummyHash;
+
+    public PasswordHasher(
+            @Value("${auth.password.iterations:310000}") int iterations,
+            @Value("${auth.password.hashing.threads:0}") int threads,
+            @Value("${auth.password.hashing.queue-capacity:32}") int queueCapacity,
+            @Value("${auth.password.hashing.timeout:5000}") long timeoutMs) {
+
+        int poolSize = threads > 0
+            ? threads
+            : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        // Cola llena: se rechaza de inmediato en lugar de acumular esperas
+        this.executor = new ThreadPoolExecutor(
+            poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            Thread.ofPlatform().name("password-hasher-", 0).daemon(true).factory(),
+            new ThreadPoolExecutor.AbortPolicy());
+
+        this.iterations = iterations;
+        this.timeoutMs = timeoutMs;
+        this.dummyHash = PasswordUtil.hashPassword(UUID.randomUUID().toString(), iterations);
+
+        log.info("Password hasher: {} threads, queue {}, {} iterations", poolSize, queueCapacity, iterations);
+    }
+
+    public String hash(String rawPassword) {
+        return run(() -> PasswordUtil.hashPassword(rawPassword, iterations));
+    }
+
+    public boolean verify(String rawPassword, String hashedPassword) {
+        return run(() -> PasswordUtil.verifyPassword(rawPassword, hashedPassword));
+    }
+
+    // Mismo coste que comprobar una contraseña real: un correo inexistente no responde antes
+    public void verifyDummy(String rawPassword) {
+        run(() -> PasswordUtil.verifyPassword(rawPassword, dummyHash));
+    }
+
+    public boolean needsRehash(String hashedPassword) {
+        return PasswordUtil.needsRehash(hashedPassword, iterations);
+    }
+
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("Password hashing rejected, queue depth: {}", executor.getQueue().size());
+            throw new PasswordHashingRejectedException("Password hashing capacity exceeded");
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new PasswordHashingRejectedException("Password hashing timed out");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Error hashing password", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,9 @@
+package org.bibliodigit.security;
+
+// El pool de hashing está saturado; el cliente debe reintentar más tarde
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+}
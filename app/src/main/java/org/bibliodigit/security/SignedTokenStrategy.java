@@ -0,0 +1,157 @@
+package org.bibliodigit.security;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.bibliodigit.domain.AuthPrincipal;
+import org.bibliodigit.domain.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.Optional;
+
+// Token compacto firmado con HMAC-SHA256: se valida con CPU y la versión de tokens del usuario (cacheada)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auth.token.mode", havingValue = "signed")
+public class SignedTokenStrategy implements TokenStrategy {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final String SEPARATOR = "|";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Mac prototype;
+    private final Duration tokenTtl;
+    private final TokenVersions tokenVersions;
+
+    public SignedTokenStrategy(
+            @Value("${auth.token.secret}") String secret,
+            @Value("${auth.token.expiration}") long tokenExpirationMs,
+            TokenVersions tokenVersions) {
+
+        byte[] key = secret.getBytes(StandardCharsets.UTF_8);
+
+        if (key.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException(
+                "auth.token.secret must be at least " + MIN_SECRET_BYTES + " bytes when auth.token.mode=signed");
+        }
+
+        try {
+            this.prototype = Mac.getInstance(ALGORITHM);
+            this.prototype.init(new SecretKeySpec(key, ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Error initializing token signer", e);
+        }
+
+        this.tokenTtl = Duration.ofMillis(tokenExpirationMs);
+        this.tokenVersions = tokenVersions;
+    }
+
+    @Override
+    public String issue(User user) {
+        Instant now = Instant.now();
+
+        String payload = String.join(SEPARATOR,
+            user.getId().toString(),
+            user.getTypeUser().getType(),
+            user.getTokenVersion().toString(),
+            Long.toString(now.toEpochMilli()),
+            Long.toString(now.plus(tokenTtl).toEpochMilli())
+        );
+
+        String encodedPayload = ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        return encodedPayload + "." + ENCODER.encodeToString(sign(encodedPayload));
+    }
+
+    @Override
+    @Timed(value = "bibliodigit.auth", extraTags = {"operation", "authenticate"})
+    public Optional<AuthPrincipal> authenticate(String token) {
+        return parse(token)
+            .filter(claims -> Instant.now().isBefore(claims.expiresAt()))
+            .filter(claims -> tokenVersions.isCurrent(claims.userId(), claims.version()))
+            .map(claims -> AuthPrincipal.builder()
+                .userId(claims.userId())
+                .role(claims.role())
+                .active(true)
+                .expiresAt(LocalDateTime.ofInstant(claims.expiresAt(), ZoneId.systemDefault()))
+                .build());
+    }
+
+    // Un usuario tiene una sola sesión, como en el modo opaco: cerrar sesión invalida todos sus tokens
+    @Override
+    public void revoke(String token) {
+        parse(token).ifPresent(claims -> {
+            tokenVersions.bump(claims.userId());
+            log.debug("Logout successful for user: {}", claims.userId());
+        });
+    }
+
+    @Override
+    public void revokeUser(Long userId) {
+        tokenVersions.bump(userId);
+    }
+
+    private Optional<SignedClaims> parse(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+
+        int dot = token.lastIndexOf('.');
+
+        if (dot <= 0) {
+            return Optional.empty();
+        }
+
+        try {
+            String encodedPayload = token.substring(0, dot);
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+
+            if (!MessageDigest.isEqual(signature, sign(encodedPayload))) {
+                return Optional.empty();
+            }
+
+            String payload = new String(DECODER.decode(encodedPayload), StandardCharsets.UTF_8);
+            String[] parts = payload.split("\\" + SEPARATOR);
+
+            if (parts.length != 5) {
+                return Optional.empty();
+            }
+
+            return Optional.of(new SignedClaims(
+                Long.parseLong(parts[0]),
+                parts[1],
+                Long.parseLong(parts[2]),
+                Instant.ofEpochMilli(Long.parseLong(parts[3])),
+                Instant.ofEpochMilli(Long.parseLong(parts[4]))
+            ));
+        } catch (IllegalArgumentException e) {
+            log.debug("Malformed signed token: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(String encodedPayload) {
+        try {
+            Mac mac = (Mac) prototype.clone();
+            return mac.doFinal(encodedPayload.getBytes(StandardCharsets.UTF_8));
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("Error signing token", e);
+        }
+    }
+
+    private record SignedClaims(Long userId, String role, long version, Instant issuedAt, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,140 @@
+package org.bibliodigit.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import lombok.extern.slf4j.Slf4j;
+import org.bibliodigit.domain.AuthPrincipal;
+import org.bibliodigit.domain.User;
+import org.bibliodigit.util.TransactionHooks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+public class TokenSessionCache {
+
+    // Acotada por tamaño (desalojo W-TinyLFU) y con caducidad por entrada igual a la del token
+    private final Cache<String, AuthPrincipal> sessions;
+    private final ConcurrentHashMap<Long, Set<String>> tokensByUser = new ConcurrentHashMap<>();
+
+    private final Duration tokenTtl;
+
+    public TokenSessionCache(
+            @Value("${auth.token.expiration}") long tokenExpirationMs,
+            @Value("${auth.token.session-cache.max-size:100000}") int maxSize) {
+        this.tokenTtl = Duration.ofMillis(tokenExpirationMs);
+        this.sessions = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new PrincipalExpiry())
+            .removalListener((String token, AuthPrincipal principal, RemovalCause cause) -> {
+                // Al reemplazar, el token sigue en caché y en el índice
+                if (cause != RemovalCause.REPLACED && token != null && principal != null) {
+                    unindex(token, principal.getUserId());
+                }
+            })
+            .executor(Runnable::run)
+            .build();
+    }
+
+    public LocalDateTime expiresAt(LocalDateTime tokenCreatedAt) {
+        return tokenCreatedAt.plus(tokenTtl);
+    }
+
+    public Optional<AuthPrincipal> get(String token) {
+        return Optional.ofNullable(sessions.getIfPresent(token));
+    }
+
+    public AuthPrincipal put(String token, User user) {
+        AuthPrincipal principal = principal(user);
+        cache(token, principal);
+        return principal;
+    }
+
+    // Sesión recién emitida: sustituye a las anteriores del usuario cuando se confirma el token en la BD
+    public void start(String token, User user) {
+        AuthPrincipal principal = principal(user);
+
+        TransactionHooks.afterCommit(() -> {
+            evictUser(principal.getUserId());
+            cache(token, principal);
+        });
+    }
+
+    // Tras el commit, igual que invalidateUser: antes, un authenticate concurrente aún lee el token
+    // en la BD y lo volvería a cachear hasta que caduque
+    public void invalidate(String token) {
+        TransactionHooks.afterCommit(() -> sessions.invalidate(token));
+    }
+
+    // Tras el commit: una petición concurrente no vuelve a cachear el rol o estado anterior leído de la BD
+    public void invalidateUser(Long userId) {
+        TransactionHooks.afterCommit(() -> evictUser(userId));
+    }
+
+    @Scheduled(fixedDelayString = "${auth.token.session-cache.purge-interval:60000}")
+    public void purgeExpired() {
+        sessions.cleanUp();
+    }
+
+    public long size() {
+        return sessions.estimatedSize();
+    }
+
+    private AuthPrincipal principal(User user) {
+        return AuthPrincipal.builder()
+            .userId(user.getId())
+            .email(user.getEmail())
+            .role(user.getTypeUser().getType())
+            .active(Boolean.TRUE.equals(user.getIsActive()))
+            .expiresAt(expiresAt(user.getTokenCreatedAt()))
+            .build();
+    }
+
+    private void cache(String token, AuthPrincipal principal) {
+        tokensByUser.computeIfAbsent(principal.getUserId(), id -> ConcurrentHashMap.newKeySet()).add(token);
+        sessions.put(token, principal);
+    }
+
+    private void evictUser(Long userId) {
+        Set<String> tokens = tokensByUser.remove(userId);
+
+        if (tokens != null) {
+            sessions.invalidateAll(tokens);
+            log.debug("Invalidated {} sessions for user {}", tokens.size(), userId);
+        }
+    }
+
+    private void unindex(String token, Long userId) {
+        tokensByUser.computeIfPresent(userId, (id, tokens) -> {
+            tokens.remove(token);
+            return tokens.isEmpty() ? null : tokens;
+        });
+    }
+
+    private static final class PrincipalExpiry implements Expiry<String, AuthPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String token, AuthPrincipal principal, long currentTime) {
+            return Math.max(0, Duration.between(LocalDateTime.now(), principal.getExpiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, AuthPrincipal principal, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, principal, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, AuthPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package org.bibliodigit.security;
+
+import org.bibliodigit.domain.AuthPrincipal;
+import org.bibliodigit.domain.User;
+
+import java.util.Optional;
+
+public interface TokenStrategy {
+
+    String issue(User user);
+
+    Optional<AuthPrincipal> authenticate(String token);
+
+    void revoke(String token);
+
+    void revokeUser(Long userId);
+}
@@ -0,0 +1,55 @@
+package org.bibliodigit.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.bibliodigit.domain.User;
+import org.bibliodigit.repository.UserRepository;
+import org.bibliodigit.util.TransactionHooks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// Versión de tokens por usuario guardada en users.token_version: revocar es incrementarla.
+// Se cachea poco tiempo, así que otra instancia ve la revocación como mucho tras ese plazo
+@Slf4j
+@Component
+public class TokenVersions {
+
+    private static final long MISSING = -1L;
+
+    private final UserRepository userRepository;
+    private final Cache<Long, Long> versions;
+
+    public TokenVersions(
+            UserRepository userRepository,
+            @Value("${auth.token.version-cache.ttl:30s}") Duration ttl,
+            @Value("${auth.token.version-cache.max-size:100000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.versions = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .build();
+    }
+
+    public boolean isCurrent(Long userId, long version) {
+        // Usuario borrado: ningún token suyo vale
+        long current = versions.get(userId, id -> userRepository.findTokenVersionById(id).orElse(MISSING));
+        return current != MISSING && current == version;
+    }
+
+    // En la transacción de quien revoca; la caché local se descarta al confirmar
+    public void bump(Long userId) {
+        Optional<User> user = userRepository.findById(userId);
+
+        user.ifPresent(found -> {
+            found.setTokenVersion(found.getTokenVersion() + 1);
+            userRepository.save(found);
+            log.debug("Token version of user {} raised to {}", userId, found.getTokenVersion());
+        });
+
+        TransactionHooks.afterCommit(() -> versions.invalidate(userId));
+    }
+}
@@ -0,0 +1,38 @@
+package org.bibliodigit.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+// ETag fuerte a partir de ids y versiones: cambia con cualquier UPDATE que afecte a la representación
+public class EtagUtil {
+
+    private static final int LENGTH = 16;
+
+    public static String of(Object... parts) {
+        return of(Arrays.asList(parts));
+    }
+
+    public static String of(List<?> parts) {
+        MessageDigest digest = sha256();
+
+        for (Object part : parts) {
+            digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '|');
+        }
+
+        byte[] hash = Arrays.copyOf(digest.digest(), LENGTH);
+        return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash) + "\"";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
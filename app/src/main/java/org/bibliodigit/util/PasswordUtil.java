@@ -1,13 +1,102 @@
 package org.bibliodigit.util;
 
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
 import java.util.Base64;
 
+// Formato: pbkdf2$<iteraciones>$<sal>$<hash>. Los hashes SHA-256 sin sal anteriores se siguen aceptando
 public class PasswordUtil {
 
+    public static final int DEFAULT_ITERATIONS = 310_000;
+
+    private static final String PREFIX = "pbkdf2";
+    private static final String SEPARATOR = "$";
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int SALT_BYTES = 16;
+    private static final int KEY_BITS = 256;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder ENCODER = Base64.getEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getDecoder();
+
     public static String hashPassword(String password) {
+        return hashPassword(password, DEFAULT_ITERATIONS);
+    }
+
+    public static String hashPassword(String password, int iterations) {
+        byte[] salt = new byte[SALT_BYTES];
+        RANDOM.nextBytes(salt);
+
+        byte[] hash = pbkdf2(password, salt, iterations);
+        return String.join(SEPARATOR, PREFIX, Integer.toString(iterations),
+            ENCODER.encodeToString(salt), ENCODER.encodeToString(hash));
+    }
+
+    public static boolean verifyPassword(String rawPassword, String hashedPassword) {
+        if (hashedPassword == null) {
+            return false;
+        }
+
+        if (!isPbkdf2(hashedPassword)) {
+            return MessageDigest.isEqual(
+                legacyHash(rawPassword).getBytes(StandardCharsets.UTF_8),
+                hashedPassword.getBytes(StandardCharsets.UTF_8));
+        }
+
+        String[] parts = hashedPassword.split("\\" + SEPARATOR);
+
+        if (parts.length != 4) {
+            return false;
+        }
+
+        try {
+            int iterations = Integer.parseInt(parts[1]);
+            byte[] salt = DECODER.decode(parts[2]);
+            byte[] expected = DECODER.decode(parts[3]);
+
+            return MessageDigest.isEqual(expected, pbkdf2(rawPassword, salt, iterations));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // Hashes heredados o con menos iteraciones que las configuradas se recalculan en el siguiente login
+    public static boolean needsRehash(String hashedPassword, int iterations) {
+        if (hashedPassword == null || !isPbkdf2(hashedPassword)) {
+            return true;
+        }
+
+        String[] parts = hashedPassword.split("\\" + SEPARATOR);
+
+        try {
+            return parts.length != 4 || Integer.parseInt(parts[1]) < iterations;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    private static boolean isPbkdf2(String hashedPassword) {
+        return hashedPassword.startsWith(PREFIX + SEPARATOR);
+    }
+
+    private static byte[] pbkdf2(String password, byte[] salt, int iterations) {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, KEY_BITS);
+
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Error hashing password", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+
+    private static String legacyHash(String password) {
         try {
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
             byte[] hash = digest.digest(password.getBytes(StandardCharsets.UTF_8));
@@ -16,9 +105,4 @@ public class PasswordUtil {
             throw new RuntimeException("Error hashing password", e);
         }
     }
-
-    public static boolean verifyPassword(String rawPassword, String hashedPassword) {
-        String hashedInput = hashPassword(rawPassword);
-        return hashedInput.equals(hashedPassword);
-    }
 }
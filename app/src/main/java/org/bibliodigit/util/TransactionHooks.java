@@ -0,0 +1,23 @@
+package org.bibliodigit.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Acciones que solo deben verse si la escritura se confirma (desalojos de caché, índice, sesiones).
+// Sin transacción en curso se ejecutan en el acto; con rollback no se ejecutan
+public class TransactionHooks {
+
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -43,61 +43,40 @@ INSERT INTO books (id, title, isbn, year, author_id, category_id) VALUES
 -- ========== STOCK (Inventario de libros) ==========
 -- Creamos múltiples copias de cada libro
 
-INSERT INTO stock (id, book_id, user_id, availability, departure_date, delivery_date, status) VALUES
+INSERT INTO stock (id, book_id, availability, status) VALUES
 -- Cien Años de Soledad (3 copias)
-(1, 1, NULL, true, NULL, NULL, 'AVAILABLE'),
-(2, 1, NULL, true, NULL, NULL, 'AVAILABLE'),
-(3, 1, NULL, true, NULL, NULL, 'AVAILABLE'),
+(1, 1, true, 'AVAILABLE'),
+(2, 1, true, 'AVAILABLE'),
+(3, 1, true, 'AVAILABLE'),
 
 -- Harry Potter (2 copias)
-(4, 2, NULL, true, NULL, NULL, 'AVAILABLE'),
-(5, 2, NULL, true, NULL, NULL, 'AVAILABLE'),
+(4, 2, true, 'AVAILABLE'),
+(5, 2, true, 'AVAILABLE'),
 
 -- 1984 (2 copias)
-(6, 3, NULL, true, NULL, NULL, 'AVAILABLE'),
-(7, 3, NULL, true, NULL, NULL, 'AVAILABLE'),
+(6, 3, true, 'AVAILABLE'),
+(7, 3, true, 'AVAILABLE'),
 
 -- Orgullo y Prejuicio (1 copia)
-(8, 4, NULL, true, NULL, NULL, 'AVAILABLE'),
+(8, 4, true, 'AVAILABLE'),
 
 -- Don Quijote (3 copias)
-(9, 5, NULL, true, NULL, NULL, 'AVAILABLE'),
-(10, 5, NULL, true, NULL, NULL, 'AVAILABLE'),
-(11, 5, NULL, true, NULL, NULL, 'AVAILABLE');
+(9, 5, true, 'AVAILABLE'),
+(10, 5, true, 'AVAILABLE'),
+(11, 5, true, 'AVAILABLE');
 
 -- ========== PRÉSTAMOS ACTIVOS (Ejemplos) ==========
+-- Cada préstamo es una fila de loans; la copia solo cambia de estado
 
+INSERT INTO loans (id, stock_id, book_id, user_id, status, departure_date, delivery_date) VALUES
 -- Juan Pérez (estudiante) tiene 2 libros prestados
-UPDATE stock SET 
-    user_id = 2,
-    availability = false,
-    departure_date = CURRENT_TIMESTAMP - INTERVAL '5 days',
-    delivery_date = CURRENT_TIMESTAMP + INTERVAL '9 days',
-    status = 'ACTIVE'
-WHERE id = 1;
-
-UPDATE stock SET 
-    user_id = 2,
-    availability = false,
-    departure_date = CURRENT_TIMESTAMP - INTERVAL '3 days',
-    delivery_date = CURRENT_TIMESTAMP + INTERVAL '11 days',
-    status = 'ACTIVE'
-WHERE id = 4;
+(1, 1, 1, 2, 'ACTIVE', CURRENT_TIMESTAMP - INTERVAL '5 days', CURRENT_TIMESTAMP + INTERVAL '9 days'),
+(2, 4, 2, 2, 'ACTIVE', CURRENT_TIMESTAMP - INTERVAL '3 days', CURRENT_TIMESTAMP + INTERVAL '11 days'),
 
 -- María García (docente) tiene 1 libro prestado
-UPDATE stock SET 
-    user_id = 3,
-    availability = false,
-    departure_date = CURRENT_TIMESTAMP - INTERVAL '10 days',
-    delivery_date = CURRENT_TIMESTAMP + INTERVAL '20 days',
-    status = 'ACTIVE'
-WHERE id = 6;
+(3, 6, 3, 3, 'ACTIVE', CURRENT_TIMESTAMP - INTERVAL '10 days', CURRENT_TIMESTAMP + INTERVAL '20 days'),
 
 -- Ejemplo de préstamo RETRASADO (Carlos López - externo)
-UPDATE stock SET 
-    user_id = 4,
-    availability = false,
-    departure_date = CURRENT_TIMESTAMP - INTERVAL '10 days',
-    delivery_date = CURRENT_TIMESTAMP - INTERVAL '3 days',  -- Ya pasó la fecha límite
-    status = 'ACTIVE'
-WHERE id = 9;
+(4, 9, 5, 4, 'ACTIVE', CURRENT_TIMESTAMP - INTERVAL '10 days', CURRENT_TIMESTAMP - INTERVAL '3 days');  -- Ya pasó la fecha límite
+
+UPDATE stock SET availability = false, status = 'ON_LOAN' WHERE id IN (1, 4, 6, 9);
@@ -0,0 +1,4 @@
+-- ========== ISBN DE LIBROS ==========
+-- Book.isbn existía en la entidad pero no en el esquema: ddl-auto=validate fallaba al arrancar
+
+ALTER TABLE books ADD COLUMN IF NOT EXISTS isbn VARCHAR(20);
@@ -0,0 +1,60 @@
+-- ========== ESQUEMA BASE ==========
+-- Equivale al esquema que generaba ddl-auto=update; en bases existentes se marca
+-- como baseline (spring.flyway.baseline-on-migrate) y no se vuelve a ejecutar.
+
+CREATE TABLE IF NOT EXISTS type_users (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    type        VARCHAR(50)  NOT NULL UNIQUE,
+    description VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS users (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name             VARCHAR(255) NOT NULL,
+    email            VARCHAR(255) NOT NULL UNIQUE,
+    password         VARCHAR(255) NOT NULL,
+    type_user_id     BIGINT       NOT NULL REFERENCES type_users (id),
+    auth_token       VARCHAR(500),
+    token_created_at TIMESTAMP(6),
+    is_active        BOOLEAN,
+    created_at       TIMESTAMP(6),
+    updated_at       TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS authors (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL,
+    nationality VARCHAR(100)
+);
+
+CREATE TABLE IF NOT EXISTS categories (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(100) NOT NULL UNIQUE,
+    description VARCHAR(500)
+);
+
+CREATE TABLE IF NOT EXISTS books (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title       VARCHAR(255) NOT NULL,
+    year        INTEGER      NOT NULL,
+    author_id   BIGINT REFERENCES authors (id),
+    category_id BIGINT REFERENCES categories (id)
+);
+
+CREATE TABLE IF NOT EXISTS stock (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    book_id            BIGINT      NOT NULL REFERENCES books (id),
+    user_id            BIGINT REFERENCES users (id),
+    availability       BOOLEAN     NOT NULL,
+    departure_date     TIMESTAMP(6),
+    delivery_date      TIMESTAMP(6),
+    status             VARCHAR(20) CHECK (status IN ('AVAILABLE', 'ACTIVE', 'RETURNED', 'OVERDUE')),
+    actual_return_date TIMESTAMP(6),
+    fine               NUMERIC(10, 2)
+);
+
+CREATE TABLE IF NOT EXISTS job_watermarks (
+    name            VARCHAR(100) PRIMARY KEY,
+    processed_until TIMESTAMP(6) NOT NULL,
+    updated_at      TIMESTAMP(6)
+);
@@ -0,0 +1,38 @@
+-- ========== ÍNDICES DE PRÉSTAMOS Y CATÁLOGO ==========
+-- IF NOT EXISTS: las bases migradas desde ddl-auto=update pueden tener alguno ya creado
+
+-- Selección de copia libre: findFirstByBookIdAndAvailabilityOrderByIdAsc y findFirstAvailableForBooks.
+-- Se consulta con availability como parámetro, así que no puede ser parcial (plan genérico)
+CREATE INDEX IF NOT EXISTS idx_stock_book_availability
+    ON stock (book_id, availability, id);
+
+-- Préstamos por usuario: countActiveLoansForUser, findByUserIdAndStatusIn, findByUserId
+CREATE INDEX IF NOT EXISTS idx_stock_user_status
+    ON stock (user_id, status);
+
+-- OverdueLoanSweeper.markOverdue: solo préstamos activos todavía fuera
+CREATE INDEX IF NOT EXISTS idx_stock_active_delivery
+    ON stock (delivery_date)
+    WHERE status = 'ACTIVE' AND availability = false;
+
+-- findOverdueLoans y accrueOverdueFines: préstamos vencidos todavía fuera
+CREATE INDEX IF NOT EXISTS idx_stock_overdue_open
+    ON stock (delivery_date)
+    WHERE status = 'OVERDUE' AND availability = false;
+
+-- Solo los usuarios con sesión opaca tienen token; '=' implica NOT NULL, así que el parcial sirve con parámetros
+CREATE INDEX IF NOT EXISTS idx_users_auth_token
+    ON users (auth_token)
+    WHERE auth_token IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_users_type_user
+    ON users (type_user_id);
+
+CREATE INDEX IF NOT EXISTS idx_books_author
+    ON books (author_id);
+
+CREATE INDEX IF NOT EXISTS idx_books_category
+    ON books (category_id);
+
+CREATE INDEX IF NOT EXISTS idx_books_year
+    ON books (year);
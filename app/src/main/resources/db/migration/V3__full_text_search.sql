@@ -0,0 +1,22 @@
+-- ========== BÚSQUEDA DE TEXTO COMPLETO ==========
+
+CREATE EXTENSION IF NOT EXISTS unaccent;
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- unaccent() no es IMMUTABLE, así que se envuelve para poder usarla en índices
+CREATE OR REPLACE FUNCTION bibliodigit_unaccent(text) RETURNS text
+    AS 'SELECT public.unaccent(''public.unaccent'', $1)'
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT;
+
+CREATE INDEX IF NOT EXISTS idx_books_title_fts
+    ON books USING gin (to_tsvector('simple', bibliodigit_unaccent(title)));
+
+CREATE INDEX IF NOT EXISTS idx_authors_name_fts
+    ON authors USING gin (to_tsvector('simple', bibliodigit_unaccent(name)));
+
+-- Trigramas: permiten usar índice en los LIKE '%x%' existentes
+CREATE INDEX IF NOT EXISTS idx_books_title_trgm
+    ON books USING gin (title gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_authors_name_trgm
+    ON authors USING gin (lower(name) gin_trgm_ops);
@@ -0,0 +1,21 @@
+-- ========== DISPONIBILIDAD POR LIBRO ==========
+-- Agregado mantenido por LoanServiceImpl; AvailabilityReconciler corrige desvíos contra stock
+
+CREATE TABLE IF NOT EXISTS book_availability (
+    book_id          BIGINT  PRIMARY KEY REFERENCES books (id) ON DELETE CASCADE,
+    total_copies     INTEGER NOT NULL DEFAULT 0,
+    available_copies INTEGER NOT NULL DEFAULT 0,
+    on_loan_copies   INTEGER NOT NULL DEFAULT 0,
+    overdue_copies   INTEGER NOT NULL DEFAULT 0
+);
+
+INSERT INTO book_availability (book_id, total_copies, available_copies, on_loan_copies, overdue_copies)
+SELECT b.id,
+       COUNT(s.id),
+       COUNT(s.id) FILTER (WHERE s.availability),
+       COUNT(s.id) FILTER (WHERE NOT s.availability AND s.status IN ('ACTIVE', 'OVERDUE')),
+       COUNT(s.id) FILTER (WHERE NOT s.availability AND s.status = 'OVERDUE')
+FROM books b
+LEFT JOIN stock s ON s.book_id = b.id
+GROUP BY b.id
+ON CONFLICT (book_id) DO NOTHING;
@@ -0,0 +1,27 @@
+-- ========== IDS POR SECUENCIA ==========
+-- Con IDENTITY Hibernate necesita el id de cada fila al insertarla y no puede agrupar INSERT.
+-- Incremento 50 = allocationSize de Book/Stock (optimizador pooled: el valor es el límite superior
+-- del bloque, por eso se arranca 50 por encima del máximo actual).
+
+CREATE SEQUENCE IF NOT EXISTS books_seq INCREMENT BY 50;
+SELECT setval('books_seq', (SELECT COALESCE(MAX(id), 0) FROM books) + 50);
+ALTER TABLE books ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS stock_seq INCREMENT BY 50;
+SELECT setval('stock_seq', (SELECT COALESCE(MAX(id), 0) FROM stock) + 50);
+ALTER TABLE stock ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+-- ========== CHECKPOINTS DE IMPORTACIÓN ==========
+
+CREATE TABLE IF NOT EXISTS import_checkpoints (
+    job_name          VARCHAR(100) PRIMARY KEY,
+    format            VARCHAR(10)  NOT NULL,
+    status            VARCHAR(20)  NOT NULL,
+    records_processed BIGINT       NOT NULL DEFAULT 0,
+    books_created     BIGINT       NOT NULL DEFAULT 0,
+    copies_created    BIGINT       NOT NULL DEFAULT 0,
+    records_skipped   BIGINT       NOT NULL DEFAULT 0,
+    last_error        VARCHAR(1000),
+    started_at        TIMESTAMP(6),
+    updated_at        TIMESTAMP(6)
+);
@@ -0,0 +1,36 @@
+-- ========== COLA DE RESERVAS ==========
+-- Una fila por libro con reservas: los turnos en espera son (served_ticket, last_ticket],
+-- así la posición de una reserva se calcula sin contar filas de holds.
+
+ALTER TABLE stock DROP CONSTRAINT IF EXISTS stock_status_check;
+ALTER TABLE stock ADD CONSTRAINT stock_status_check
+    CHECK (status IN ('AVAILABLE', 'ACTIVE', 'RETURNED', 'OVERDUE', 'RESERVED'));
+
+CREATE TABLE IF NOT EXISTS hold_queues (
+    book_id       BIGINT PRIMARY KEY REFERENCES books (id) ON DELETE CASCADE,
+    last_ticket   BIGINT NOT NULL DEFAULT 0,
+    served_ticket BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE TABLE IF NOT EXISTS holds (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    book_id    BIGINT      NOT NULL REFERENCES books (id) ON DELETE CASCADE,
+    user_id    BIGINT      NOT NULL REFERENCES users (id),
+    stock_id   BIGINT REFERENCES stock (id),
+    ticket     BIGINT      NOT NULL,
+    status     VARCHAR(20) NOT NULL
+        CHECK (status IN ('WAITING', 'READY', 'FULFILLED', 'EXPIRED', 'CANCELLED')),
+    created_at TIMESTAMP(6),
+    ready_at   TIMESTAMP(6),
+    expires_at TIMESTAMP(6)
+);
+
+-- Cabeza de la cola: (book_id, served_ticket + 1). Sin UNIQUE: al cancelar se desplazan los
+-- turnos posteriores en un solo UPDATE y la unicidad se violaría a mitad de la sentencia
+CREATE INDEX IF NOT EXISTS idx_holds_queue ON holds (book_id, ticket) WHERE status = 'WAITING';
+
+-- Reservas abiertas de un usuario (duplicados y recogida en borrowBook)
+CREATE INDEX IF NOT EXISTS idx_holds_user_book ON holds (user_id, book_id) WHERE status IN ('WAITING', 'READY');
+
+-- Job de caducidad
+CREATE INDEX IF NOT EXISTS idx_holds_ready_expiry ON holds (expires_at) WHERE status = 'READY';
@@ -0,0 +1,103 @@
+-- ========== PRÉSTAMOS COMO TABLA DE HECHOS ==========
+-- stock deja de guardar el préstamo en curso (se sobrescribía en cada devolución y se perdía el
+-- historial); cada salida de una copia es una fila de loans, particionada por mes de salida.
+-- Las particiones futuras las crea LoanPartitionMaintainer.
+
+CREATE SEQUENCE IF NOT EXISTS loans_seq INCREMENT BY 50;
+
+-- La clave de partición tiene que formar parte de la PK
+CREATE TABLE IF NOT EXISTS loans (
+    id                 BIGINT       NOT NULL,
+    stock_id           BIGINT       NOT NULL REFERENCES stock (id),
+    book_id            BIGINT       NOT NULL REFERENCES books (id),
+    user_id            BIGINT       NOT NULL REFERENCES users (id),
+    status             VARCHAR(20)  NOT NULL CHECK (status IN ('ACTIVE', 'RETURNED', 'OVERDUE')),
+    departure_date     TIMESTAMP(6) NOT NULL,
+    delivery_date      TIMESTAMP(6),
+    actual_return_date TIMESTAMP(6),
+    fine               NUMERIC(10, 2),
+    PRIMARY KEY (id, departure_date)
+) PARTITION BY RANGE (departure_date);
+
+-- Un mes por partición desde el préstamo abierto más antiguo hasta tres meses por delante
+DO $$
+DECLARE
+    month DATE := date_trunc('month', COALESCE(
+        (SELECT MIN(departure_date) FROM stock WHERE availability = false AND user_id IS NOT NULL),
+        now()));
+    last_month DATE := date_trunc('month', now()) + INTERVAL '3 months';
+BEGIN
+    WHILE month <= last_month LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF loans FOR VALUES FROM (%L) TO (%L)',
+            'loans_' || to_char(month, 'YYYY_MM'), month, month + INTERVAL '1 month');
+        month := month + INTERVAL '1 month';
+    END LOOP;
+END $$;
+
+-- Red de seguridad para fechas fuera de rango: un INSERT nunca falla por falta de partición.
+-- Si recibe filas de un mes, ese mes ya no se puede crear como partición propia sin moverlas antes
+CREATE TABLE IF NOT EXISTS loans_default PARTITION OF loans DEFAULT;
+
+-- Índices declarados en la tabla padre: PostgreSQL crea uno equivalente en cada partición
+
+-- Historial por usuario; con rango de fechas solo se recorren las particiones del rango
+CREATE INDEX IF NOT EXISTS idx_loans_user_departure
+    ON loans (user_id, departure_date);
+
+-- countActiveLoansForUser y préstamos activos: solo préstamos sin devolver
+CREATE INDEX IF NOT EXISTS idx_loans_open_user
+    ON loans (user_id)
+    WHERE actual_return_date IS NULL;
+
+-- OverdueLoanSweeper.markOverdue
+CREATE INDEX IF NOT EXISTS idx_loans_active_delivery
+    ON loans (delivery_date)
+    WHERE status = 'ACTIVE' AND actual_return_date IS NULL;
+
+-- findOverdueLoanViews, accrueOverdueFines y vencidos por libro (book_availability)
+CREATE INDEX IF NOT EXISTS idx_loans_overdue_open
+    ON loans (book_id, delivery_date)
+    WHERE status = 'OVERDUE' AND actual_return_date IS NULL;
+
+-- ========== MIGRACIÓN DE LOS PRÉSTAMOS EN CURSO ==========
+-- Los préstamos ya devueltos no se pueden recuperar: stock dejaba user_id en NULL al devolver
+
+INSERT INTO loans (id, stock_id, book_id, user_id, status, departure_date, delivery_date, fine)
+SELECT row_number() OVER (ORDER BY s.id),
+       s.id,
+       s.book_id,
+       s.user_id,
+       CASE WHEN s.status = 'OVERDUE' THEN 'OVERDUE' ELSE 'ACTIVE' END,
+       COALESCE(s.departure_date, now()),
+       s.delivery_date,
+       s.fine
+FROM stock s
+WHERE s.availability = false
+  AND s.user_id IS NOT NULL
+  AND s.status IN ('ACTIVE', 'OVERDUE');
+
+SELECT setval('loans_seq', (SELECT COALESCE(MAX(id), 0) FROM loans) + 50);
+
+-- ========== STOCK SOLO CON ESTADO DE LA COPIA ==========
+
+ALTER TABLE stock DROP CONSTRAINT IF EXISTS stock_status_check;
+
+UPDATE stock SET status = CASE
+    WHEN status = 'RESERVED' THEN 'RESERVED'
+    WHEN availability THEN 'AVAILABLE'
+    ELSE 'ON_LOAN'
+END;
+
+ALTER TABLE stock ADD CONSTRAINT stock_status_check
+    CHECK (status IN ('AVAILABLE', 'ON_LOAN', 'RESERVED'));
+
+DROP INDEX IF EXISTS idx_stock_user_status;
+DROP INDEX IF EXISTS idx_stock_active_delivery;
+DROP INDEX IF EXISTS idx_stock_overdue_open;
+
+ALTER TABLE stock
+    DROP COLUMN IF EXISTS user_id,
+    DROP COLUMN IF EXISTS departure_date,
+    DROP COLUMN IF EXISTS delivery_date,
+    DROP COLUMN IF EXISTS actual_return_date,
+    DROP COLUMN IF EXISTS fine;
@@ -0,0 +1,5 @@
+-- ========== VERSIÓN DE TOKENS POR USUARIO ==========
+-- Los tokens firmados llevan la versión vigente al emitirse; incrementarla revoca todos los del usuario
+-- en cualquier instancia y sobrevive a reinicios
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS token_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,129 @@
+package org.bibliodigit.api;
+
+import org.bibliodigit.domain.Author;
+import org.bibliodigit.domain.Book;
+import org.bibliodigit.domain.Category;
+import org.bibliodigit.domain.port.BookService;
+import org.bibliodigit.domain.port.CategoryService;
+import org.bibliodigit.repository.AuthorRepository;
+import org.bibliodigit.repository.BookRepository;
+import org.bibliodigit.repository.CategoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("HTTP conditional GET Tests")
+class HttpCachingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @AfterEach
+    void tearDown() {
+        bookRepository.deleteAll();
+        authorRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should answer 304 for a matching ETag and a new ETag after an update")
+    void shouldRevalidateBookWithEtag() throws Exception {
+        Author author = authorRepository.save(Author.builder().name("Isabel Allende").build());
+        Category category = categoryRepository.save(Category.builder().name("Novela").build());
+        Book book = bookRepository.save(Book.builder()
+            .title("La casa de los espíritus")
+            .year(1982)
+            .author(author)
+            .category(category)
+            .build());
+
+        String etag = mockMvc.perform(get("/api/books/{id}", book.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=60, public, stale-while-revalidate=30"))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        assertThat(etag).startsWith("\"").endsWith("\"");
+
+        mockMvc.perform(get("/api/books/{id}", book.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag))
+            .andExpect(content().string(""));
+
+        bookService.update(book.getId(), Book.builder().title("La casa de los espíritus (ed. 40 aniversario)").year(1982).build());
+
+        String updated = mockMvc.perform(get("/api/books/{id}", book.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        assertThat(updated).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("Should change the book list ETag when its category changes")
+    void shouldIncludeRelatedVersionsInBookListEtag() throws Exception {
+        Category category = categoryRepository.save(Category.builder().name("Poesía").description("Verso").build());
+        bookRepository.save(Book.builder().title("Veinte poemas de amor").year(1924).category(category).build());
+
+        String etag = mockMvc.perform(get("/api/books"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        categoryService.update(category.getId(), Category.builder().name("Poesía").description("Lírica").build());
+
+        mockMvc.perform(get("/api/books").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should revalidate categories with ETag and Last-Modified")
+    void shouldRevalidateCategory() throws Exception {
+        Category category = categoryRepository.save(Category.builder().name("Ensayo").build());
+
+        var response = mockMvc.perform(get("/api/category/{id}", category.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=3600, public, stale-while-revalidate=30"))
+            .andReturn()
+            .getResponse();
+
+        mockMvc.perform(get("/api/category/{id}", category.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, response.getHeader(HttpHeaders.ETAG)))
+            .andExpect(status().isNotModified());
+    }
+}
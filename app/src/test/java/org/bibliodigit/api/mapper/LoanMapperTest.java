@@ -0,0 +1,59 @@
+package org.bibliodigit.api.mapper;
+
+import org.bibliodigit.api.dto.res.LoanResponse;
+import org.bibliodigit.domain.Book;
+import org.bibliodigit.domain.Loan;
+import org.bibliodigit.domain.LoanStatus;
+import org.bibliodigit.domain.LoanView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LoanMapper Tests")
+class LoanMapperTest {
+
+    private final LoanMapper mapper = new LoanMapper();
+
+    private final LocalDateTime departure = LocalDateTime.of(2026, 3, 2, 10, 0);
+
+    @Test
+    @DisplayName("Should flag a loan as returned only once it has a return date")
+    void shouldMapReturnedFromEntity() {
+        Loan open = loan(null, LoanStatus.ACTIVE);
+        Loan closed = loan(departure.plusDays(5), LoanStatus.RETURNED);
+
+        assertThat(mapper.toResponse(open).getReturned()).isFalse();
+        assertThat(mapper.toResponse(closed).getReturned()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should flag a projected loan the same way as the entity")
+    void shouldMapReturnedFromView() {
+        LoanResponse open = mapper.toResponse(view(null, LoanStatus.ACTIVE));
+        LoanResponse closed = mapper.toResponse(view(departure.plusDays(5), LoanStatus.RETURNED));
+
+        assertThat(open.getReturned()).isFalse();
+        assertThat(closed.getReturned()).isTrue();
+        assertThat(closed.getActualReturnDate()).isEqualTo(departure.plusDays(5));
+        assertThat(closed.getBookIsbn()).isEqualTo("978-84-376-0494-7");
+    }
+
+    private Loan loan(LocalDateTime returnedAt, LoanStatus status) {
+        return Loan.builder()
+            .id(1L)
+            .book(Book.builder().id(10L).title("Rayuela").build())
+            .status(status)
+            .departureDate(departure)
+            .deliveryDate(departure.plusDays(14))
+            .actualReturnDate(returnedAt)
+            .build();
+    }
+
+    private LoanView view(LocalDateTime returnedAt, LoanStatus status) {
+        return new LoanView(1L, 20L, 10L, "Rayuela", "978-84-376-0494-7", "Julio Cortázar",
+            30L, "Ana", "ana@uni.edu", "STUDENT", status, departure, departure.plusDays(14), returnedAt, null);
+    }
+}
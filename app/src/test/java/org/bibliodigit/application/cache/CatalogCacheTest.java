@@ -0,0 +1,183 @@
+package org.bibliodigit.application.cache;
+
+import org.bibliodigit.domain.Author;
+import org.bibliodigit.domain.Book;
+import org.bibliodigit.domain.BookView;
+import org.bibliodigit.domain.Category;
+import org.bibliodigit.domain.port.AuthorService;
+import org.bibliodigit.domain.port.BookService;
+import org.bibliodigit.domain.port.CategoryService;
+import org.bibliodigit.repository.AuthorRepository;
+import org.bibliodigit.repository.BookRepository;
+import org.bibliodigit.repository.CategoryRepository;
+import org.bibliodigit.support.TestData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+@DisplayName("Catalog cache Tests")
+class CatalogCacheTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private AuthorService authorService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TestData data;
+
+    private Author cortazar;
+    private Author borges;
+    private Category novela;
+    private Category cuento;
+    private Book rayuela;
+    private Book ficciones;
+
+    @BeforeEach
+    void setUp() {
+        cortazar = authorRepository.save(Author.builder().name("Julio Cortázar").build());
+        borges = authorRepository.save(Author.builder().name("Jorge Luis Borges").build());
+        novela = categoryRepository.save(Category.builder().name("Novela").build());
+        cuento = categoryRepository.save(Category.builder().name("Cuento").build());
+
+        rayuela = bookRepository.save(Book.builder().title("Rayuela").year(1963).author(cortazar).category(novela).build());
+        ficciones = bookRepository.save(Book.builder().title("Ficciones").year(1944).author(borges).category(cuento).build());
+
+        clearCaches();
+    }
+
+    @AfterEach
+    void tearDown() {
+        data.deleteAll();
+        clearCaches();
+    }
+
+    @Test
+    @DisplayName("Should serve the second read from the cache")
+    void shouldServeSecondReadFromCache() {
+        Optional<BookView> first = bookService.findById(rayuela.getId());
+        List<BookView> byAuthor = bookService.findByAuthorId(cortazar.getId());
+
+        assertThat(first).isPresent();
+        assertThat(cached(CatalogCache.BOOKS, rayuela.getId())).isTrue();
+
+        // Otra consulta devolvería un record nuevo: la misma instancia solo puede salir de la caché
+        assertThat(bookService.findById(rayuela.getId()).orElseThrow()).isSameAs(first.orElseThrow());
+        assertThat(bookService.findByAuthorId(cortazar.getId())).isSameAs(byAuthor);
+    }
+
+    @Test
+    @DisplayName("Should evict the book, its old year, author and category on update")
+    void shouldEvictBookKeysOnUpdate() {
+        warm(rayuela);
+        warm(ficciones);
+
+        bookService.update(rayuela.getId(), Book.builder().title("Rayuela (edición crítica)").year(1996).build());
+
+        assertThat(cached(CatalogCache.BOOKS, rayuela.getId())).isFalse();
+        assertThat(cached(CatalogCache.BOOKS_BY_YEAR, 1963)).isFalse();
+        assertThat(cached(CatalogCache.BOOKS_BY_AUTHOR, cortazar.getId())).isFalse();
+        assertThat(cached(CatalogCache.BOOKS_BY_CATEGORY, novela.getId())).isFalse();
+        assertThat(bookService.findById(rayuela.getId()).orElseThrow().year()).isEqualTo(1996);
+
+        assertCached(ficciones);
+    }
+
+    @Test
+    @DisplayName("Should keep cached entries when the write rolls back")
+    void shouldKeepEntriesOnRollback() {
+        warm(rayuela);
+
+        Book moved = Book.builder().title("Rayuela").year(1963).author(Author.builder().id(-1L).build()).build();
+        assertThatThrownBy(() -> bookService.update(rayuela.getId(), moved))
+            .hasMessage("Author not found");
+
+        assertCached(rayuela);
+    }
+
+    @Test
+    @DisplayName("Should evict the author's listing and books on author update")
+    void shouldEvictOnAuthorUpdate() {
+        warm(rayuela);
+        warm(ficciones);
+
+        authorService.update(cortazar.getId(), Author.builder().name("J. Cortázar").build());
+
+        assertThat(cached(CatalogCache.BOOKS_BY_AUTHOR, cortazar.getId())).isFalse();
+        assertThat(cached(CatalogCache.BOOKS, rayuela.getId())).isFalse();
+        assertThat(bookService.findById(rayuela.getId()).orElseThrow().authorName()).isEqualTo("J. Cortázar");
+
+        assertCached(ficciones);
+    }
+
+    @Test
+    @DisplayName("Should evict the category's listing and books on category update")
+    void shouldEvictOnCategoryUpdate() {
+        warm(rayuela);
+        warm(ficciones);
+
+        categoryService.update(cuento.getId(), Category.builder().name("Relato").build());
+
+        assertThat(cached(CatalogCache.BOOKS_BY_CATEGORY, cuento.getId())).isFalse();
+        assertThat(cached(CatalogCache.BOOKS, ficciones.getId())).isFalse();
+        assertThat(bookService.findById(ficciones.getId()).orElseThrow().categoryName()).isEqualTo("Relato");
+
+        assertCached(rayuela);
+    }
+
+    private void warm(Book book) {
+        bookService.findById(book.getId());
+        bookService.findByYear(book.getYear());
+        bookService.findByAuthorId(book.getAuthor().getId());
+        bookService.findByCategoryId(book.getCategory().getId());
+    }
+
+    private void assertCached(Book book) {
+        assertThat(cached(CatalogCache.BOOKS, book.getId())).isTrue();
+        assertThat(cached(CatalogCache.BOOKS_BY_YEAR, book.getYear())).isTrue();
+        assertThat(cached(CatalogCache.BOOKS_BY_AUTHOR, book.getAuthor().getId())).isTrue();
+        assertThat(cached(CatalogCache.BOOKS_BY_CATEGORY, book.getCategory().getId())).isTrue();
+    }
+
+    private boolean cached(String name, Object key) {
+        return cacheManager.getCache(name).get(key) != null;
+    }
+
+    private void clearCaches() {
+        cacheManager.getCacheNames().stream()
+            .map(cacheManager::getCache)
+            .forEach(Cache::clear);
+    }
+}
@@ -0,0 +1,125 @@
+package org.bibliodigit.application.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bibliodigit.application.importer.CatalogImporter;
+import org.bibliodigit.domain.Book;
+import org.bibliodigit.domain.ImportFormat;
+import org.bibliodigit.domain.Loan;
+import org.bibliodigit.domain.User;
+import org.bibliodigit.domain.port.LoanService;
+import org.bibliodigit.repository.BookRepository;
+import org.bibliodigit.support.TestData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+@DisplayName("Catalog export Tests")
+class CatalogExporterTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Autowired
+    private CatalogExporter exporter;
+
+    @Autowired
+    private CatalogImporter importer;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private TestData data;
+
+    @BeforeEach
+    void setUp() {
+        String csv = """
+            title,year,author,category,copies
+            Ficciones,1944,Jorge Luis Borges,Cuento,2
+            "Pedro Páramo, edición anotada",1955,Juan Rulfo,Novela,1
+            """;
+
+        importer.importCatalog("export-fixture", ImportFormat.CSV,
+            new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        data.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should export books as NDJSON with availability counts")
+    void shouldExportBooksAsNdjson() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long written = exporter.exportBooks(ExportFormat.NDJSON, output);
+
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(written).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+
+        JsonNode first = MAPPER.readTree(lines.get(0));
+        assertThat(first.get("title").asText()).isEqualTo("Ficciones");
+        assertThat(first.get("author").asText()).isEqualTo("Jorge Luis Borges");
+        assertThat(first.get("total_copies").asInt()).isEqualTo(2);
+        assertThat(first.get("available_copies").asInt()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should export books as CSV quoting values with separators")
+    void shouldExportBooksAsCsv() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        exporter.exportBooks(ExportFormat.CSV, output);
+
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).startsWith("id,title,year,author_id,author");
+        assertThat(lines.get(2)).contains("\"Pedro Páramo, edición anotada\",1955");
+    }
+
+    @Test
+    @DisplayName("Should export loan history, returned loans included, filtered by user")
+    void shouldExportLoans() throws Exception {
+        User user = data.user("Ines", "STUDENT");
+        Book book = bookRepository.findByTitleContaining("Ficciones").get(0);
+        Loan returned = loanService.borrowBook(user.getId(), book.getId());
+        loanService.returnBook(returned.getId());
+        loanService.borrowBook(user.getId(), book.getId());
+
+        ByteArrayOutputStream all = new ByteArrayOutputStream();
+        assertThat(exporter.exportLoans(ExportFormat.NDJSON, null, all)).isEqualTo(2);
+
+        List<String> lines = all.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(MAPPER.readTree(lines.get(0)).get("status").asText()).isEqualTo("RETURNED");
+
+        JsonNode loan = MAPPER.readTree(lines.get(1));
+        assertThat(loan.get("book_title").asText()).isEqualTo("Ficciones");
+        assertThat(loan.get("user_email").asText()).isEqualTo("ines@uni.edu");
+        assertThat(loan.get("user_type").asText()).isEqualTo("STUDENT");
+        assertThat(loan.get("status").asText()).isEqualTo("ACTIVE");
+
+        ByteArrayOutputStream other = new ByteArrayOutputStream();
+        assertThat(exporter.exportLoans(ExportFormat.CSV, user.getId() + 1, other)).isZero();
+        assertThat(other.toString(StandardCharsets.UTF_8).lines()).hasSize(1);
+    }
+}
@@ -0,0 +1,198 @@
+package org.bibliodigit.application.hold;
+
+import org.bibliodigit.application.job.HoldExpirySweeper;
+import org.bibliodigit.domain.Book;
+import org.bibliodigit.domain.BookAvailability;
+import org.bibliodigit.domain.CopyStatus;
+import org.bibliodigit.domain.Hold;
+import org.bibliodigit.domain.HoldStatus;
+import org.bibliodigit.domain.Loan;
+import org.bibliodigit.domain.LoanBatchResult;
+import org.bibliodigit.domain.LoanStatus;
+import org.bibliodigit.domain.Stock;
+import org.bibliodigit.domain.User;
+import org.bibliodigit.domain.port.HoldService;
+import org.bibliodigit.domain.port.LoanService;
+import org.bibliodigit.repository.BookAvailabilityRepository;
+import org.bibliodigit.repository.HoldRepository;
+import org.bibliodigit.repository.StockRepository;
+import org.bibliodigit.support.TestData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+@DisplayName("Hold queue Tests")
+class HoldQueueTest {
+
+    @Autowired
+    private HoldService holdService;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private HoldExpirySweeper sweeper;
+
+    @Autowired
+    private HoldRepository holdRepository;
+
+    @Autowired
+    private BookAvailabilityRepository availabilityRepository;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private TestData data;
+
+    private Book book;
+    private Stock copy;
+
+    @BeforeEach
+    void setUp() {
+        book = data.book("Rayuela");
+        copy = stockRepository.save(Stock.builder().book(book).build());
+        availabilityRepository.save(BookAvailability.builder()
+            .bookId(book.getId())
+            .totalCopies(1)
+            .availableCopies(1)
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        data.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should queue holds in FIFO order and hand the returned copy to the head")
+    void shouldAllocateReturnedCopyToHead() {
+        User reader = data.user("lector", "STUDENT");
+        Loan loan = loanService.borrowBook(reader.getId(), book.getId());
+
+        Hold first = holdService.placeHold(data.user("primera", "STUDENT").getId(), book.getId());
+        Hold second = holdService.placeHold(data.user("segunda", "STUDENT").getId(), book.getId());
+        Hold third = holdService.placeHold(data.user("tercera", "STUDENT").getId(), book.getId());
+
+        assertThat(position(first)).isEqualTo(1);
+        assertThat(position(second)).isEqualTo(2);
+        assertThat(position(third)).isEqualTo(3);
+
+        // Cancelar a mitad de cola adelanta a los de detrás
+        assertThat(holdService.cancelHold(second.getId()).getStatus()).isEqualTo(HoldStatus.CANCELLED);
+        assertThat(position(third)).isEqualTo(2);
+
+        Loan returned = loanService.returnBook(loan.getId());
+
+        assertThat(returned.getStatus()).isEqualTo(LoanStatus.RETURNED);
+        Stock reserved = stockRepository.findById(copy.getId()).orElseThrow();
+        assertThat(reserved.getStatus()).isEqualTo(CopyStatus.RESERVED);
+        assertThat(reserved.getAvailability()).isFalse();
+
+        Hold ready = holdRepository.findById(first.getId()).orElseThrow();
+        assertThat(ready.getStatus()).isEqualTo(HoldStatus.READY);
+        assertThat(ready.getStock().getId()).isEqualTo(copy.getId());
+        assertThat(ready.getExpiresAt()).isAfter(LocalDateTime.now().plusHours(47));
+        assertThat(position(third)).isEqualTo(1);
+        assertThat(availabilityRepository.findById(book.getId()).orElseThrow().getAvailableCopies()).isZero();
+
+        // La copia apartada no está en estantería para nadie más
+        User other = data.user("otra", "STUDENT");
+        assertThatThrownBy(() -> loanService.borrowBook(other.getId(), book.getId()))
+            .hasMessage("Book is not available for loan");
+
+        Loan pickedUp = loanService.borrowBook(ready.getUser().getId(), book.getId());
+
+        assertThat(pickedUp.getStock().getId()).isEqualTo(copy.getId());
+        assertThat(pickedUp.getStatus()).isEqualTo(LoanStatus.ACTIVE);
+        assertThat(holdRepository.findById(first.getId()).orElseThrow().getStatus()).isEqualTo(HoldStatus.FULFILLED);
+
+        BookAvailability availability = availabilityRepository.findById(book.getId()).orElseThrow();
+        assertThat(availability.getAvailableCopies()).isZero();
+        assertThat(availability.getOnLoanCopies()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should let a batch borrow collect a ready hold alongside shelf copies")
+    void shouldCollectReadyHoldInBatch() {
+        Book other = data.bookWithCopies("Ficciones", 1);
+        availabilityRepository.save(BookAvailability.builder()
+            .bookId(other.getId())
+            .totalCopies(1)
+            .availableCopies(1)
+            .build());
+
+        User reader = data.user("lector", "STUDENT");
+        Hold hold = holdService.placeHold(reader.getId(), book.getId());
+        assertThat(hold.getStatus()).isEqualTo(HoldStatus.READY);
+
+        List<LoanBatchResult> results = loanService.borrowBooks(reader.getId(), List.of(book.getId(), other.getId()));
+
+        assertThat(results).allMatch(LoanBatchResult::isSuccess);
+        assertThat(results.get(0).getLoan().getStock().getId()).isEqualTo(copy.getId());
+        assertThat(holdRepository.findById(hold.getId()).orElseThrow().getStatus()).isEqualTo(HoldStatus.FULFILLED);
+
+        // La copia apartada ya estaba fuera de estantería: solo pasa a prestada
+        BookAvailability reserved = availabilityRepository.findById(book.getId()).orElseThrow();
+        assertThat(reserved.getAvailableCopies()).isZero();
+        assertThat(reserved.getOnLoanCopies()).isEqualTo(1);
+
+        BookAvailability shelf = availabilityRepository.findById(other.getId()).orElseThrow();
+        assertThat(shelf.getAvailableCopies()).isZero();
+        assertThat(shelf.getOnLoanCopies()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reserve a shelf copy at once and reject a second open hold")
+    void shouldReserveShelfCopyImmediately() {
+        User reader = data.user("lector", "STUDENT");
+
+        Hold hold = holdService.placeHold(reader.getId(), book.getId());
+
+        assertThat(hold.getStatus()).isEqualTo(HoldStatus.READY);
+        assertThat(position(hold)).isZero();
+        assertThat(stockRepository.findById(copy.getId()).orElseThrow().getStatus()).isEqualTo(CopyStatus.RESERVED);
+
+        assertThatThrownBy(() -> holdService.placeHold(reader.getId(), book.getId()))
+            .hasMessageContaining("already has an active hold");
+    }
+
+    @Test
+    @DisplayName("Should pass an uncollected copy to the next hold and back to the shelf when the queue empties")
+    void shouldExpireUncollectedHolds() {
+        Hold first = holdService.placeHold(data.user("primera", "STUDENT").getId(), book.getId());
+        Hold second = holdService.placeHold(data.user("segunda", "STUDENT").getId(), book.getId());
+
+        assertThat(sweeper.sweepUntil(LocalDateTime.now().plusHours(49))).isEqualTo(1);
+
+        assertThat(holdRepository.findById(first.getId()).orElseThrow().getStatus()).isEqualTo(HoldStatus.EXPIRED);
+        Hold next = holdRepository.findById(second.getId()).orElseThrow();
+        assertThat(next.getStatus()).isEqualTo(HoldStatus.READY);
+        assertThat(next.getStock().getId()).isEqualTo(copy.getId());
+
+        assertThat(sweeper.sweepUntil(next.getExpiresAt().plusMinutes(1))).isEqualTo(1);
+
+        Stock shelved = stockRepository.findById(copy.getId()).orElseThrow();
+        assertThat(shelved.getAvailability()).isTrue();
+        assertThat(shelved.getStatus()).isEqualTo(CopyStatus.AVAILABLE);
+        assertThat(availabilityRepository.findById(book.getId()).orElseThrow().getAvailableCopies()).isEqualTo(1);
+    }
+
+    private long position(Hold hold) {
+        return holdService.getQueuePosition(holdService.findById(hold.getId()).orElseThrow());
+    }
+}
@@ -0,0 +1,237 @@
+package org.bibliodigit.application.importer;
+
+import org.bibliodigit.application.cache.CatalogCache;
+import org.bibliodigit.application.search.BookSearchEngine;
+import org.bibliodigit.domain.Author;
+import org.bibliodigit.domain.Book;
+import org.bibliodigit.domain.BookAvailability;
+import org.bibliodigit.domain.ImportCheckpoint;
+import org.bibliodigit.domain.ImportFormat;
+import org.bibliodigit.domain.ImportStatus;
+import org.bibliodigit.repository.AuthorRepository;
+import org.bibliodigit.repository.BookAvailabilityRepository;
+import org.bibliodigit.repository.BookRepository;
+import org.bibliodigit.repository.CategoryRepository;
+import org.bibliodigit.repository.ImportCheckpointRepository;
+import org.bibliodigit.repository.StockRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doThrow;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "import.batch-size=2")
+@DisplayName("Catalog import Tests")
+class CatalogImporterTest {
+
+    @Autowired
+    private CatalogImporter importer;
+
+    @Autowired
+    private ImportCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private BookAvailabilityRepository availabilityRepository;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private BookSearchEngine searchEngine;
+
+    @MockitoSpyBean
+    private CatalogCache catalogCache;
+
+    @AfterEach
+    void tearDown() {
+        checkpointRepository.deleteAll();
+        availabilityRepository.deleteAll();
+        stockRepository.deleteAll();
+        bookRepository.deleteAll();
+        authorRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should import CSV reusing authors and skipping duplicates and invalid rows")
+    void shouldImportCsv() {
+        authorRepository.save(Author.builder().name("Gabriel García Márquez").build());
+
+        String csv = """
+            title,year,author,category,copies
+            Cien Años de Soledad,1967,Gabriel García Márquez,Ficción,3
+            "El amor en los tiempos del cólera",1985,gabriel garcia marquez,Ficción,
+            Cien Años de Soledad,1967,Gabriel García Márquez,Ficción,1
+            "Rayuela, edición crítica",1963,Julio Cortázar,Novela,2
+            Sin año,,Anónimo,Ficción,1
+            """;
+
+        ImportCheckpoint checkpoint = importer.importCatalog("csv-test", ImportFormat.CSV, stream(csv));
+
+        assertThat(checkpoint.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(checkpoint.getRecordsProcessed()).isEqualTo(5);
+        assertThat(checkpoint.getBooksCreated()).isEqualTo(3);
+        assertThat(checkpoint.getCopiesCreated()).isEqualTo(6);
+        assertThat(checkpoint.getRecordsSkipped()).isEqualTo(2);
+
+        assertThat(authorRepository.count()).isEqualTo(2);
+        assertThat(categoryRepository.count()).isEqualTo(2);
+        assertThat(stockRepository.count()).isEqualTo(6);
+        assertThat(bookRepository.existsByTitle("Rayuela, edición crítica")).isTrue();
+
+        Book book = bookRepository.findByTitleContaining("Cien").get(0);
+        BookAvailability availability = availabilityRepository.findById(book.getId()).orElseThrow();
+        assertThat(availability.getTotalCopies()).isEqualTo(3);
+        assertThat(availability.getAvailableCopies()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should resume a failed JSON import from the last committed batch")
+    void shouldResumeFromCheckpoint() {
+        String broken = """
+            {"title": "Uno", "year": 2001, "author": "Autor A"}
+            {"title": "Dos", "year": 2002, "author": "Autor A"}
+            {"title": "Tres", "year": 2003, "author": "Autor B"}
+            {"title": "Cuatro", "year":
+            """;
+
+        assertThatThrownBy(() -> importer.importCatalog("json-test", ImportFormat.JSON, stream(broken)))
+            .isInstanceOf(RuntimeException.class);
+
+        ImportCheckpoint failed = checkpointRepository.findById("json-test").orElseThrow();
+        assertThat(failed.getStatus()).isEqualTo(ImportStatus.FAILED);
+        assertThat(failed.getRecordsProcessed()).isEqualTo(2);
+        assertThat(failed.getLastError()).isNotBlank();
+        assertThat(bookRepository.count()).isEqualTo(2);
+
+        String fixed = """
+            [
+              {"title": "Uno", "year": 2001, "author": "Autor A"},
+              {"title": "Dos", "year": 2002, "author": "Autor A"},
+              {"title": "Tres", "year": 2003, "author": "Autor B"},
+              {"title": "Cuatro", "year": 2004, "author": "Autor B", "copies": 2}
+            ]
+            """;
+
+        ImportCheckpoint resumed = importer.importCatalog("json-test", ImportFormat.JSON, stream(fixed));
+
+        assertThat(resumed.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(resumed.getRecordsProcessed()).isEqualTo(4);
+        assertThat(resumed.getBooksCreated()).isEqualTo(4);
+        assertThat(resumed.getRecordsSkipped()).isZero();
+        assertThat(bookRepository.count()).isEqualTo(4);
+        assertThat(stockRepository.count()).isEqualTo(5);
+        assertThat(authorRepository.count()).isEqualTo(2);
+
+        // Un job completado no vuelve a importar nada
+        ImportCheckpoint again = importer.importCatalog("json-test", ImportFormat.JSON, stream(fixed));
+        assertThat(again.getBooksCreated()).isEqualTo(4);
+        assertThat(bookRepository.count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should read title, author, year, subject and items from MARC records")
+    void shouldImportMarc() throws Exception {
+        ByteArrayOutputStream marc = new ByteArrayOutputStream();
+        marc.write(marcRecord(List.of(
+            new String[] {"100", "1 \u001FaOrwell, George,"},
+            new String[] {"245", "10\u001FaNineteen eighty-four /\u001FcGeorge Orwell."},
+            new String[] {"260", "  \u001FaLondon :\u001FbSecker & Warburg,\u001Fc1949."},
+            new String[] {"650", " 0\u001FaDystopias."},
+            new String[] {"952", "  \u001Fa1"},
+            new String[] {"952", "  \u001Fa2"}
+        )));
+        marc.write('\n');
+        marc.write(marcRecord(List.of(
+            new String[] {"008", "850101s1605    sp            000 1 spa d"},
+            new String[] {"245", "00\u001FaDon Quijote de la Mancha."}
+        )));
+
+        ImportCheckpoint checkpoint = importer.importCatalog(
+            "marc-test", ImportFormat.MARC, new ByteArrayInputStream(marc.toByteArray()));
+
+        assertThat(checkpoint.getBooksCreated()).isEqualTo(2);
+        assertThat(checkpoint.getCopiesCreated()).isEqualTo(3);
+
+        Book orwell = bookRepository.findByTitleContaining("Nineteen").get(0);
+        assertThat(orwell.getTitle()).isEqualTo("Nineteen eighty-four");
+        assertThat(orwell.getYear()).isEqualTo(1949);
+        assertThat(authorRepository.findByName("Orwell, George")).isPresent();
+        assertThat(categoryRepository.findByName("Dystopias")).isPresent();
+
+        Book quijote = bookRepository.findByTitleContaining("Quijote").get(0);
+        assertThat(quijote.getYear()).isEqualTo(1605);
+        assertThat(quijote.getAuthor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not index books from a batch that rolls back")
+    void shouldNotIndexRolledBackBatch() {
+        doThrow(new RuntimeException("Cache unavailable")).when(catalogCache).evictBooks(anyCollection());
+
+        String json = """
+            {"title": "Libro Fantasma", "year": 2020, "author": "Autor Fantasma"}
+            """;
+
+        assertThatThrownBy(() -> importer.importCatalog("rollback-test", ImportFormat.JSON, stream(json)))
+            .isInstanceOf(RuntimeException.class);
+
+        assertThat(bookRepository.existsByTitle("Libro Fantasma")).isFalse();
+        assertThat(searchEngine.search("fantasma", 10)).isEmpty();
+    }
+
+    private InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Registro ISO 2709 mínimo: leader, directorio y campos, codificado en UTF-8
+    private byte[] marcRecord(List<String[]> fields) {
+        StringBuilder directory = new StringBuilder();
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+
+        for (String[] field : fields) {
+            byte[] bytes = (field[1] + "\u001E").getBytes(StandardCharsets.UTF_8);
+            directory.append(field[0])
+                .append(String.format("%04d", bytes.length))
+                .append(String.format("%05d", data.size()));
+            data.writeBytes(bytes);
+        }
+        directory.append('\u001E');
+
+        int baseAddress = 24 + directory.length();
+        int length = baseAddress + data.size() + 1;
+        String leader = String.format("%05d", length) + "nam a22" + String.format("%05d", baseAddress) + "   4500";
+
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        record.writeBytes(leader.getBytes(StandardCharsets.US_ASCII));
+        record.writeBytes(directory.toString().getBytes(StandardCharsets.US_ASCII));
+        record.writeBytes(data.toByteArray());
+        record.write(0x1D);
+        return record.toByteArray();
+    }
+}
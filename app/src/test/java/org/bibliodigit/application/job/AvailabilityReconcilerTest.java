@@ -0,0 +1,121 @@
+package org.bibliodigit.application.job;
+
+import org.bibliodigit.domain.Book;
+import org.bibliodigit.domain.BookAvailability;
+import org.bibliodigit.domain.Loan;
+import org.bibliodigit.domain.User;
+import org.bibliodigit.domain.port.LoanService;
+import org.bibliodigit.repository.BookAvailabilityRepository;
+import org.bibliodigit.repository.LoanRepository;
+import org.bibliodigit.support.TestData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+@TestPropertySource(properties = "loans.availability.reconcile-page-size=2")
+@DisplayName("Book availability Tests")
+class AvailabilityReconcilerTest {
+
+    @Autowired
+    private AvailabilityReconciler reconciler;
+
+    @Autowired
+    private OverdueLoanSweeper sweeper;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private BookAvailabilityRepository availabilityRepository;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private TestData data;
+
+    @AfterEach
+    void tearDown() {
+        data.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should create missing rows and keep counts in step with loans")
+    void shouldTrackLoansAndOverdue() {
+        Book book = data.bookWithCopies("Rayuela", 3);
+        User user = data.user("Alejandra", "TEACHER");
+
+        assertThat(reconciler.reconcile()).isEqualTo(1);
+        assertCounts(book, 3, 3, 0, 0);
+
+        Loan first = loanService.borrowBook(user.getId(), book.getId());
+        loanService.borrowBooks(user.getId(), List.of(book.getId()));
+        assertCounts(book, 3, 1, 2, 0);
+
+        first.setDeliveryDate(LocalDateTime.now().minusDays(1));
+        loanRepository.save(first);
+        sweeper.sweepUntil(LocalDateTime.now());
+        assertCounts(book, 3, 1, 2, 1);
+
+        loanService.returnBook(first.getId());
+        assertCounts(book, 3, 2, 1, 0);
+
+        // Sin desvíos: el reconciliador no toca nada
+        assertThat(reconciler.reconcile()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should repair drifted counts from stock")
+    void shouldRepairDrift() {
+        Book book = data.bookWithCopies("Ficciones", 2);
+        reconciler.reconcile();
+
+        BookAvailability drifted = availabilityRepository.findById(book.getId()).orElseThrow();
+        drifted.setAvailableCopies(7);
+        availabilityRepository.save(drifted);
+
+        assertThat(reconciler.reconcile()).isEqualTo(1);
+        assertCounts(book, 2, 2, 0, 0);
+    }
+
+    @Test
+    @DisplayName("Should walk every page and repair drift past the first one")
+    void shouldRepairDriftAcrossPages() {
+        List<Book> books = List.of(
+            data.bookWithCopies("Aura", 1),
+            data.bookWithCopies("Boquitas pintadas", 1),
+            data.bookWithCopies("Crónica de una muerte anunciada", 1),
+            data.bookWithCopies("Don Segundo Sombra", 1));
+        assertThat(reconciler.reconcile()).isEqualTo(4);
+
+        Book last = books.get(3);
+        BookAvailability drifted = availabilityRepository.findById(last.getId()).orElseThrow();
+        drifted.setOnLoanCopies(3);
+        availabilityRepository.save(drifted);
+
+        assertThat(reconciler.reconcile()).isEqualTo(1);
+        books.forEach(book -> assertCounts(book, 1, 1, 0, 0));
+    }
+
+    private void assertCounts(Book book, int total, int available, int onLoan, int overdue) {
+        BookAvailability availability = availabilityRepository.findById(book.getId()).orElseThrow();
+
+        assertThat(availability.getTotalCopies()).isEqualTo(total);
+        assertThat(availability.getAvailableCopies()).isEqualTo(available);
+        assertThat(availability.getOnLoanCopies()).isEqualTo(onLoan);
+        assertThat(availability.getOverdueCopies()).isEqualTo(overdue);
+    }
+}
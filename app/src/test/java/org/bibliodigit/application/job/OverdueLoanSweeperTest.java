@@ -0,0 +1,103 @@
+package org.bibliodigit.application.job;
+
+import org.bibliodigit.domain.Book;
+import org.bibliodigit.domain.Loan;
+import org.bibliodigit.domain.LoanStatus;
+import org.bibliodigit.domain.LoanView;
+import org.bibliodigit.domain.User;
+import org.bibliodigit.domain.port.LoanService;
+import org.bibliodigit.repository.JobWatermarkRepository;
+import org.bibliodigit.repository.LoanRepository;
+import org.bibliodigit.repository.StockRepository;
+import org.bibliodigit.support.TestData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+@DisplayName("OverdueLoanSweeper Tests")
+class OverdueLoanSweeperTest {
+
+    @Autowired
+    private OverdueLoanSweeper sweeper;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private JobWatermarkRepository watermarkRepository;
+
+    @Autowired
+    private TestData data;
+
+    @AfterEach
+    void tearDown() {
+        data.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should mark crossed loans overdue, accrue fines and advance the watermark")
+    void shouldMarkOverdueAndAccrueFines() {
+        User user = data.user("Julio", "TEACHER");
+        Loan late = lend(user, "Rayuela", LocalDateTime.now().minusDays(3).minusHours(1));
+        Loan onTime = lend(user, "Ficciones", LocalDateTime.now().plusDays(5));
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        assertThat(sweeper.sweepUntil(now)).isEqualTo(1);
+
+        Loan swept = loanRepository.findById(late.getId()).orElseThrow();
+        assertThat(swept.getStatus()).isEqualTo(LoanStatus.OVERDUE);
+        assertThat(swept.getFine()).isEqualByComparingTo(BigDecimal.valueOf(3));
+        assertThat(loanRepository.findById(onTime.getId()).orElseThrow().getStatus())
+            .isEqualTo(LoanStatus.ACTIVE);
+
+        assertThat(loanService.getOverdueLoans()).extracting(LoanView::id).containsExactly(late.getId());
+        assertThat(loanService.countActiveLoansForUser(user.getId())).isEqualTo(2L);
+        assertThat(watermarkRepository.findById(OverdueLoanSweeper.JOB_NAME).orElseThrow().getProcessedUntil())
+            .isEqualTo(now);
+
+        // Ventana ya procesada: no se vuelve a recorrer
+        assertThat(sweeper.sweepUntil(now)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should return a swept loan as late with its fine")
+    void shouldReturnSweptLoan() {
+        Loan late = lend(data.user("Julio", "TEACHER"), "Pedro Páramo", LocalDateTime.now().minusDays(2).minusHours(1));
+        sweeper.sweepUntil(LocalDateTime.now());
+
+        Loan returned = loanService.returnBook(late.getId());
+
+        assertThat(returned.getStatus()).isEqualTo(LoanStatus.OVERDUE);
+        assertThat(returned.getActualReturnDate()).isNotNull();
+        assertThat(stockRepository.findById(returned.getStock().getId()).orElseThrow().getAvailability()).isTrue();
+        assertThat(returned.getFine()).isEqualByComparingTo(BigDecimal.valueOf(2));
+        assertThat(loanService.getOverdueLoans()).isEmpty();
+    }
+
+    private Loan lend(User user, String title, LocalDateTime deliveryDate) {
+        Book book = data.bookWithCopies(title, 1);
+
+        Loan loan = loanService.borrowBook(user.getId(), book.getId());
+        loan.setDeliveryDate(deliveryDate);
+        return loanRepository.save(loan);
+    }
+}
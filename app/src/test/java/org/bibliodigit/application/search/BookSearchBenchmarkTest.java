@@ -0,0 +1,117 @@
+package org.bibliodigit.application.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bibliodigit.domain.Author;
+import org.bibliodigit.domain.Book;
+import org.bibliodigit.domain.Category;
+import org.bibliodigit.repository.AuthorRepository;
+import org.bibliodigit.repository.BookRepository;
+import org.bibliodigit.repository.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Compara las consultas LIKE actuales contra el índice invertido: ./gradlew :app:benchmarkTest
+// Usa la H2 del perfil test: la embebida por defecto de @DataJpaTest no admite la columna year
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@DisplayName("Book search benchmark: LIKE vs inverted index")
+class BookSearchBenchmarkTest {
+
+    private static final int BOOKS = 20_000;
+    private static final int AUTHORS = 500;
+    private static final int ITERATIONS = 200;
+
+    private static final String[] WORDS = {
+        "soledad", "amor", "guerra", "noche", "ciudad", "río", "memoria", "sombra",
+        "jardín", "viaje", "silencio", "tiempo", "mar", "fuego", "camino", "invierno"
+    };
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private InMemoryBookSearchEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        Category category = categoryRepository.save(Category.builder().name("Benchmark").build());
+
+        List<Author> authors = new ArrayList<>();
+        for (int i = 0; i < AUTHORS; i++) {
+            authors.add(Author.builder().name("Autor " + i + " Núñez").build());
+        }
+        authors.add(Author.builder().name("Gabriel García Márquez").build());
+        authors = authorRepository.saveAll(authors);
+
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < BOOKS; i++) {
+            String title = WORDS[i % WORDS.length] + " " + WORDS[(i / WORDS.length) % WORDS.length] + " " + i;
+            books.add(Book.builder()
+                .title(title)
+                .year(1900 + i % 120)
+                .author(authors.get(i % authors.size()))
+                .category(category)
+                .build());
+        }
+        bookRepository.saveAll(books);
+
+        engine = new InMemoryBookSearchEngine(bookRepository);
+        engine.rebuild();
+    }
+
+    @Test
+    @DisplayName("Title search")
+    void titleSearch() {
+        long like = time(() -> bookRepository.findByTitleContaining("memoria"));
+        long index = time(() -> engine.search("memoria", 20));
+
+        report("title", like, index);
+        assertThat(engine.search("memoria", 20)).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("Author search")
+    void authorSearch() {
+        long like = time(() -> bookRepository.findByAuthorNameContaining("Márquez"));
+        long index = time(() -> engine.search("Marquez", 20));
+
+        report("author", like, index);
+        assertThat(engine.search("Marquez", 20)).isNotEmpty();
+    }
+
+    private long time(Supplier<List<?>> query) {
+        for (int i = 0; i < ITERATIONS / 10; i++) {
+            query.get();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.get();
+        }
+        return (System.nanoTime() - start) / ITERATIONS / 1_000;
+    }
+
+    private void report(String kind, long likeMicros, long indexMicros) {
+        log.info("[search-benchmark] {} over {} books: LIKE={}us, index={}us", kind, BOOKS, likeMicros, indexMicros);
+    }
+}
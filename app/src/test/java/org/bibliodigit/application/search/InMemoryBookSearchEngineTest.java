@@ -0,0 +1,86 @@
+package org.bibliodigit.application.search;
+
+import org.bibliodigit.domain.Author;
+import org.bibliodigit.domain.Book;
+import org.bibliodigit.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InMemoryBookSearchEngine Tests")
+class InMemoryBookSearchEngineTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    private InMemoryBookSearchEngine engine;
+
+    private Author garciaMarquez;
+
+    @BeforeEach
+    void setUp() {
+        engine = new InMemoryBookSearchEngine(bookRepository);
+
+        garciaMarquez = Author.builder().id(1L).name("Gabriel García Márquez").build();
+        Author orwell = Author.builder().id(2L).name("George Orwell").build();
+
+        engine.index(Book.builder().id(1L).title("Cien Años de Soledad").author(garciaMarquez).build());
+        engine.index(Book.builder().id(2L).title("El Amor en los Tiempos del Cólera").author(garciaMarquez).build());
+        engine.index(Book.builder().id(3L).title("1984").author(orwell).build());
+        engine.index(Book.builder().id(4L).title("Rebelión en la Granja").author(orwell).build());
+    }
+
+    @Test
+    @DisplayName("Should fold accents when matching author names")
+    void shouldFoldAccents() {
+        assertThat(engine.search("Marquez", 10)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(engine.search("colera", 10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Should match terms by prefix")
+    void shouldMatchByPrefix() {
+        assertThat(engine.search("sol", 10)).containsExactly(1L);
+        assertThat(engine.search("orw", 10)).containsExactlyInAnyOrder(3L, 4L);
+    }
+
+    @Test
+    @DisplayName("Should require every term to match")
+    void shouldRequireAllTerms() {
+        assertThat(engine.search("marquez soledad", 10)).containsExactly(1L);
+        assertThat(engine.search("orwell soledad", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should rank title matches above author matches")
+    void shouldRankTitleAboveAuthor() {
+        Author gabriela = Author.builder().id(3L).name("Gabriela Mistral").build();
+        engine.index(Book.builder().id(5L).title("Gabriel y el Mar").author(gabriela).build());
+
+        assertThat(engine.search("gabriel", 10)).startsWith(5L);
+    }
+
+    @Test
+    @DisplayName("Should drop removed books and reindex renamed authors")
+    void shouldKeepIndexInSyncWithWrites() {
+        engine.remove(1L);
+        assertThat(engine.search("soledad", 10)).isEmpty();
+
+        garciaMarquez.setName("Gabo");
+        engine.reindexAuthor(garciaMarquez);
+        assertThat(engine.search("marquez", 10)).isEmpty();
+        assertThat(engine.search("gabo", 10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Should return empty results for blank queries")
+    void shouldIgnoreBlankQueries() {
+        assertThat(engine.search("  -- ", 10)).isEmpty();
+    }
+}
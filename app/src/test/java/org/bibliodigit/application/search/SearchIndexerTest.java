@@ -0,0 +1,79 @@
+package org.bibliodigit.application.search;
+
+import org.bibliodigit.domain.Author;
+import org.bibliodigit.domain.Book;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchIndexer Tests")
+class SearchIndexerTest {
+
+    @Mock
+    private BookSearchEngine searchEngine;
+
+    private SearchIndexer indexer;
+
+    private Book book;
+    private Author author;
+
+    @BeforeEach
+    void setUp() {
+        indexer = new SearchIndexer(searchEngine);
+        author = Author.builder().id(1L).name("Julio Cortázar").build();
+        book = Book.builder().id(1L).title("Rayuela").author(author).build();
+
+        // Simula la transacción abierta por @Transactional en los servicios
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("Should leave the index untouched when the transaction rolls back")
+    void shouldSkipOnRollback() {
+        indexer.index(book);
+        indexer.remove(2L);
+        indexer.reindexAuthor(author);
+        indexer.removeAuthor(3L);
+
+        verifyNoInteractions(searchEngine);
+
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+            TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verifyNoInteractions(searchEngine);
+    }
+
+    @Test
+    @DisplayName("Should apply index updates once the transaction commits")
+    void shouldApplyAfterCommit() {
+        indexer.index(book);
+        indexer.remove(2L);
+        indexer.reindexAuthor(author);
+        indexer.removeAuthor(3L);
+
+        verifyNoInteractions(searchEngine);
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+
+        verify(searchEngine).index(book);
+        verify(searchEngine).remove(2L);
+        verify(searchEngine).reindexAuthor(author);
+        verify(searchEngine).removeAuthor(3L);
+    }
+}
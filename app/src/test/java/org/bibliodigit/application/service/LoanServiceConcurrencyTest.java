@@ -0,0 +1,186 @@
+package org.bibliodigit.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bibliodigit.domain.Book;
+import org.bibliodigit.domain.Loan;
+import org.bibliodigit.domain.LoanBatchResult;
+import org.bibliodigit.domain.Stock;
+import org.bibliodigit.domain.User;
+import org.bibliodigit.domain.port.LoanService;
+import org.bibliodigit.repository.StockRepository;
+import org.bibliodigit.support.TestData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties =
+    "spring.datasource.url=jdbc:h2:mem:loanstress;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=YEAR;DEFAULT_NULL_ORDERING=HIGH;LOCK_TIMEOUT=10000")
+@Import(TestData.class)
+@DisplayName("LoanService concurrency stress tests")
+class LoanServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private TestData data;
+
+    @AfterEach
+    void tearDown() {
+        data.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should never lend the same copy twice")
+    void shouldNeverLendSameCopyTwice() throws Exception {
+        List<User> users = data.users("STUDENT", 40);
+        Book book = data.bookWithCopies("Cien Años de Soledad", 5);
+
+        List<Callable<Loan>> tasks = users.stream()
+            .<Callable<Loan>>map(user -> () -> loanService.borrowBook(user.getId(), book.getId()))
+            .toList();
+
+        List<Loan> loans = runConcurrently(tasks);
+
+        assertThat(loans).hasSize(5);
+        assertThat(loans).extracting(loan -> loan.getStock().getId()).doesNotHaveDuplicates();
+        assertThat(stockRepository.findByAvailability(true)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not let a user exceed the validator max by racing")
+    void shouldRespectMaxLoansUnderRace() throws Exception {
+        User user = data.users("STUDENT", 1).get(0);
+
+        List<Callable<Loan>> tasks = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Book book = data.bookWithCopies("Libro " + i, 1);
+            tasks.add(() -> loanService.borrowBook(user.getId(), book.getId()));
+        }
+
+        List<Loan> loans = runConcurrently(tasks);
+
+        // StudentLoanValidator: máximo 3 libros
+        assertThat(loans).hasSize(3);
+        assertThat(loanService.countActiveLoansForUser(user.getId())).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Should keep invariants and report throughput under mixed load")
+    void shouldKeepInvariantsUnderMixedLoad() throws Exception {
+        List<User> users = data.users("TEACHER", 40);
+
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            books.add(data.bookWithCopies("Título " + i, 2));
+        }
+
+        List<Callable<Loan>> tasks = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            User user = users.get(i % users.size());
+            Book book = books.get((i * 7) % books.size());
+            tasks.add(() -> loanService.borrowBook(user.getId(), book.getId()));
+        }
+
+        long start = System.nanoTime();
+        List<Loan> loans = runConcurrently(tasks);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        log.debug("[loan-stress] {} attempts, {} loans in {}s ({} attempts/s, {} threads)",
+            tasks.size(), loans.size(), String.format("%.2f", seconds), Math.round(tasks.size() / seconds), THREADS);
+
+        assertThat(loans).extracting(loan -> loan.getStock().getId()).doesNotHaveDuplicates();
+        assertThat(loans.size()).isLessThanOrEqualTo(100);
+
+        // TeacherLoanValidator: máximo 5 libros por usuario
+        Map<Long, Long> loansPerUser = loans.stream()
+            .collect(Collectors.groupingBy(loan -> loan.getUser().getId(), Collectors.counting()));
+        assertThat(loansPerUser.values()).allMatch(count -> count <= 5);
+
+        Map<Long, Stock> persisted = stockRepository.findAll().stream()
+            .collect(Collectors.toMap(Stock::getId, Function.identity()));
+        assertThat(loans).allMatch(loan -> Boolean.FALSE.equals(persisted.get(loan.getStock().getId()).getAvailability()));
+    }
+
+    @Test
+    @DisplayName("Should report partial success per item on batch borrow and return")
+    void shouldReportPartialSuccessOnBatch() {
+        User user = data.users("STUDENT", 1).get(0);
+
+        Book first = data.bookWithCopies("Rayuela", 1);
+        Book second = data.bookWithCopies("Ficciones", 2);
+        Book third = data.bookWithCopies("Pedro Páramo", 1);
+
+        List<LoanBatchResult> borrowed = loanService.borrowBooks(user.getId(),
+            List.of(first.getId(), first.getId(), second.getId(), -1L, third.getId()));
+
+        assertThat(borrowed).extracting(LoanBatchResult::isSuccess)
+            .containsExactly(true, false, true, false, true);
+        assertThat(borrowed.get(1).getError()).isEqualTo("Book is not available for loan");
+        assertThat(borrowed.get(3).getError()).startsWith("Book not found");
+        assertThat(loanService.countActiveLoansForUser(user.getId())).isEqualTo(3L);
+
+        // StudentLoanValidator: el cuarto préstamo del lote supera el máximo
+        List<LoanBatchResult> overLimit = loanService.borrowBooks(user.getId(), List.of(second.getId()));
+        assertThat(overLimit.get(0).getError()).startsWith("User cannot borrow more books");
+
+        Long loanId = borrowed.get(0).getLoan().getId();
+        List<LoanBatchResult> returned = loanService.returnBooks(List.of(loanId, loanId, -1L));
+
+        assertThat(returned).extracting(LoanBatchResult::isSuccess)
+            .containsExactly(true, false, false);
+        assertThat(returned.get(1).getError()).startsWith("Loan is not active");
+        assertThat(loanService.countActiveLoansForUser(user.getId())).isEqualTo(2L);
+    }
+
+    private List<Loan> runConcurrently(List<Callable<Loan>> tasks) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        ConcurrentLinkedQueue<Loan> results = new ConcurrentLinkedQueue<>();
+
+        for (Callable<Loan> task : tasks) {
+            executor.submit(() -> {
+                start.await();
+                try {
+                    results.add(task.call());
+                } catch (RuntimeException e) {
+                    // Rechazos esperados: sin copias libres o límite alcanzado
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+
+        return new ArrayList<>(results);
+    }
+}
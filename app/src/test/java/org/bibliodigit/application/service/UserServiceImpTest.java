@@ -0,0 +1,72 @@
+package org.bibliodigit.application.service;
+
+import org.bibliodigit.domain.TypeUser;
+import org.bibliodigit.domain.User;
+import org.bibliodigit.repository.TypeUserRepository;
+import org.bibliodigit.repository.UserRepository;
+import org.bibliodigit.security.PasswordHasher;
+import org.bibliodigit.security.TokenStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserServiceImp login Tests")
+class UserServiceImpTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TypeUserRepository typeUserRepository;
+
+    @Mock
+    private TokenStrategy tokenStrategy;
+
+    @Mock
+    private PasswordHasher passwordHasher;
+
+    @InjectMocks
+    private UserServiceImp userService;
+
+    @Test
+    @DisplayName("Should spend a password check on unknown emails")
+    void shouldHashForUnknownEmail() {
+        when(userRepository.findByEmail("nadie@uni.edu")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> userService.login("nadie@uni.edu", "secret"))
+            .hasMessage("Invalid email or password");
+
+        verify(passwordHasher).verifyDummy("secret");
+    }
+
+    @Test
+    @DisplayName("Should not reveal an inactive account to a wrong password")
+    void shouldCheckPasswordBeforeActiveFlag() {
+        User inactive = User.builder()
+            .id(1L)
+            .email("baja@uni.edu")
+            .password("pbkdf2$1000$hash")
+            .typeUser(TypeUser.builder().type("STUDENT").build())
+            .isActive(false)
+            .build();
+        when(userRepository.findByEmail("baja@uni.edu")).thenReturn(Optional.of(inactive));
+        when(passwordHasher.verify("wrong", "pbkdf2$1000$hash")).thenReturn(false);
+
+        assertThatThrownBy(() -> userService.login("baja@uni.edu", "wrong"))
+            .hasMessage("Invalid email or password");
+
+        verify(tokenStrategy, never()).issue(any());
+    }
+}
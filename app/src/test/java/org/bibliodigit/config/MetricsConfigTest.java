@@ -0,0 +1,99 @@
+package org.bibliodigit.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bibliodigit.api.HealthController;
+import org.bibliodigit.domain.port.BookService;
+import org.bibliodigit.domain.port.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Metrics Tests")
+class MetricsConfigTest {
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private HealthController healthController;
+
+    @Test
+    @DisplayName("Should time book searches tagged by search type")
+    void shouldTimeBookSearches() {
+        bookService.findByTitleContaining("Rayuela");
+        long before = registry.get("bibliodigit.books.search").tag("type", "title").timer().count();
+
+        bookService.findByTitleContaining("Ficciones");
+
+        assertThat(registry.get("bibliodigit.books.search").tag("type", "title").timer().count()).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("Should count failed logins with the exception tag")
+    void shouldCountFailedLogins() {
+        // El registro se comparte con el resto de pruebas del contexto: se comparan incrementos
+        double failures = failedLogins();
+
+        assertThatThrownBy(() -> userService.login("nadie@uni.edu", "secret"))
+            .isInstanceOf(RuntimeException.class);
+
+        assertThat(failedLogins()).isEqualTo(failures + 1);
+        assertThat(registry.get("bibliodigit.auth")
+            .tag("operation", "login")
+            .tag("exception", "RuntimeException")
+            .timer()
+            .count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should time token authentication also when reached through validateToken")
+    void shouldTimeAuthenticationFromValidateToken() {
+        userService.authenticate("unknown-token");
+        long before = authentications();
+
+        userService.validateToken("unknown-token");
+        userService.authenticate("unknown-token");
+
+        assertThat(authentications()).isEqualTo(before + 2);
+    }
+
+    @Test
+    @DisplayName("Should publish Hikari, Hibernate and catalog cache meters")
+    void shouldPublishInfrastructureMeters() {
+        assertThat(registry.find("hikaricp.connections.active").gauge()).isNotNull();
+        assertThat(registry.find("hibernate.sessions.open").meters()).isNotEmpty();
+        assertThat(registry.find("bibliodigit.cache.hit.ratio").tag("cache", "books").gauge()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should report database connectivity in the public health check")
+    void shouldReportDatabaseHealth() {
+        var response = healthController.health();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsEntry("database", "UP");
+    }
+
+    private long authentications() {
+        return registry.get("bibliodigit.auth").tag("operation", "authenticate").timer().count();
+    }
+
+    private double failedLogins() {
+        var counter = registry.find("bibliodigit.auth.logins").tag("result", "failure").counter();
+        return counter != null ? counter.count() : 0;
+    }
+}
@@ -0,0 +1,168 @@
+package org.bibliodigit.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bibliodigit.App;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara hilos de plataforma y virtuales con el mismo pool de Hikari. Cada petición
+ * retiene una conexión durante una consulta lenta (SLEEP en H2) y luego espera una
+ * E/S externa sin conexión, que es donde los hilos de plataforma se agotan.
+ */
+@Slf4j
+@Tag("benchmark")
+@DisplayName("Request threading load test")
+class RequestThreadingLoadTest {
+
+    private static final int POOL_SIZE = 10;
+    private static final int TOMCAT_THREADS = 50;
+    private static final int DB_MILLIS = 5;
+    private static final int REMOTE_MILLIS = 45;
+
+    private static final int CLIENTS = 400;
+    private static final int REQUESTS = 6_000;
+
+    // Margen frente al ruido del entorno: solo falla si los virtuales rinden claramente menos
+    private static final double MIN_VIRTUAL_RATIO = 0.8;
+
+    @Test
+    @DisplayName("Should compare throughput and p99 of platform vs virtual threads")
+    void compareThreadingModes() throws Exception {
+        Result platform = run("platform", false);
+        Result virtual = run("virtual", true);
+
+        double ratio = virtual.throughput() / platform.throughput();
+
+        log.info("pool={} tomcat-threads={} clients={} requests={} db={}ms remote={}ms",
+            POOL_SIZE, TOMCAT_THREADS, CLIENTS, REQUESTS, DB_MILLIS, REMOTE_MILLIS);
+        log.info("{}", platform);
+        log.info("{}", virtual);
+        log.info("virtual/platform throughput = {}", String.format("%.2f", ratio));
+
+        assertThat(platform.errors()).isZero();
+        assertThat(virtual.errors()).isZero();
+        // Con hilos de plataforma el techo es TOMCAT_THREADS / (DB + REMOTE); con virtuales, el pool de Hikari.
+        // La ganancia depende de la máquina, así que solo se exige que no empeore más allá del margen
+        assertThat(ratio).isGreaterThanOrEqualTo(MIN_VIRTUAL_RATIO);
+    }
+
+    private Result run(String name, boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(App.class, SlowRoute.class)
+                .profiles("test")
+                .properties(
+                    "server.port=0",
+                    "spring.datasource.url=jdbc:h2:mem:load-" + name + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=YEAR",
+                    "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                    "spring.datasource.hikari.connection-timeout=30000",
+                    "server.tomcat.threads.max=" + TOMCAT_THREADS,
+                    "spring.threads.virtual.enabled=" + virtualThreads,
+                    "spring.jpa.show-sql=false",
+                    "logging.level.org.bibliodigit=INFO")
+                .run()) {
+
+            context.getBean(JdbcTemplate.class)
+                .execute("CREATE ALIAS IF NOT EXISTS SLEEP FOR 'java.lang.Thread.sleep(long)'");
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/load/slow");
+
+            load(uri, CLIENTS);  // calentamiento
+            return load(uri, REQUESTS).named(name);
+        }
+    }
+
+    private Result load(URI uri, int requests) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>(requests));
+        AtomicInteger errors = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(CLIENTS);
+
+        long start = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                inFlight.acquire();
+                clients.submit(() -> {
+                    long sent = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    } finally {
+                        latencies.add(System.nanoTime() - sent);
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        long p50 = sorted.get((int) (sorted.size() * 0.50));
+        long p99 = sorted.get(Math.min(sorted.size() - 1, (int) (sorted.size() * 0.99)));
+
+        return new Result(null, requests / seconds, TimeUnit.NANOSECONDS.toMillis(p50),
+            TimeUnit.NANOSECONDS.toMillis(p99), errors.get());
+    }
+
+    private record Result(String name, double throughput, long p50Millis, long p99Millis, int errors) {
+
+        Result named(String name) {
+            return new Result(name, throughput, p50Millis, p99Millis, errors);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-8s %8.0f req/s  p50=%4d ms  p99=%4d ms  errors=%d",
+                name, throughput, p50Millis, p99Millis, errors);
+        }
+    }
+
+    // Fuera de /api: no pasa por AuthInterceptor
+    @TestConfiguration
+    static class SlowRoute {
+
+        @Bean
+        RouterFunction<ServerResponse> slowRoute(JdbcTemplate jdbcTemplate) {
+            return RouterFunctions.route()
+                .GET("/load/slow", request -> {
+                    jdbcTemplate.execute("CALL SLEEP(" + DB_MILLIS + ")");
+                    Thread.sleep(REMOTE_MILLIS);
+                    return ServerResponse.ok().body("ok");
+                })
+                .build();
+        }
+    }
+}
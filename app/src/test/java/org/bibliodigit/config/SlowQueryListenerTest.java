@@ -0,0 +1,54 @@
+package org.bibliodigit.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SlowQueryListener Tests")
+class SlowQueryListenerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should count only statements above the threshold, even when not sampled")
+    void shouldCountSlowStatements() {
+        SlowQueryListener listener = new SlowQueryListener(100, 0.0, () -> registry);
+        List<QueryInfo> queries = List.of(new QueryInfo("SELECT 1"));
+
+        listener.afterQuery(execution(20), queries);
+        listener.afterQuery(execution(150), queries);
+        listener.afterQuery(execution(900), queries);
+
+        assertThat(registry.get("bibliodigit.sql.slow").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should describe statements with their bind values")
+    void shouldDescribeBindValues() throws Exception {
+        QueryInfo query = new QueryInfo("UPDATE stock SET user_id = ?, status = ? WHERE id = ?");
+        query.getParametersList().add(List.of(
+            new ParameterSetOperation(PreparedStatement.class.getMethod("setNull", int.class, int.class), new Object[] {1, Types.BIGINT}),
+            new ParameterSetOperation(PreparedStatement.class.getMethod("setString", int.class, String.class), new Object[] {2, "AVAILABLE"}),
+            new ParameterSetOperation(PreparedStatement.class.getMethod("setLong", int.class, long.class), new Object[] {3, 42L})
+        ));
+
+        assertThat(SlowQueryListener.describe(List.of(query)))
+            .isEqualTo("UPDATE stock SET user_id = ?, status = ? WHERE id = ? [NULL,AVAILABLE,42]");
+    }
+
+    private ExecutionInfo execution(long elapsedMs) {
+        ExecutionInfo execution = new ExecutionInfo();
+        execution.setElapsedTime(elapsedMs);
+        execution.setSuccess(true);
+        return execution;
+    }
+}
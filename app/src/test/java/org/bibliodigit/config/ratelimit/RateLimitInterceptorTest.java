@@ -0,0 +1,142 @@
+package org.bibliodigit.config.ratelimit;
+
+import org.bibliodigit.domain.AuthSession;
+import org.bibliodigit.domain.port.UserService;
+import org.bibliodigit.support.TestData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Cada prueba usa IPs propias: los buckets viven en el contexto compartido entre pruebas.
+// La búsqueda sobre un catálogo vacío responde 204, así que se comprueba 2xx y no 200
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestData.class)
+@TestPropertySource(properties = {
+    "ratelimit.enabled=true",
+    "ratelimit.per-ip=5/1m",
+    "ratelimit.routes=/api/books/search/**=2/1m, /api/**=100/1m"
+})
+@DisplayName("Rate limiting Tests")
+class RateLimitInterceptorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TestData data;
+
+    @AfterEach
+    void tearDown() {
+        data.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should answer 429 with Retry-After once a client spends its route limit")
+    void shouldRejectOverRouteLimit() throws Exception {
+        mockMvc.perform(search("10.0.0.1")).andExpect(status().is2xxSuccessful());
+        mockMvc.perform(search("10.0.0.1")).andExpect(status().is2xxSuccessful());
+
+        mockMvc.perform(search("10.0.0.1"))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().string(HttpHeaders.RETRY_AFTER, "30"))
+            .andExpect(jsonPath("$.error").exists());
+
+        // Otra ruta y otro cliente tienen su propio bucket
+        mockMvc.perform(get("/api/books").with(from("10.0.0.1"))).andExpect(status().is2xxSuccessful());
+        mockMvc.perform(search("10.0.0.2")).andExpect(status().is2xxSuccessful());
+    }
+
+    @Test
+    @DisplayName("Should key route limits by user for validated sessions, across all of the user's tokens")
+    void shouldKeyByUser() throws Exception {
+        AuthSession ana = register("Ana");
+        AuthSession luis = register("Luis");
+
+        mockMvc.perform(search("10.0.1.1", ana)).andExpect(status().is2xxSuccessful());
+        mockMvc.perform(search("10.0.1.1", ana)).andExpect(status().is2xxSuccessful());
+        mockMvc.perform(search("10.0.1.1", ana)).andExpect(status().isTooManyRequests());
+
+        // Otra sesión del mismo usuario comparte su límite; otro usuario detrás de la misma IP no
+        AuthSession anaAgain = userService.login("ana@uni.edu", "secret");
+        mockMvc.perform(search("10.0.1.1", anaAgain)).andExpect(status().isTooManyRequests());
+        mockMvc.perform(search("10.0.1.1", luis)).andExpect(status().is2xxSuccessful());
+    }
+
+    @Test
+    @DisplayName("Should key unknown tokens by IP, so made-up tokens do not buy new buckets")
+    void shouldKeyUnknownTokensByIp() throws Exception {
+        mockMvc.perform(search("10.0.2.1").header(HttpHeaders.AUTHORIZATION, "Bearer made-up-1"))
+            .andExpect(status().is2xxSuccessful());
+        mockMvc.perform(search("10.0.2.1").header(HttpHeaders.AUTHORIZATION, "Bearer made-up-2"))
+            .andExpect(status().is2xxSuccessful());
+
+        mockMvc.perform(search("10.0.2.1").header(HttpHeaders.AUTHORIZATION, "Bearer made-up-3"))
+            .andExpect(status().isTooManyRequests());
+        mockMvc.perform(search("10.0.2.1")).andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    @DisplayName("Should cap each IP across the API however many sessions it rotates")
+    void shouldCapPerIp() throws Exception {
+        AuthSession ana = register("Ana");
+        AuthSession luis = register("Luis");
+
+        mockMvc.perform(search("10.0.3.1", ana)).andExpect(status().is2xxSuccessful());
+        mockMvc.perform(search("10.0.3.1", ana)).andExpect(status().is2xxSuccessful());
+        mockMvc.perform(search("10.0.3.1", luis)).andExpect(status().is2xxSuccessful());
+        mockMvc.perform(search("10.0.3.1", luis)).andExpect(status().is2xxSuccessful());
+        mockMvc.perform(search("10.0.3.1")).andExpect(status().is2xxSuccessful());
+
+        AuthSession fresh = register("Eva");
+        mockMvc.perform(search("10.0.3.1", fresh))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    @DisplayName("Should never limit the public health check")
+    void shouldNotLimitHealth() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            mockMvc.perform(get("/api/health").with(from("10.0.4.1"))).andExpect(status().isOk());
+        }
+    }
+
+    private AuthSession register(String name) {
+        return userService.register(name, name.toLowerCase() + "@uni.edu", "secret", data.typeUser("USER").getId());
+    }
+
+    private MockHttpServletRequestBuilder search(String ip, AuthSession session) {
+        return search(ip).header(HttpHeaders.AUTHORIZATION, "Bearer " + session.getToken());
+    }
+
+    private MockHttpServletRequestBuilder search(String ip) {
+        return get("/api/books/search/title").param("keyword", "Rayuela").with(from(ip));
+    }
+
+    private static RequestPostProcessor from(String ip) {
+        return request -> {
+            request.setRemoteAddr(ip);
+            return request;
+        };
+    }
+}
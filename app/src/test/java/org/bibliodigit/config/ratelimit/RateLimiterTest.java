@@ -0,0 +1,71 @@
+package org.bibliodigit.config.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.PathContainer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RateLimiter Tests")
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("Should allow a full burst, then one request per refill interval")
+    void shouldRefillAtConfiguredRate() {
+        TokenBucket bucket = new TokenBucket(4, SECOND, 0);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(bucket.tryAcquire(0)).isZero();
+        }
+        assertThat(bucket.tryAcquire(0)).isEqualTo(SECOND / 4);
+
+        // Un cuarto de segundo repone exactamente una ficha
+        assertThat(bucket.tryAcquire(SECOND / 4)).isZero();
+        assertThat(bucket.tryAcquire(SECOND / 4)).isPositive();
+        assertThat(bucket.isFull(SECOND / 4)).isFalse();
+        assertThat(bucket.isFull(2 * SECOND)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep one bucket per key and evict rarely used keys once full")
+    void shouldBoundKeys() {
+        RateLimiter limiter = new RateLimiter(RateLimitRule.limit("/**", "1/1s"), 100);
+
+        assertThat(limiter.tryAcquire("a", 0)).isZero();
+
+        // Más claves que sitio: cada clave nueva tiene su propia ficha, nadie hereda la de otro
+        for (int i = 0; i < 500; i++) {
+            assertThat(limiter.tryAcquire("stranger-" + i, 0)).isZero();
+            // El cliente activo sigue pidiendo durante la avalancha y conserva su bucket agotado
+            assertThat(limiter.tryAcquire("a", 0)).isPositive();
+        }
+        assertThat(limiter.size()).isLessThanOrEqualTo(100);
+
+        assertThat(limiter.purgeIdle(2 * SECOND)).isPositive();
+        assertThat(limiter.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should parse route rules in order and reject malformed ones")
+    void shouldParseRules() {
+        List<RateLimitRule> rules = RateLimitRule.parseAll("/api/auth/**=10/1m, /api/**=50/1s");
+
+        assertThat(rules).extracting(RateLimitRule::route).containsExactly("/api/auth/**", "/api/**");
+        assertThat(rules.get(0).permits()).isEqualTo(10);
+        assertThat(rules.get(0).period()).isEqualTo(Duration.ofMinutes(1));
+        assertThat(rules.get(0).matches(PathContainer.parsePath("/api/auth/login"))).isTrue();
+        assertThat(rules.get(0).matches(PathContainer.parsePath("/api/books"))).isFalse();
+
+        assertThatThrownBy(() -> RateLimitRule.parse("/api/**"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RateLimitRule.parse("/api/**=0/1s"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
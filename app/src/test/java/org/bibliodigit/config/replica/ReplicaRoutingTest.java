@@ -0,0 +1,153 @@
+package org.bibliodigit.config.replica;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Dos bases H2 en memoria: cada una guarda su propio nombre en routing_marker
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:routingprimary;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=YEAR;DEFAULT_NULL_ORDERING=HIGH",
+    "datasource.replica.enabled=true",
+    "datasource.replica.urls=jdbc:h2:mem:routingreplica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=YEAR;DB_CLOSE_DELAY=-1",
+    "datasource.replica.lag-query=SELECT lag_seconds FROM replica_status",
+    "datasource.replica.max-lag=5s",
+    "datasource.replica.sticky-window=1h",
+    "datasource.replica.check-initial-delay=3600000"
+})
+@DisplayName("Read replica routing Tests")
+class ReplicaRoutingTest {
+
+    private static final String WHO_ANSWERS = "SELECT node FROM routing_marker";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaSet replicaSet;
+
+    @Autowired
+    private ReplicaHealthIndicator healthIndicator;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaSet.getReplicas().get(0).getPool());
+
+        primary.execute("CREATE TABLE routing_marker (node VARCHAR(20))");
+        primary.update("INSERT INTO routing_marker VALUES ('primary')");
+        replica.execute("CREATE TABLE routing_marker (node VARCHAR(20))");
+        replica.update("INSERT INTO routing_marker VALUES ('replica')");
+        replica.execute("CREATE TABLE replica_status (lag_seconds DOUBLE PRECISION)");
+        replica.update("INSERT INTO replica_status VALUES (0)");
+
+        healthIndicator.check();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        primary.execute("DROP TABLE IF EXISTS routing_marker");
+        replica.execute("DROP TABLE IF EXISTS routing_marker");
+        replica.execute("DROP TABLE IF EXISTS replica_status");
+    }
+
+    @Test
+    @DisplayName("Should send read-only transactions to the replica and everything else to the primary")
+    void shouldRouteByTransactionType() {
+        assertThat(read(true)).isEqualTo("replica");
+        assertThat(read(false)).isEqualTo("primary");
+        assertThat(jdbcTemplate.queryForObject(WHO_ANSWERS, String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Should keep a user who just wrote on the primary while others read from the replica")
+    void shouldReadYourWrites() {
+        actAs(7L);
+        assertThat(read(true)).isEqualTo("replica");
+
+        new TransactionTemplate(transactionManager)
+            .executeWithoutResult(status -> jdbcTemplate.update("UPDATE routing_marker SET node = node"));
+
+        assertThat(read(true)).isEqualTo("primary");
+
+        actAs(8L);
+        assertThat(read(true)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary while the replica lags beyond max-lag")
+    void shouldFallBackOnLag() {
+        double fallbacks = fallbackReads();
+
+        replica.update("UPDATE replica_status SET lag_seconds = 30");
+        healthIndicator.check();
+
+        assertThat(read(true)).isEqualTo("primary");
+        assertThat(fallbackReads()).isEqualTo(fallbacks + 1);
+        assertThat(healthIndicator.health().getDetails()).containsEntry("usable", 0L);
+
+        replica.update("UPDATE replica_status SET lag_seconds = 1");
+        healthIndicator.check();
+
+        assertThat(read(true)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Should take a replica that fails its health check out of rotation")
+    void shouldFallBackWhenReplicaIsDown() {
+        replica.execute("DROP TABLE replica_status");
+        healthIndicator.check();
+
+        assertThat(replicaSet.getReplicas().get(0).isHealthy()).isFalse();
+        assertThat(read(true)).isEqualTo("primary");
+    }
+
+    private String read(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> jdbcTemplate.queryForObject(WHO_ANSWERS, String.class));
+    }
+
+    // Lo que deja AuthInterceptor en la petición tras autenticar
+    private void actAs(Long userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("currentUserId", userId);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private double fallbackReads() {
+        return registry.get("bibliodigit.datasource.reads").tag("route", "fallback").functionCounter().count();
+    }
+}
@@ -0,0 +1,190 @@
+package org.bibliodigit.repository;
+
+import org.bibliodigit.application.job.LoanPartitionMaintainer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Aplica las migraciones de Flyway sobre PostgreSQL real, deja que Hibernate valide
+ * el esquema y comprueba con EXPLAIN que las consultas críticas usan su índice.
+ * Se planifica con plan genérico, como ocurre con los prepared statements reutilizados.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Migration EXPLAIN plan Tests")
+class MigrationExplainPlanTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driverClassName", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("search.engine", () -> "postgres");
+        registry.add("loans.partitions.maintain", () -> "true");
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LoanPartitionMaintainer partitionMaintainer;
+
+    @Test
+    @DisplayName("Should pick a free copy through idx_stock_book_availability")
+    void copySelectionUsesIndex() {
+        assertThat(explain(
+            "SELECT s.id FROM stock s WHERE s.book_id = $1 AND s.availability = $2 " +
+            "ORDER BY s.id LIMIT 1 FOR UPDATE SKIP LOCKED",
+            "1, true"))
+            .contains("idx_stock_book_availability");
+    }
+
+    // En una tabla particionada el plan nombra el índice hijo de cada partición (loans_2024_01_user_id_idx...),
+    // así que se comprueba que no haya seq scan en vez de buscar el nombre del índice padre
+
+    @Test
+    @DisplayName("Should count open loans through an index on every partition")
+    void activeLoanCountUsesIndex() {
+        assertThat(explain(
+            "SELECT count(*) FROM loans l WHERE l.user_id = $1 AND l.actual_return_date IS NULL",
+            "1"))
+            .contains("Index")
+            .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    @DisplayName("Should list overdue loans through the partial idx_loans_overdue_open")
+    void overdueListingUsesPartialIndex() {
+        assertThat(explain(
+            "SELECT l.id FROM loans l WHERE l.status = 'OVERDUE' AND l.actual_return_date IS NULL",
+            null))
+            .contains("Index")
+            .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    @DisplayName("Should sweep the watermark window through the partial idx_loans_active_delivery")
+    void overdueSweepUsesPartialIndex() {
+        assertThat(explain(
+            "UPDATE loans SET status = 'OVERDUE' WHERE status = 'ACTIVE' AND actual_return_date IS NULL " +
+            "AND delivery_date >= $1 AND delivery_date < $2",
+            "'2024-01-01 00:00', '2024-01-02 00:00'"))
+            .contains("Index")
+            .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    @DisplayName("Should prune loan partitions outside a history date range")
+    void historyRangePrunesPartitions() {
+        YearMonth month = YearMonth.now();
+        String partition = LoanPartitionMaintainer.partitionName(month);
+
+        // Con literales la poda ocurre al planificar; con parámetros se haría al ejecutar
+        assertThat(explain(
+            "SELECT l.id FROM loans l WHERE l.user_id = $1 " +
+            "AND l.departure_date >= '" + month.atDay(1) + "' AND l.departure_date < '" + month.plusMonths(1).atDay(1) + "'",
+            "1"))
+            .contains(partition)
+            .doesNotContain(LoanPartitionMaintainer.partitionName(month.minusMonths(1)))
+            .doesNotContain(LoanPartitionMaintainer.partitionName(month.plusMonths(1)))
+            .doesNotContain("loans_default");
+    }
+
+    @Test
+    @DisplayName("Should keep monthly loan partitions created ahead of time")
+    void partitionsAreCreatedAhead() {
+        // La migración ya cubre el mes actual y los tres siguientes: no queda nada por crear
+        assertThat(partitionMaintainer.ensurePartitions(YearMonth.now())).isEmpty();
+        assertThat(partitionMaintainer.ensurePartitions(YearMonth.now().plusMonths(4)))
+            .contains(LoanPartitionMaintainer.partitionName(YearMonth.now().plusMonths(7)));
+
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM pg_inherits WHERE inhparent = 'loans'::regclass", Integer.class))
+            .isGreaterThanOrEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("Should find the head of a hold queue through the partial idx_holds_queue")
+    void holdQueueHeadUsesPartialIndex() {
+        assertThat(explain(
+            "SELECT h.id FROM holds h WHERE h.book_id = $1 AND h.status = 'WAITING' AND h.ticket = $2",
+            "1, 1"))
+            .contains("idx_holds_queue");
+    }
+
+    @Test
+    @DisplayName("Should resolve opaque tokens through the partial idx_users_auth_token")
+    void authTokenLookupUsesPartialIndex() {
+        assertThat(explain("SELECT u.id FROM users u WHERE u.auth_token = $1", "'token'"))
+            .contains("idx_users_auth_token");
+    }
+
+    @Test
+    @DisplayName("Should filter books by author, category and year through their indexes")
+    void bookFiltersUseIndexes() {
+        assertThat(explain("SELECT b.id FROM books b WHERE b.author_id = $1", "1"))
+            .contains("idx_books_author");
+        assertThat(explain("SELECT b.id FROM books b WHERE b.category_id = $1", "1"))
+            .contains("idx_books_category");
+        assertThat(explain("SELECT b.id FROM books b WHERE b.year = $1", "1967"))
+            .contains("idx_books_year");
+    }
+
+    @Test
+    @DisplayName("Should run full-text search through idx_books_title_fts")
+    void fullTextSearchUsesIndex() {
+        assertThat(explain(
+            "SELECT b.id FROM books b " +
+            "WHERE to_tsvector('simple', bibliodigit_unaccent(b.title)) @@ to_tsquery('simple', $1)",
+            "'soledad:*'"))
+            .contains("idx_books_title_fts");
+    }
+
+    private String explain(String sql, String args) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                // Tablas vacías: sin esto el planificador siempre prefiere el seq scan
+                statement.execute("SET enable_seqscan = off");
+                statement.execute("SET plan_cache_mode = force_generic_plan");
+                statement.execute("PREPARE explained AS " + sql);
+
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rs = statement.executeQuery(
+                        "EXPLAIN EXECUTE explained" + (args != null ? "(" + args + ")" : ""))) {
+                    while (rs.next()) {
+                        plan.append(rs.getString(1)).append('\n');
+                    }
+                } finally {
+                    statement.execute("DEALLOCATE explained");
+                    statement.execute("RESET ALL");
+                }
+                return plan.toString();
+            }
+        });
+    }
+}
@@ -0,0 +1,129 @@
+package org.bibliodigit.repository;
+
+import org.bibliodigit.domain.Author;
+import org.bibliodigit.domain.Book;
+import org.bibliodigit.domain.BookView;
+import org.bibliodigit.domain.Category;
+import org.bibliodigit.domain.CopyStatus;
+import org.bibliodigit.domain.Loan;
+import org.bibliodigit.domain.LoanStatus;
+import org.bibliodigit.domain.LoanView;
+import org.bibliodigit.domain.Stock;
+import org.bibliodigit.domain.User;
+import org.bibliodigit.support.TestData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+@DisplayName("Read projection Tests")
+class ProjectionQueryTest {
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TestData data;
+
+    @AfterEach
+    void tearDown() {
+        data.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should project books with author and category, keeping books without relations")
+    void shouldProjectBooks() {
+        Author author = authorRepository.save(Author.builder().name("Julio Cortázar").nationality("Argentino").build());
+        Category category = categoryRepository.save(Category.builder().name("Novela").description("Narrativa").build());
+
+        Book rayuela = bookRepository.save(Book.builder().title("Rayuela").year(1963).author(author).category(category).build());
+        Book orphan = bookRepository.save(Book.builder().title("Anónimo").year(1554).build());
+
+        assertThat(bookRepository.findViewById(rayuela.getId())).contains(new BookView(
+            rayuela.getId(), "Rayuela", 1963,
+            author.getId(), "Julio Cortázar", "Argentino",
+            category.getId(), "Novela", "Narrativa",
+            0L, 0L, 0L));
+
+        assertThat(bookRepository.findAllViews()).extracting(BookView::id)
+            .containsExactly(rayuela.getId(), orphan.getId());
+
+        assertThat(bookRepository.findViewsAfter(rayuela.getId(), Limit.of(1)))
+            .extracting(BookView::title)
+            .containsExactly("Anónimo");
+
+        assertThat(bookRepository.findViewsByAuthorId(author.getId())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should project loans with book, author, user and user type")
+    void shouldProjectLoans() {
+        Author author = authorRepository.save(Author.builder().name("Juan Rulfo").build());
+        Book book = bookRepository.save(Book.builder().title("Pedro Páramo").isbn("978-84-376-0494-7").year(1955).author(author).build());
+        User user = data.user("Marta", "TEACHER");
+
+        LocalDateTime departure = LocalDateTime.now().minusDays(10);
+        Stock copy = stockRepository.save(Stock.builder().book(book).availability(false).status(CopyStatus.ON_LOAN).build());
+        stockRepository.save(Stock.builder().book(book).build());
+
+        Loan returned = loanRepository.save(Loan.builder()
+            .stock(copy)
+            .book(book)
+            .user(user)
+            .status(LoanStatus.RETURNED)
+            .departureDate(departure.minusDays(30))
+            .deliveryDate(departure.minusDays(23))
+            .actualReturnDate(departure.minusDays(25))
+            .build());
+        Loan loan = loanRepository.save(Loan.builder()
+            .stock(copy)
+            .book(book)
+            .user(user)
+            .status(LoanStatus.OVERDUE)
+            .departureDate(departure)
+            .deliveryDate(departure.plusDays(7))
+            .build());
+
+        // La devolución anterior de la misma copia sigue en el historial
+        List<LoanView> history = loanRepository.findLoanViewsByUserId(user.getId());
+
+        assertThat(history).extracting(LoanView::id).containsExactlyInAnyOrder(loan.getId(), returned.getId());
+        LoanView view = history.stream().filter(v -> v.id().equals(loan.getId())).findFirst().orElseThrow();
+        assertThat(view.stockId()).isEqualTo(copy.getId());
+        assertThat(view.bookTitle()).isEqualTo("Pedro Páramo");
+        assertThat(view.bookIsbn()).isEqualTo("978-84-376-0494-7");
+        assertThat(view.authorName()).isEqualTo("Juan Rulfo");
+        assertThat(view.userType()).isEqualTo("TEACHER");
+        assertThat(view.daysOverdue()).isEqualTo(loan.getDaysOverdue());
+
+        assertThat(loanRepository.findLoanViewsByUserIdBetween(user.getId(), departure.minusDays(1), departure.plusDays(1)))
+            .extracting(LoanView::id)
+            .containsExactly(loan.getId());
+        assertThat(loanRepository.findOverdueLoanViews()).extracting(LoanView::id).containsExactly(loan.getId());
+        assertThat(loanRepository.findOpenLoanViewsByUserId(user.getId())).extracting(LoanView::id).containsExactly(loan.getId());
+    }
+}
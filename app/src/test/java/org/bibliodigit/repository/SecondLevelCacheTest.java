@@ -0,0 +1,118 @@
+package org.bibliodigit.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.bibliodigit.domain.Category;
+import org.bibliodigit.domain.TypeUser;
+import org.bibliodigit.domain.User;
+import org.bibliodigit.domain.port.CategoryService;
+import org.bibliodigit.domain.port.TypeUserService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Second-level cache Tests")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TypeUserService typeUserService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private TypeUserRepository typeUserRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        typeUserRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups by id and by name without SQL")
+    void shouldServeCachedLookupsWithoutSql() {
+        TypeUser teacher = typeUserService.create("teacher", "Docente");
+        Category essay = categoryService.create("Ensayo", "No ficción");
+
+        // Primera lectura: llena las regiones de entidad y de consultas
+        typeUserService.findById(teacher.getId());
+        typeUserService.findByType("TEACHER");
+        categoryService.findByName("Ensayo");
+
+        statistics.clear();
+
+        assertThat(typeUserService.findById(teacher.getId())).isPresent();
+        assertThat(typeUserService.findByType("TEACHER")).isPresent();
+        assertThat(categoryService.findById(essay.getId())).isPresent();
+        assertThat(categoryService.findByName("Ensayo")).isPresent();
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should load the EAGER user type from the cache instead of a second select")
+    void shouldLoadUserTypeFromCache() {
+        TypeUser student = typeUserService.create("student", "Estudiante");
+        userRepository.save(User.builder()
+            .name("Lucía")
+            .email("lucia@uni.edu")
+            .password("secret")
+            .typeUser(student)
+            .isActive(true)
+            .build());
+
+        typeUserService.findById(student.getId());
+        statistics.clear();
+
+        // Consulta JPQL sin fetch (como findByIdForUpdate en cada préstamo): el EAGER se resuelve en la caché
+        User user = userRepository.findByIsActive(true).get(0);
+
+        assertThat(user.getTypeUser().getType()).isEqualTo("STUDENT");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should see updates made through the service after eviction")
+    void shouldEvictOnUpdate() {
+        Category category = categoryService.create("Poesía", "Verso");
+        categoryService.findById(category.getId());
+        categoryService.findByName("Poesía");
+
+        categoryService.update(category.getId(), Category.builder().name("Lírica").description("Verso").build());
+
+        assertThat(categoryService.findById(category.getId()))
+            .hasValueSatisfying(updated -> assertThat(updated.getName()).isEqualTo("Lírica"));
+        assertThat(categoryService.findByName("Poesía")).isEmpty();
+        assertThat(categoryService.findByName("Lírica")).isPresent();
+    }
+}
@@ -0,0 +1,101 @@
+package org.bibliodigit.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.bibliodigit.domain.TypeUser;
+import org.bibliodigit.domain.TypeUserView;
+import org.bibliodigit.domain.User;
+import org.bibliodigit.domain.port.TypeUserService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Type user count Tests")
+class TypeUserCountQueryTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TypeUserService typeUserService;
+
+    @Autowired
+    private TypeUserRepository typeUserRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        typeUserRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should list type users with their counts in one query without loading users")
+    void shouldCountUsersWithOneQuery() {
+        TypeUser student = typeUserService.create("student", "Estudiante");
+        TypeUser teacher = typeUserService.create("teacher", "Docente");
+        typeUserService.create("external", "Externo");
+        saveUsers(student, 200);
+        saveUsers(teacher, 3);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<TypeUserView> views = typeUserService.findAllWithUserCount();
+
+        assertThat(views).extracting(TypeUserView::type, TypeUserView::userCount)
+            .containsExactly(
+                tuple("STUDENT", 200L),
+                tuple("TEACHER", 3L),
+                tuple("EXTERNAL", 0L));
+
+        // Misma cantidad de sentencias con 200 usuarios que con ninguno, y ninguna entidad en memoria
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+
+        assertThat(typeUserService.findViewByType("teacher"))
+            .hasValueSatisfying(view -> assertThat(view.userCount()).isEqualTo(3L));
+    }
+
+    @Test
+    @DisplayName("Should refuse to delete a type user that still has users")
+    void shouldRefuseDeleteWithUsers() {
+        TypeUser teacher = typeUserService.create("teacher", "Docente");
+        saveUsers(teacher, 1);
+
+        assertThatThrownBy(() -> typeUserService.deleteById(teacher.getId()))
+            .hasMessageContaining("It has 1 associated users");
+    }
+
+    private void saveUsers(TypeUser typeUser, int count) {
+        List<User> users = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            users.add(User.builder()
+                .name("Usuario " + i)
+                .email(typeUser.getType().toLowerCase() + i + "@uni.edu")
+                .password("secret")
+                .typeUser(typeUser)
+                .isActive(true)
+                .build());
+        }
+
+        userRepository.saveAll(users);
+    }
+}
@@ -0,0 +1,86 @@
+package org.bibliodigit.security;
+
+import org.bibliodigit.util.PasswordUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PasswordHasher Tests")
+class PasswordHasherTest {
+
+    private PasswordHasher hasher;
+
+    @AfterEach
+    void tearDown() {
+        if (hasher != null) {
+            hasher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should hash with a per-user salt and verify")
+    void shouldHashWithSaltAndVerify() {
+        hasher = new PasswordHasher(1_000, 1, 4, 5_000);
+
+        String first = hasher.hash("secreto");
+        String second = hasher.hash("secreto");
+
+        assertThat(first).startsWith("pbkdf2$1000$").isNotEqualTo(second);
+        assertThat(hasher.verify("secreto", first)).isTrue();
+        assertThat(hasher.verify("otro", first)).isFalse();
+        assertThat(hasher.needsRehash(first)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should accept legacy SHA-256 hashes and flag them for rehash")
+    void shouldAcceptLegacyHashes() throws Exception {
+        hasher = new PasswordHasher(1_000, 1, 4, 5_000);
+
+        String legacy = Base64.getEncoder().encodeToString(
+            MessageDigest.getInstance("SHA-256").digest("secreto".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(hasher.verify("secreto", legacy)).isTrue();
+        assertThat(hasher.needsRehash(legacy)).isTrue();
+        assertThat(hasher.needsRehash(PasswordUtil.hashPassword("secreto", 500))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject work when the queue is full")
+    void shouldRejectWhenSaturated() throws Exception {
+        // Un hilo, cola de uno y hashes caros: el resto de la ráfaga debe rechazarse
+        hasher = new PasswordHasher(2_000_000, 1, 1, 30_000);
+
+        int burst = 8;
+        ExecutorService callers = Executors.newFixedThreadPool(burst);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger rejected = new AtomicInteger();
+        for (int i = 0; i < burst; i++) {
+            callers.submit(() -> {
+                start.await();
+                try {
+                    hasher.hash("secreto");
+                } catch (PasswordHashingRejectedException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        callers.shutdown();
+        assertThat(callers.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(rejected.get()).isGreaterThanOrEqualTo(burst - 2);
+    }
+}
@@ -0,0 +1,128 @@
+package org.bibliodigit.security;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.bibliodigit.domain.AuthPrincipal;
+import org.bibliodigit.domain.AuthSession;
+import org.bibliodigit.domain.User;
+import org.bibliodigit.domain.port.UserService;
+import org.bibliodigit.support.TestData;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestData.class)
+@DisplayName("Session authentication Tests")
+class SessionAuthenticationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TokenSessionCache sessionCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TestData data;
+
+    private Statistics statistics;
+    private AuthSession session;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        session = userService.register("Lucía", "lucia@uni.edu", "secret", data.typeUser("USER").getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        data.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should authenticate repeated requests from the session cache without SQL")
+    void shouldAuthenticateWithoutSql() throws Exception {
+        statistics.clear();
+
+        // USER contra un endpoint de ADMIN: el interceptor responde antes del controlador,
+        // así que cualquier sentencia vendría de la autenticación
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(get("/api/users").header(HttpHeaders.AUTHORIZATION, "Bearer " + session.getToken()))
+                .andExpect(status().isForbidden());
+        }
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reload the principal once after a committed role change")
+    void shouldReloadAfterRoleChange() {
+        User user = session.getUser();
+        userService.update(user.getId(), User.builder()
+            .name(user.getName())
+            .email(user.getEmail())
+            .typeUser(data.typeUser("ADMIN"))
+            .build());
+
+        statistics.clear();
+
+        AuthPrincipal reloaded = userService.authenticate(session.getToken()).orElseThrow();
+        assertThat(reloaded.getRole()).isEqualTo("ADMIN");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+
+        assertThat(userService.authenticate(session.getToken())).isPresent();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(sessionCache.get(session.getToken())).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should not keep a token re-cached by a request racing the logout")
+    void shouldDropTokenAuthenticatedDuringLogout() {
+        // Caché fría: la petición concurrente tiene que leer la BD, como tras un reinicio
+        sessionCache.invalidate(session.getToken());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            userService.logout(session.getToken());
+
+            // Otro hilo, antes del commit: aún ve auth_token en la BD y cachea la sesión
+            Optional<AuthPrincipal> racing = CompletableFuture
+                .supplyAsync(() -> userService.authenticate(session.getToken()))
+                .join();
+            assertThat(racing).isPresent();
+        });
+
+        assertThat(sessionCache.get(session.getToken())).isEmpty();
+        assertThat(userService.authenticate(session.getToken())).isEmpty();
+    }
+}
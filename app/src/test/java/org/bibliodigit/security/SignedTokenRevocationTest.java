@@ -0,0 +1,111 @@
+package org.bibliodigit.security;
+
+import org.bibliodigit.domain.AuthSession;
+import org.bibliodigit.domain.User;
+import org.bibliodigit.domain.port.UserService;
+import org.bibliodigit.repository.UserRepository;
+import org.bibliodigit.support.TestData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+@TestPropertySource(properties = {
+    "auth.token.mode=signed",
+    "auth.token.secret=test-secret-with-at-least-32-bytes!!"
+})
+@DisplayName("Signed token revocation Tests")
+class SignedTokenRevocationTest {
+
+    private static final String SECRET = "test-secret-with-at-least-32-bytes!!";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestData data;
+
+    @Autowired
+    private TokenStrategy tokenStrategy;
+
+    private AuthSession session;
+
+    @BeforeEach
+    void setUp() {
+        session = userService.register("Tomás", "tomas@uni.edu", "secret", data.typeUser("USER").getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        data.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should keep tokens valid when only the profile changes")
+    void shouldKeepTokensOnProfileChange() {
+        User user = session.getUser();
+
+        userService.update(user.getId(), User.builder()
+            .name("Tomás Eloy")
+            .email(user.getEmail())
+            .build());
+
+        assertThat(tokenStrategy).isInstanceOf(SignedTokenStrategy.class);
+        assertThat(userService.authenticate(session.getToken())).isPresent();
+        assertThat(userRepository.findTokenVersionById(user.getId())).contains(0L);
+    }
+
+    @Test
+    @DisplayName("Should revoke tokens on role change, across restarts")
+    void shouldRevokeOnRoleChange() {
+        User user = session.getUser();
+
+        userService.update(user.getId(), User.builder()
+            .name(user.getName())
+            .email(user.getEmail())
+            .typeUser(data.typeUser("ADMIN"))
+            .build());
+
+        assertThat(userService.authenticate(session.getToken())).isEmpty();
+
+        // Instancia nueva, sin nada en memoria: la revocación está en la BD
+        assertThat(restarted().authenticate(session.getToken())).isEmpty();
+
+        AuthSession again = userService.login("tomas@uni.edu", "secret");
+        assertThat(userService.authenticate(again.getToken()).orElseThrow().getRole()).isEqualTo("ADMIN");
+        assertThat(restarted().authenticate(again.getToken())).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should revoke tokens on logout and on deactivation")
+    void shouldRevokeOnLogoutAndDeactivation() {
+        userService.logout(session.getToken());
+        assertThat(userService.authenticate(session.getToken())).isEmpty();
+
+        AuthSession again = userService.login("tomas@uni.edu", "secret");
+        userService.toggleActiveStatus(again.getUser().getId());
+
+        assertThat(userService.authenticate(again.getToken())).isEmpty();
+        assertThat(restarted().authenticate(again.getToken())).isEmpty();
+    }
+
+    private SignedTokenStrategy restarted() {
+        return new SignedTokenStrategy(SECRET, 86_400_000L,
+            new TokenVersions(userRepository, Duration.ofMinutes(1), 100));
+    }
+}
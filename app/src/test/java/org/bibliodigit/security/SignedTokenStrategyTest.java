@@ -0,0 +1,115 @@
+package org.bibliodigit.security;
+
+import org.bibliodigit.domain.AuthPrincipal;
+import org.bibliodigit.domain.TypeUser;
+import org.bibliodigit.domain.User;
+import org.bibliodigit.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SignedTokenStrategy Tests")
+class SignedTokenStrategyTest {
+
+    private static final String SECRET = "test-secret-with-at-least-32-bytes!!";
+    private static final long TTL_MS = 60_000;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+            .id(7L)
+            .email("ana@uni.edu")
+            .typeUser(TypeUser.builder().type("STUDENT").build())
+            .tokenVersion(3L)
+            .build();
+    }
+
+    @Test
+    @DisplayName("Should authenticate a freshly signed token with its user and role")
+    void shouldAuthenticateSignedToken() {
+        when(userRepository.findTokenVersionById(7L)).thenReturn(Optional.of(3L));
+        SignedTokenStrategy strategy = strategy(TTL_MS);
+
+        AuthPrincipal principal = strategy.authenticate(strategy.issue(user)).orElseThrow();
+
+        assertThat(principal.getUserId()).isEqualTo(7L);
+        assertThat(principal.getRole()).isEqualTo("STUDENT");
+        assertThat(principal.isActive()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject an expired token without looking up the user")
+    void shouldRejectExpiredToken() {
+        SignedTokenStrategy strategy = strategy(-1);
+
+        assertThat(strategy.authenticate(strategy.issue(user))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject tampered payloads, foreign signatures and garbage")
+    void shouldRejectTamperedTokens() {
+        SignedTokenStrategy strategy = strategy(TTL_MS);
+        String token = strategy.issue(user);
+        int dot = token.lastIndexOf('.');
+
+        String payload = new String(Base64.getUrlDecoder().decode(token.substring(0, dot)), StandardCharsets.UTF_8);
+        String promoted = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(payload.replace("STUDENT", "ADMIN").getBytes(StandardCharsets.UTF_8));
+
+        SignedTokenStrategy otherKey = new SignedTokenStrategy(
+            "another-secret-with-at-least-32-bytes", TTL_MS, versions());
+
+        assertThat(strategy.authenticate(promoted + token.substring(dot))).isEmpty();
+        assertThat(strategy.authenticate(otherKey.issue(user))).isEmpty();
+        assertThat(strategy.authenticate(token.substring(0, dot))).isEmpty();
+        assertThat(strategy.authenticate("not-a-token")).isEmpty();
+        assertThat(strategy.authenticate(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject tokens signed with an older version or for a deleted user")
+    void shouldRejectRevokedTokens() {
+        SignedTokenStrategy strategy = strategy(TTL_MS);
+        String token = strategy.issue(user);
+
+        // Otra instancia (o esta tras reiniciar) solo sabe lo que hay en users.token_version
+        when(userRepository.findTokenVersionById(7L)).thenReturn(Optional.of(4L));
+        assertThat(strategy.authenticate(token)).isEmpty();
+
+        when(userRepository.findTokenVersionById(7L)).thenReturn(Optional.empty());
+        assertThat(strategy(TTL_MS).authenticate(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should refuse secrets shorter than 32 bytes")
+    void shouldRefuseShortSecret() {
+        assertThatThrownBy(() -> new SignedTokenStrategy("short", TTL_MS, versions()))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private SignedTokenStrategy strategy(long ttlMs) {
+        return new SignedTokenStrategy(SECRET, ttlMs, versions());
+    }
+
+    private TokenVersions versions() {
+        return new TokenVersions(userRepository, Duration.ofMinutes(1), 100);
+    }
+}
@@ -0,0 +1,109 @@
+package org.bibliodigit.security;
+
+import org.bibliodigit.domain.TypeUser;
+import org.bibliodigit.domain.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TokenSessionCache Tests")
+class TokenSessionCacheTest {
+
+    private static final long TTL_MS = 60_000;
+
+    private TokenSessionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TokenSessionCache(TTL_MS, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should stay within the maximum size instead of rejecting new sessions")
+    void shouldStayBounded() {
+        for (long id = 1; id <= 1000; id++) {
+            cache.put("token-" + id, user(id, LocalDateTime.now()));
+        }
+        cache.purgeExpired();
+
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Should drop a session once its token expires")
+    void shouldExpireWithToken() {
+        cache.put("expired", user(1L, LocalDateTime.now().minusSeconds(61)));
+        cache.put("fresh", user(2L, LocalDateTime.now()));
+
+        assertThat(cache.get("expired")).isEmpty();
+        assertThat(cache.get("fresh")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should invalidate a user's sessions only after the transaction commits")
+    void shouldInvalidateUserAfterCommit() {
+        cache.put("first", user(1L, LocalDateTime.now()));
+        cache.put("second", user(1L, LocalDateTime.now()));
+        cache.put("other", user(2L, LocalDateTime.now()));
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.invalidateUser(1L);
+
+        assertThat(cache.get("first")).isPresent();
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+
+        assertThat(cache.get("first")).isEmpty();
+        assertThat(cache.get("second")).isEmpty();
+        assertThat(cache.get("other")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should keep a user's sessions when the transaction rolls back")
+    void shouldKeepSessionsOnRollback() {
+        cache.put("first", user(1L, LocalDateTime.now()));
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.invalidateUser(1L);
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+            TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(cache.get("first")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should replace the user's previous sessions when a new one starts")
+    void shouldReplacePreviousSessions() {
+        cache.put("old", user(1L, LocalDateTime.now()));
+
+        cache.start("new", user(1L, LocalDateTime.now()));
+
+        assertThat(cache.get("old")).isEmpty();
+        assertThat(cache.get("new")).isPresent();
+    }
+
+    private User user(Long id, LocalDateTime tokenCreatedAt) {
+        return User.builder()
+            .id(id)
+            .email("user" + id + "@uni.edu")
+            .typeUser(TypeUser.builder().type("STUDENT").build())
+            .isActive(true)
+            .tokenCreatedAt(tokenCreatedAt)
+            .build();
+    }
+}
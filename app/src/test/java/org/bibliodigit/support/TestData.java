@@ -0,0 +1,106 @@
+package org.bibliodigit.support;
+
+import lombok.RequiredArgsConstructor;
+import org.bibliodigit.domain.Book;
+import org.bibliodigit.domain.Stock;
+import org.bibliodigit.domain.TypeUser;
+import org.bibliodigit.domain.User;
+import org.bibliodigit.repository.AuthorRepository;
+import org.bibliodigit.repository.BookAvailabilityRepository;
+import org.bibliodigit.repository.BookRepository;
+import org.bibliodigit.repository.CategoryRepository;
+import org.bibliodigit.repository.HoldQueueRepository;
+import org.bibliodigit.repository.HoldRepository;
+import org.bibliodigit.repository.ImportCheckpointRepository;
+import org.bibliodigit.repository.JobWatermarkRepository;
+import org.bibliodigit.repository.LoanRepository;
+import org.bibliodigit.repository.StockRepository;
+import org.bibliodigit.repository.TypeUserRepository;
+import org.bibliodigit.repository.UserRepository;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Altas mínimas para los tests de integración y limpieza de todas las tablas en orden de claves foráneas.
+// Se añade al contexto con @Import(TestData.class)
+@TestComponent
+@RequiredArgsConstructor
+public class TestData {
+
+    private final HoldRepository holdRepository;
+    private final HoldQueueRepository queueRepository;
+    private final ImportCheckpointRepository checkpointRepository;
+    private final JobWatermarkRepository watermarkRepository;
+    private final BookAvailabilityRepository availabilityRepository;
+    private final LoanRepository loanRepository;
+    private final StockRepository stockRepository;
+    private final BookRepository bookRepository;
+    private final AuthorRepository authorRepository;
+    private final CategoryRepository categoryRepository;
+    private final UserRepository userRepository;
+    private final TypeUserRepository typeUserRepository;
+
+    public TypeUser typeUser(String type) {
+        return typeUserRepository.findByType(type)
+            .orElseGet(() -> typeUserRepository.save(TypeUser.builder().type(type).description(type).build()));
+    }
+
+    // El correo se deriva del nombre: dos usuarios del mismo test necesitan nombres distintos
+    public User user(String name, String type) {
+        return userRepository.save(User.builder()
+            .name(name)
+            .email(name.toLowerCase() + "@uni.edu")
+            .password("secret")
+            .typeUser(typeUser(type))
+            .isActive(true)
+            .build());
+    }
+
+    public List<User> users(String type, int count) {
+        TypeUser typeUser = typeUser(type);
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            users.add(User.builder()
+                .name("User " + i)
+                .email("user" + i + "@" + type.toLowerCase() + ".edu")
+                .password("secret")
+                .typeUser(typeUser)
+                .isActive(true)
+                .build());
+        }
+        return userRepository.saveAll(users);
+    }
+
+    public Book book(String title) {
+        return bookRepository.save(Book.builder().title(title).year(1963).build());
+    }
+
+    public Book bookWithCopies(String title, int copies) {
+        Book book = book(title);
+
+        List<Stock> stock = new ArrayList<>();
+        for (int i = 0; i < copies; i++) {
+            stock.add(Stock.builder().book(book).build());
+        }
+        stockRepository.saveAll(stock);
+
+        return book;
+    }
+
+    public void deleteAll() {
+        holdRepository.deleteAll();
+        queueRepository.deleteAll();
+        checkpointRepository.deleteAll();
+        watermarkRepository.deleteAll();
+        availabilityRepository.deleteAll();
+        loanRepository.deleteAll();
+        stockRepository.deleteAll();
+        bookRepository.deleteAll();
+        authorRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.deleteAll();
+        typeUserRepository.deleteAll();
+    }
+}
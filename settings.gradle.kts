@@ -17,12 +17,6 @@ dependencyResolutionManagement {
     repositories {
         mavenCentral()
     }
-    
-    versionCatalogs {
-        create("libs") {
-            from(files("gradle/libs.versions.toml"))
-        }
-    }
 }
 
 rootProject.name = "bibliodigit"